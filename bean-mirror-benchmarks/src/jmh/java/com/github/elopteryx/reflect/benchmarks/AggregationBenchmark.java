@@ -0,0 +1,78 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.Aggregation;
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares grouping with boxed getter functions and stream collectors
+ * to the parallel aggregation.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class AggregationBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private List<BenchmarkTarget> targets;
+
+    private Function<BenchmarkTarget, String> keyGetter;
+
+    private Function<BenchmarkTarget, Long> valueGetter;
+
+    private Aggregation<BenchmarkTarget> aggregation;
+
+    @Setup
+    public void setup() {
+        final var random = new Random(42);
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        targets = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            final var target = new BenchmarkTarget(String.valueOf(random.nextInt(100)));
+            mirror.createSetter("longValue", long.class).accept(target, (long) random.nextInt(1000));
+            targets.add(target);
+        }
+        keyGetter = mirror.createGetter("stringValue", String.class);
+        valueGetter = mirror.createGetter("longValue", long.class);
+        aggregation = mirror.aggregate(targets).groupBy("stringValue").sum("longValue").max("doubleValue");
+    }
+
+    @Benchmark
+    public Object boxedCollectors() {
+        return targets.stream().collect(Collectors.groupingBy(keyGetter, Collectors.summingLong(valueGetter::apply)));
+    }
+
+    @Benchmark
+    public Object parallelBoxedCollectors() {
+        return targets.parallelStream().collect(Collectors.groupingByConcurrent(keyGetter, Collectors.summingLong(valueGetter::apply)));
+    }
+
+    @Benchmark
+    public Object aggregation() {
+        return aggregation.execute();
+    }
+
+}
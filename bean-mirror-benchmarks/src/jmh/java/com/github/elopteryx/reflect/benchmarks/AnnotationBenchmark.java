@@ -0,0 +1,61 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the annotated fields of an object by scanning
+ * the class with reflection to the cached annotated members.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AnnotationBenchmark {
+
+    @SuppressWarnings({"unused", "DeprecatedIsStillUsed"})
+    public static class Target {
+        @Deprecated
+        public int first = 1;
+        public int second = 2;
+        @Deprecated
+        public int third = 3;
+        public int fourth = 4;
+    }
+
+    private final Target target = new Target();
+
+    @Benchmark
+    public int reflection() throws IllegalAccessException {
+        var sum = 0;
+        for (final var field : Target.class.getDeclaredFields()) {
+            if (field.getAnnotation(Deprecated.class) != null) {
+                sum += (int) field.get(target);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int annotated() {
+        var sum = 0;
+        for (final var member : BeanMirror.of(Target.class, MethodHandles.lookup()).annotated(Deprecated.class)) {
+            sum += (int) member.get(target);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.ClassMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch operations of the class mirror with the object
+ * mirrors, used for each element in a loop.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<BenchmarkTarget> targets;
+
+    private ClassMirror<BenchmarkTarget> mirror;
+
+    @Setup
+    public void setup() {
+        targets = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            targets.add(new BenchmarkTarget());
+        }
+        mirror = BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+    }
+
+    @Benchmark
+    public Object invokeAll() {
+        return mirror.invokeAll(targets, "intEcho", 42);
+    }
+
+    @Benchmark
+    public int runEach() {
+        var count = 0;
+        for (final var target : targets) {
+            BeanMirror.of(target, LOOKUP).run("intEcho", 42);
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Object setAll() {
+        return mirror.setAll(targets, "intValue", 42);
+    }
+
+    @Benchmark
+    public int setEach() {
+        var count = 0;
+        for (final var target : targets) {
+            BeanMirror.of(target, LOOKUP).set("intValue", 42);
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+/**
+ * The class accessed by the benchmarks. Has an instance field,
+ * a static field and methods for each of the benchmarked types.
+ */
+@SuppressWarnings("unused")
+public class BenchmarkTarget {
+
+    private int intValue = 42;
+    private long longValue = 42L;
+    private double doubleValue = 42.0;
+    private Integer integerValue = 42;
+    private String stringValue = "42";
+
+    private static int staticIntValue = 42;
+    private static long staticLongValue = 42L;
+    private static double staticDoubleValue = 42.0;
+    private static Integer staticIntegerValue = 42;
+    private static String staticStringValue = "42";
+
+    public BenchmarkTarget() {}
+
+    public BenchmarkTarget(final String stringValue) {
+        this.stringValue = stringValue;
+    }
+
+    // INSTANCE METHODS
+
+    public void run() {}
+
+    public int intMethod() {
+        return intValue;
+    }
+
+    public long longMethod() {
+        return longValue;
+    }
+
+    public double doubleMethod() {
+        return doubleValue;
+    }
+
+    public Integer integerMethod() {
+        return integerValue;
+    }
+
+    public String stringMethod() {
+        return stringValue;
+    }
+
+    public int intEcho(final int value) {
+        return value;
+    }
+
+    public long longEcho(final long value) {
+        return value;
+    }
+
+    public double doubleEcho(final double value) {
+        return value;
+    }
+
+    public Integer integerEcho(final Integer value) {
+        return value;
+    }
+
+    public String stringEcho(final String value) {
+        return value;
+    }
+
+    // STATIC METHODS
+
+    public static void runStatic() {}
+
+    public static int staticIntMethod() {
+        return staticIntValue;
+    }
+
+    public static long staticLongMethod() {
+        return staticLongValue;
+    }
+
+    public static double staticDoubleMethod() {
+        return staticDoubleValue;
+    }
+
+    public static Integer staticIntegerMethod() {
+        return staticIntegerValue;
+    }
+
+    public static String staticStringMethod() {
+        return staticStringValue;
+    }
+
+    public static int staticIntEcho(final int value) {
+        return value;
+    }
+
+    public static long staticLongEcho(final long value) {
+        return value;
+    }
+
+    public static double staticDoubleEcho(final double value) {
+        return value;
+    }
+
+    public static Integer staticIntegerEcho(final Integer value) {
+        return value;
+    }
+
+    public static String staticStringEcho(final String value) {
+        return value;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a field and calling a method through the object
+ * mirror to the targets linked by the bootstrap methods.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BootstrapBenchmark {
+
+    private static final MethodHandle GETTER = BeanMirror.bootstrapGetter(MethodHandles.lookup(), "intValue",
+            methodType(int.class, BenchmarkTarget.class)).dynamicInvoker();
+
+    private static final MethodHandle INVOKER = BeanMirror.bootstrapInvoke(MethodHandles.lookup(), "intMethod",
+            methodType(int.class, BenchmarkTarget.class)).dynamicInvoker();
+
+    private final BenchmarkTarget target = new BenchmarkTarget();
+
+    @Benchmark
+    public int mirrorGet() {
+        return BeanMirror.of(target, MethodHandles.lookup()).get("intValue", int.class);
+    }
+
+    @Benchmark
+    public int bootstrapGet() throws Throwable {
+        return (int) GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public int mirrorCall() {
+        return BeanMirror.of(target, MethodHandles.lookup()).call(int.class, "intMethod").get();
+    }
+
+    @Benchmark
+    public int bootstrapCall() throws Throwable {
+        return (int) INVOKER.invokeExact(target);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.MirrorCallSite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the same field from receivers of several
+ * classes through the object mirror and through a call site.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CallSiteBenchmark {
+
+    private static final MirrorCallSite<Long> SITE = BeanMirror.callSite("id", Long.class, MethodHandles.lookup());
+
+    private static class First {
+        private Long id = 1L;
+    }
+
+    private static class Second {
+        private Long id = 2L;
+    }
+
+    private static class Third {
+        private Long id = 3L;
+    }
+
+    private final Object[] receivers = {new First(), new Second(), new Third()};
+
+    @Benchmark
+    public long mirror() {
+        var sum = 0L;
+        for (final var receiver : receivers) {
+            sum += BeanMirror.of(receiver, MethodHandles.lookup()).get("id", Long.class);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long callSite() {
+        var sum = 0L;
+        for (final var receiver : receivers) {
+            sum += SITE.get(receiver);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.ClassMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for each entry point of the class mirror.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ClassMirrorBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private ClassMirror<BenchmarkTarget> mirror;
+
+    @Setup
+    public void setup() {
+        mirror = BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+    }
+
+    @State(Scope.Thread)
+    public static class AllTypes {
+
+        @Param({"INT", "LONG", "DOUBLE", "INTEGER", "STRING"})
+        public MemberType type;
+
+        public ClassMirror<BenchmarkTarget> mirror;
+
+        @Setup
+        public void setup() {
+            mirror = BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+        }
+    }
+
+    /**
+     * Switching to a field and calling a method only work with
+     * reference types, as they use the class of the value.
+     */
+    @State(Scope.Thread)
+    public static class ReferenceTypes {
+
+        @Param({"INTEGER", "STRING"})
+        public MemberType type;
+
+        public ClassMirror<BenchmarkTarget> mirror;
+
+        @Setup
+        public void setup() {
+            mirror = BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+        }
+    }
+
+    /**
+     * The constant suppliers are created once, their values are only
+     * read by the benchmark.
+     */
+    @State(Scope.Thread)
+    public static class Constants {
+
+        @Param({"INT", "LONG", "DOUBLE", "INTEGER", "STRING"})
+        public MemberType type;
+
+        public Supplier<?> constant;
+
+        @Setup
+        public void setup() {
+            constant = BeanMirror.of(BenchmarkTarget.class, LOOKUP).constant(type.staticField(), type.type());
+        }
+    }
+
+    // CONSTRUCTOR
+
+    @Benchmark
+    public Object of() {
+        return BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+    }
+
+    @Benchmark
+    public Object create() {
+        return mirror.create();
+    }
+
+    @Benchmark
+    public Object createWithArgument() {
+        return mirror.create("42");
+    }
+
+    // FIELD
+
+    @Benchmark
+    public Object getStatic(final AllTypes state) {
+        return state.mirror.getStatic(state.type.staticField(), state.type.type());
+    }
+
+    @Benchmark
+    public Object setStatic(final AllTypes state) {
+        return state.mirror.setStatic(state.type.staticField(), state.type.value());
+    }
+
+    @Benchmark
+    public Object constant(final Constants state) {
+        return state.constant.get();
+    }
+
+    @Benchmark
+    public Object staticField(final ReferenceTypes state) {
+        return state.mirror.staticField(state.type.staticField(), state.type.type());
+    }
+
+    // FUNCTIONAL
+
+    @Benchmark
+    public Object createGetter(final AllTypes state) {
+        return state.mirror.createGetter(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createSetter(final AllTypes state) {
+        return state.mirror.createSetter(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createStaticGetter(final AllTypes state) {
+        return state.mirror.createStaticGetter(state.type.staticField(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createStaticSetter(final AllTypes state) {
+        return state.mirror.createStaticSetter(state.type.staticField(), state.type.type());
+    }
+
+    // METHOD
+
+    @Benchmark
+    public Object runStatic() {
+        return mirror.runStatic("runStatic");
+    }
+
+    @Benchmark
+    public Object callStatic(final ReferenceTypes state) {
+        return state.mirror.callStatic(state.type.type(), state.type.staticMethod());
+    }
+
+    @Benchmark
+    public Object callStaticWithArgument(final ReferenceTypes state) {
+        return state.mirror.callStatic(state.type.type(), state.type.staticEcho(), state.type.value());
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.benchmarks.generated.LargeTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first result in a fresh JVM, which includes
+ * the private lookup, the handle resolution, spinning the lambda forms
+ * and scanning the members. The target is generated at build time with
+ * hundreds of members, the benchmarks use the last one of them.
+ * Every fork measures a single invocation.
+ */
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(50)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ColdStartBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private LargeTarget target;
+
+    private String field;
+
+    private String method;
+
+    private String echo;
+
+    @Setup
+    public void setup() {
+        final var last = LargeTarget.MEMBERS - 1;
+        target = new LargeTarget();
+        field = "field" + last;
+        method = "method" + last;
+        echo = "echo" + last;
+    }
+
+    @Benchmark
+    public Object get() {
+        return BeanMirror.of(target, LOOKUP).get(field, int.class);
+    }
+
+    @Benchmark
+    public Object call() {
+        return BeanMirror.of(target, LOOKUP).call(int.class, method);
+    }
+
+    @Benchmark
+    public Object callSimilar() {
+        return BeanMirror.of(target, LOOKUP).call(int.class, echo, 42);
+    }
+
+    @Benchmark
+    public Object create() {
+        return BeanMirror.of(LargeTarget.class, LOOKUP).create();
+    }
+
+    @Benchmark
+    public Object createWithArgument() {
+        return BeanMirror.of(LargeTarget.class, LOOKUP).create("42");
+    }
+
+    @Benchmark
+    public Object createGetter() {
+        return BeanMirror.of(LargeTarget.class, LOOKUP).createGetter(field, int.class);
+    }
+
+}
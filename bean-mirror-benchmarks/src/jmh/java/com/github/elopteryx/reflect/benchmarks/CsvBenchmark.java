@@ -0,0 +1,97 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.CsvBinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.invoke.MethodHandles;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Compares reading lines as strings, splitting them and calling setters
+ * with parsed values, to the binder parsing the bytes directly.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CsvBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private byte[] content;
+
+    private BiConsumer<BenchmarkTarget, Integer> intSetter;
+
+    private BiConsumer<BenchmarkTarget, Long> longSetter;
+
+    private BiConsumer<BenchmarkTarget, Double> doubleSetter;
+
+    private BiConsumer<BenchmarkTarget, String> stringSetter;
+
+    private CsvBinder<BenchmarkTarget> binder;
+
+    @Setup
+    public void setup() {
+        final var random = new Random(42);
+        final var builder = new StringBuilder("intValue,longValue,doubleValue,stringValue\n");
+        for (var i = 0; i < rows; i++) {
+            builder.append(random.nextInt()).append(',')
+                    .append(random.nextLong()).append(',')
+                    .append(random.nextInt(100_000) / 100.0).append(',')
+                    .append("name").append(i).append('\n');
+        }
+        content = builder.toString().getBytes(StandardCharsets.UTF_8);
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        intSetter = mirror.createSetter("intValue", int.class);
+        longSetter = mirror.createSetter("longValue", long.class);
+        doubleSetter = mirror.createSetter("doubleValue", double.class);
+        stringSetter = mirror.createSetter("stringValue", String.class);
+        binder = mirror.csv();
+    }
+
+    @Benchmark
+    public void splitLines(final Blackhole blackhole) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final var values = line.split(",");
+                final var target = new BenchmarkTarget();
+                intSetter.accept(target, Integer.parseInt(values[0]));
+                longSetter.accept(target, Long.parseLong(values[1]));
+                doubleSetter.accept(target, Double.parseDouble(values[2]));
+                stringSetter.accept(target, values[3]);
+                blackhole.consume(target);
+            }
+        }
+    }
+
+    @Benchmark
+    public long binder(final Blackhole blackhole) {
+        return binder.read(Channels.newChannel(new ByteArrayInputStream(content)), blackhole::consume);
+    }
+
+}
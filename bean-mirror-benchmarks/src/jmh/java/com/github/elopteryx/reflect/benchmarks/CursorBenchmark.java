@@ -0,0 +1,71 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.CursorMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares walking a list with a new object mirror per element
+ * to rebinding a single cursor.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CursorBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    @Param({"1000"})
+    public int size;
+
+    private List<BenchmarkTarget> targets;
+
+    private CursorMirror<BenchmarkTarget> cursor;
+
+    @Setup
+    public void setup() {
+        targets = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            targets.add(new BenchmarkTarget());
+        }
+        cursor = BeanMirror.of(BenchmarkTarget.class, LOOKUP).cursor();
+    }
+
+    @Benchmark
+    public long objectMirror() {
+        var sum = 0L;
+        for (final var target : targets) {
+            sum += BeanMirror.of(target, LOOKUP).get("intValue", int.class);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursor() {
+        var sum = 0L;
+        for (final var target : targets) {
+            sum += cursor.bind(target).getInt("intValue");
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the concurrent first-time resolution of the same member. Each
+ * iteration loads a fresh copy of the target class and every thread
+ * resolves the same member of it exactly once, at the same time.
+ */
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class FirstResolutionBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private Class<?> type;
+
+    private Object target;
+
+    @Setup(Level.Iteration)
+    public void setup() throws ReflectiveOperationException {
+        type = IsolatedClassLoader.copyOf(BenchmarkTarget.class);
+        target = type.getConstructor().newInstance();
+    }
+
+    @Benchmark
+    public Object get() {
+        return BeanMirror.of(target, LOOKUP).get("intValue", int.class);
+    }
+
+    @Benchmark
+    public Object call() {
+        return BeanMirror.of(target, LOOKUP).call(int.class, "intMethod");
+    }
+
+    @Benchmark
+    public Object createGetter() {
+        return BeanMirror.of(type, LOOKUP).createGetter("intValue", int.class);
+    }
+
+}
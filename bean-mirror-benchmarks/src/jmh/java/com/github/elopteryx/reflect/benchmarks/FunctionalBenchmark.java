@@ -0,0 +1,96 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for using the already created functional accessors.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FunctionalBenchmark {
+
+    @Param({"INT", "LONG", "DOUBLE", "INTEGER", "STRING"})
+    public MemberType type;
+
+    private BenchmarkTarget target;
+
+    private Object value;
+
+    private Function<BenchmarkTarget, Object> getter;
+
+    private BiConsumer<BenchmarkTarget, Object> setter;
+
+    private Supplier<Object> staticGetter;
+
+    private Consumer<Object> staticSetter;
+
+    @Setup
+    public void setup() {
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        target = new BenchmarkTarget();
+        value = type.value();
+        getter = mirror.createGetter(type.field(), type.type());
+        setter = mirror.createSetter(type.field(), type.type());
+        staticGetter = mirror.createStaticGetter(type.staticField(), type.type());
+        staticSetter = mirror.createStaticSetter(type.staticField(), type.type());
+    }
+
+    @Benchmark
+    public Object getter() {
+        return getter.apply(target);
+    }
+
+    @Benchmark
+    public void setter() {
+        setter.accept(target, value);
+    }
+
+    /**
+     * The accessors are not upgraded to generated classes in this fork, to
+     * compare the first implementation with the upgraded one.
+     */
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dcom.github.elopteryx.reflect.tierThreshold=0")
+    public Object untieredGetter() {
+        return getter.apply(target);
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dcom.github.elopteryx.reflect.tierThreshold=0")
+    public void untieredSetter() {
+        setter.accept(target, value);
+    }
+
+    @Benchmark
+    public Object staticGetter() {
+        return staticGetter.get();
+    }
+
+    @Benchmark
+    public void staticSetter() {
+        staticSetter.accept(value);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling an interface method implemented with a generated
+ * class, a reflection proxy calling the target directly, a reflection
+ * proxy dispatching to a method handle per method and a plain class.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ImplementBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    public interface Adder {
+        long add(long first, int second);
+    }
+
+    private static long add(final long first, final int second) {
+        return first + second;
+    }
+
+    private Adder generated;
+
+    private Adder proxy;
+
+    private Adder proxyDispatch;
+
+    private Adder plain;
+
+    private long first = 40L;
+
+    private int second = 2;
+
+    @Setup
+    public void setup() throws Exception {
+        final var target = LOOKUP.findStatic(ImplementBenchmark.class, "add", methodType(long.class, long.class, int.class));
+        generated = BeanMirror.implement(Adder.class, method -> target, LOOKUP);
+        proxy = (Adder) Proxy.newProxyInstance(Adder.class.getClassLoader(), new Class<?>[] {Adder.class},
+                (instance, method, args) -> add((Long) args[0], (Integer) args[1]));
+        final Map<Method, MethodHandle> handles = Map.of(Adder.class.getMethod("add", long.class, int.class), target);
+        proxyDispatch = (Adder) Proxy.newProxyInstance(Adder.class.getClassLoader(), new Class<?>[] {Adder.class},
+                (instance, method, args) -> handles.get(method).invokeWithArguments(args));
+        plain = ImplementBenchmark::add;
+    }
+
+    @Benchmark
+    public long generated() {
+        return generated.add(first, second);
+    }
+
+    @Benchmark
+    public long proxy() {
+        return proxy.add(first, second);
+    }
+
+    @Benchmark
+    public long proxyDispatch() {
+        return proxyDispatch.add(first, second);
+    }
+
+    @Benchmark
+    public long plain() {
+        return plain.add(first, second);
+    }
+}
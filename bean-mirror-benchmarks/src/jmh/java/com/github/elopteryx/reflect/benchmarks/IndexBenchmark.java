@@ -0,0 +1,96 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.FieldIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares building and querying a boxed hash map to the primitive field index.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class IndexBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<BenchmarkTarget> targets;
+
+    private Function<BenchmarkTarget, Long> getter;
+
+    private FieldIndex.Builder<BenchmarkTarget> builder;
+
+    private Map<Long, BenchmarkTarget> map;
+
+    private FieldIndex<BenchmarkTarget> index;
+
+    @Setup
+    public void setup() {
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        targets = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            final var target = new BenchmarkTarget();
+            mirror.createSetter("longValue", long.class).accept(target, i * 7919L);
+            targets.add(target);
+        }
+        getter = mirror.createGetter("longValue", long.class);
+        builder = mirror.indexBy("longValue");
+        map = boxedBuild();
+        index = indexBuild();
+    }
+
+    @Benchmark
+    public Map<Long, BenchmarkTarget> boxedBuild() {
+        final var result = new HashMap<Long, BenchmarkTarget>();
+        for (final var target : targets) {
+            result.put(getter.apply(target), target);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public FieldIndex<BenchmarkTarget> indexBuild() {
+        return builder.unique(targets);
+    }
+
+    @Benchmark
+    public long boxedLookup() {
+        var sum = 0L;
+        for (var i = 0; i < size; i += 16) {
+            sum += map.get(i * 7919L).hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexLookup() {
+        var sum = 0L;
+        for (var i = 0; i < size; i += 16) {
+            sum += index.get(i * 7919L).hashCode();
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Defines its own copy of the given classes, instead of
+ * delegating to the parent. Every new loader produces new
+ * class objects, which were never resolved before.
+ */
+public final class IsolatedClassLoader extends ClassLoader {
+
+    private final Set<String> names;
+
+    public IsolatedClassLoader(final Class<?>... classes) {
+        super(IsolatedClassLoader.class.getClassLoader());
+        this.names = Set.of(Arrays.stream(classes).map(Class::getName).toArray(String[]::new));
+    }
+
+    /**
+     * Loads a fresh copy of the given class.
+     * @param clazz The class to be copied
+     * @return The new class object
+     */
+    public static Class<?> copyOf(final Class<?> clazz) {
+        try {
+            return new IsolatedClassLoader(clazz).loadClass(clazz.getName());
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+        if (!names.contains(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            var result = findLoadedClass(name);
+            if (result == null) {
+                result = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(result);
+            }
+            return result;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(final String name) throws ClassNotFoundException {
+        final var resource = name.replace('.', '/') + ".class";
+        try (var stream = getParent().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new ClassNotFoundException(name);
+            }
+            final var bytes = stream.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+/**
+ * The benchmark parameter, selects the members of
+ * {@link BenchmarkTarget} with the given type.
+ */
+public enum MemberType {
+
+    INT(int.class, 42, "int"),
+    LONG(long.class, 42L, "long"),
+    DOUBLE(double.class, 42.0, "double"),
+    INTEGER(Integer.class, 42, "integer"),
+    STRING(String.class, "42", "string");
+
+    private final Class<?> type;
+
+    private final Object value;
+
+    private final String prefix;
+
+    MemberType(final Class<?> type, final Object value, final String prefix) {
+        this.type = type;
+        this.value = value;
+        this.prefix = prefix;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> Class<R> type() {
+        return (Class<R>) type;
+    }
+
+    public Object value() {
+        return value;
+    }
+
+    public String field() {
+        return prefix + "Value";
+    }
+
+    public String staticField() {
+        return "static" + capitalized() + "Value";
+    }
+
+    public String method() {
+        return prefix + "Method";
+    }
+
+    public String staticMethod() {
+        return "static" + capitalized() + "Method";
+    }
+
+    public String echo() {
+        return prefix + "Echo";
+    }
+
+    public String staticEcho() {
+        return "static" + capitalized() + "Echo";
+    }
+
+    private String capitalized() {
+        return Character.toUpperCase(prefix.charAt(0)) + prefix.substring(1);
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.ObjectMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for each entry point of the object mirror.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ObjectMirrorBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private BenchmarkTarget target;
+
+    private ObjectMirror<BenchmarkTarget> mirror;
+
+    @Setup
+    public void setup() {
+        target = new BenchmarkTarget();
+        mirror = BeanMirror.of(target, LOOKUP);
+    }
+
+    @State(Scope.Thread)
+    public static class AllTypes {
+
+        @Param({"INT", "LONG", "DOUBLE", "INTEGER", "STRING"})
+        public MemberType type;
+
+        public ObjectMirror<BenchmarkTarget> mirror;
+
+        @Setup
+        public void setup() {
+            mirror = BeanMirror.of(new BenchmarkTarget(), LOOKUP);
+        }
+    }
+
+    /**
+     * Switching to a field only works with reference types,
+     * as it casts the value to the given type.
+     */
+    @State(Scope.Thread)
+    public static class ReferenceTypes {
+
+        @Param({"INTEGER", "STRING"})
+        public MemberType type;
+
+        public ObjectMirror<BenchmarkTarget> mirror;
+
+        @Setup
+        public void setup() {
+            mirror = BeanMirror.of(new BenchmarkTarget(), LOOKUP);
+        }
+    }
+
+    // TYPE
+
+    @Benchmark
+    public Object of() {
+        return BeanMirror.of(target, LOOKUP);
+    }
+
+    @Benchmark
+    public Object asType() {
+        return mirror.asType(BenchmarkTarget.class);
+    }
+
+    // FIELD
+
+    @Benchmark
+    public Object get(final AllTypes state) {
+        return state.mirror.get(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object asTypeGet(final AllTypes state) {
+        return state.mirror.asType(BenchmarkTarget.class).get(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object set(final AllTypes state) {
+        return state.mirror.set(state.type.field(), state.type.value());
+    }
+
+    @Benchmark
+    public Object field(final ReferenceTypes state) {
+        return state.mirror.field(state.type.field(), state.type.type());
+    }
+
+    // FUNCTIONAL
+
+    @Benchmark
+    public Object createGetter(final AllTypes state) {
+        return state.mirror.createGetter(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createSetter(final AllTypes state) {
+        return state.mirror.createSetter(state.type.field(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createStaticGetter(final AllTypes state) {
+        return state.mirror.createStaticGetter(state.type.staticField(), state.type.type());
+    }
+
+    @Benchmark
+    public Object createStaticSetter(final AllTypes state) {
+        return state.mirror.createStaticSetter(state.type.staticField(), state.type.type());
+    }
+
+    // METHOD
+
+    @Benchmark
+    public Object run() {
+        return mirror.run("run");
+    }
+
+    @Benchmark
+    public Object call(final AllTypes state) {
+        return state.mirror.call(state.type.type(), state.type.method());
+    }
+
+    @Benchmark
+    public Object callWithArgument(final AllTypes state) {
+        return state.mirror.call(state.type.type(), state.type.echo(), state.type.value());
+    }
+
+    @Benchmark
+    public Object asTypeCall(final AllTypes state) {
+        return state.mirror.asType(BenchmarkTarget.class).call(state.type.type(), state.type.method());
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing a bean property through the
+ * introspector of java.beans and through the bean properties.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PropertyBenchmark {
+
+    public static class Bean {
+
+        private int value = 42;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            this.value = value;
+        }
+    }
+
+    private final Bean bean = new Bean();
+
+    private PropertyDescriptor descriptor;
+
+    private BeanProperties.Property<Bean> property;
+
+    @Setup
+    public void setup() throws Exception {
+        for (final var candidate : Introspector.getBeanInfo(Bean.class).getPropertyDescriptors()) {
+            if (candidate.getName().equals("value")) {
+                descriptor = candidate;
+            }
+        }
+        property = BeanMirror.of(Bean.class, MethodHandles.lookup()).properties().get("value");
+    }
+
+    @Benchmark
+    public int introspector() throws Exception {
+        final var value = (int) descriptor.getReadMethod().invoke(bean);
+        descriptor.getWriteMethod().invoke(bean, value + 1);
+        return value;
+    }
+
+    @Benchmark
+    public int properties() {
+        final var value = property.getInt(bean);
+        property.setInt(bean, value + 1);
+        return value;
+    }
+
+}
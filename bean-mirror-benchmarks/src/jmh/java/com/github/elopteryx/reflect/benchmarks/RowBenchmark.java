@@ -0,0 +1,80 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.ObjectMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compares mapping rows by field names through the object mirror
+ * to the composed row readers and writers.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RowBenchmark {
+
+    private static final String[] COLUMNS = {"integerValue", "stringValue"};
+
+    private final Object[] row = {42, "42"};
+
+    private final Object[] output = new Object[2];
+
+    private final BenchmarkTarget target = new BenchmarkTarget();
+
+    private Function<Object[], BenchmarkTarget> reader;
+
+    private BiConsumer<BenchmarkTarget, Object[]> writer;
+
+    @Setup
+    public void setup() {
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        reader = mirror.rowReader(COLUMNS);
+        writer = mirror.rowWriter(COLUMNS);
+    }
+
+    @Benchmark
+    public Object mirrorRead() {
+        final ObjectMirror<BenchmarkTarget> mirror = BeanMirror.of(new BenchmarkTarget(), MethodHandles.lookup());
+        for (var i = 0; i < COLUMNS.length; i++) {
+            mirror.set(COLUMNS[i], row[i]);
+        }
+        return mirror.get();
+    }
+
+    @Benchmark
+    public Object rowReader() {
+        return reader.apply(row);
+    }
+
+    @Benchmark
+    public Object mirrorWrite() {
+        final var mirror = BeanMirror.of(target, MethodHandles.lookup());
+        output[0] = mirror.get(COLUMNS[0], Integer.class);
+        output[1] = mirror.get(COLUMNS[1], String.class);
+        return output;
+    }
+
+    @Benchmark
+    public Object rowWriter() {
+        writer.accept(target, output);
+        return output;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.ClassMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Measures the throughput of the library when the same mirrors and
+ * accessors are used from many threads. The shared state is in the
+ * benchmark scope, so any contention in the library shows up as
+ * throughput which does not scale with the thread count. Use
+ * {@link ScalabilityRunner} to run it with 1 to N threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ScalabilityBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private BenchmarkTarget shared;
+
+    private ClassMirror<BenchmarkTarget> mirror;
+
+    private Function<BenchmarkTarget, Integer> getter;
+
+    private BiConsumer<BenchmarkTarget, Integer> setter;
+
+    /**
+     * A target for each thread, to separate the cost
+     * of the accessor from writing the same memory.
+     */
+    @State(Scope.Thread)
+    public static class Local {
+
+        public BenchmarkTarget target;
+
+        @Setup
+        public void setup() {
+            target = new BenchmarkTarget();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        shared = new BenchmarkTarget();
+        mirror = BeanMirror.of(BenchmarkTarget.class, LOOKUP);
+        getter = mirror.createGetter("intValue", int.class);
+        setter = mirror.createSetter("intValue", int.class);
+    }
+
+    // COLD RESOLUTION
+
+    @Benchmark
+    public Object coldGet() {
+        return BeanMirror.of(shared, LOOKUP).get("intValue", int.class);
+    }
+
+    @Benchmark
+    public Object coldCall() {
+        return BeanMirror.of(shared, LOOKUP).call(int.class, "intMethod");
+    }
+
+    @Benchmark
+    public Object coldCreateGetter() {
+        return mirror.createGetter("intValue", int.class);
+    }
+
+    // WARM ACCESSORS
+
+    @Benchmark
+    public Object sharedGetter() {
+        return getter.apply(shared);
+    }
+
+    @Benchmark
+    public void sharedSetter(final Local local) {
+        setter.accept(local.target, 42);
+    }
+
+    @Benchmark
+    public void sharedSetterSharedTarget() {
+        setter.accept(shared, 42);
+    }
+
+    // READING WHILE RESOLVING
+
+    @Benchmark
+    @Group("readWhileResolving")
+    @GroupThreads(3)
+    public Object reader() {
+        return getter.apply(shared);
+    }
+
+    @Benchmark
+    @Group("readWhileResolving")
+    @GroupThreads(1)
+    public Object resolver() {
+        return mirror.createGetter("intValue", int.class);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the multi-threaded benchmarks with a doubling number of threads,
+ * from one up to the number of available processors. The results of
+ * each thread count are written into a separate JSON file.
+ */
+public final class ScalabilityRunner {
+
+    private ScalabilityRunner() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(final String... args) throws IOException, RunnerException {
+        final var directory = Files.createDirectories(Path.of(args.length > 0 ? args[0] : "build/reports/jmh"));
+        final var cores = Runtime.getRuntime().availableProcessors();
+        var threads = 1;
+        while (true) {
+            final var options = new OptionsBuilder()
+                    .include(ScalabilityBenchmark.class.getSimpleName())
+                    .include(FirstResolutionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(directory.resolve("scalability-" + threads + ".json").toString())
+                    .build();
+            new Runner(options).run();
+            if (threads == cores) {
+                break;
+            }
+            threads = Math.min(threads * 2, cores);
+        }
+    }
+}
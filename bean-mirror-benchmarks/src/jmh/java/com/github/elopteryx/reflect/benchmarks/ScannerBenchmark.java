@@ -0,0 +1,99 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.scanner.ClassScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Compares finding the classes annotated with the state annotation
+ * of JMH, among the benchmark classes, by scanning their class files
+ * and by loading each of them in a fresh class loader.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ScannerBenchmark {
+
+    private static final String ANNOTATION = State.class.getName();
+
+    private Path root;
+
+    private URL[] urls;
+
+    private List<String> names;
+
+    private ClassScanner scanner;
+
+    @Setup
+    public void setup() throws Exception {
+        root = location(ScannerBenchmark.class);
+        urls = new URL[] {root.toUri().toURL(), location(State.class).toUri().toURL(), location(BeanMirror.class).toUri().toURL()};
+        names = new ArrayList<>();
+        if (Files.isDirectory(root)) {
+            try (var files = Files.walk(root)) {
+                files.map(file -> root.relativize(file).toString().replace('\\', '/')).filter(ScannerBenchmark::isClassFile).forEach(this::add);
+            }
+        } else {
+            try (var jar = new JarFile(root.toFile())) {
+                jar.stream().map(JarEntry::getName).filter(ScannerBenchmark::isClassFile).forEach(this::add);
+            }
+        }
+        scanner = ClassScanner.of(State.class);
+    }
+
+    private static Path location(final Class<?> clazz) throws Exception {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static boolean isClassFile(final String name) {
+        return name.endsWith(".class") && !name.startsWith("META-INF") && !name.endsWith("module-info.class");
+    }
+
+    private void add(final String file) {
+        names.add(file.substring(0, file.length() - ".class".length()).replace('/', '.'));
+    }
+
+    @Benchmark
+    public List<String> scan() throws Exception {
+        return scanner.scan(root);
+    }
+
+    @Benchmark
+    public List<String> load() throws Exception {
+        try (var loader = new URLClassLoader(urls, ClassLoader.getPlatformClassLoader())) {
+            final var result = new ArrayList<String>();
+            for (final var name : names) {
+                final var clazz = Class.forName(name, false, loader);
+                for (final var annotation : clazz.getDeclaredAnnotations()) {
+                    if (annotation.annotationType().getName().equals(ANNOTATION)) {
+                        result.add(name);
+                    }
+                }
+            }
+            return result.stream().sorted().collect(Collectors.toList());
+        }
+    }
+}
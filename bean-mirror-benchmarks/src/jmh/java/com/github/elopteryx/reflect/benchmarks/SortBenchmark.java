@@ -0,0 +1,88 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.FieldComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting with boxed getter functions to the field comparator
+ * and its key extracting sort.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private List<BenchmarkTarget> source;
+
+    private List<BenchmarkTarget> targets;
+
+    private Comparator<BenchmarkTarget> boxed;
+
+    private FieldComparator<BenchmarkTarget> comparator;
+
+    @Setup
+    public void setup() {
+        final var random = new Random(42);
+        final var mirror = BeanMirror.of(BenchmarkTarget.class, MethodHandles.lookup());
+        source = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            final var target = new BenchmarkTarget(String.valueOf(random.nextInt(100)));
+            mirror.createSetter("intValue", int.class).accept(target, random.nextInt());
+            source.add(target);
+        }
+        boxed = Comparator.comparing(mirror.createGetter("stringValue", String.class))
+                .thenComparing(mirror.createGetter("intValue", int.class));
+        comparator = mirror.comparator("stringValue", "intValue");
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        targets = new ArrayList<>(source);
+        Collections.shuffle(targets, new Random(42));
+    }
+
+    @Benchmark
+    public Object boxedGetters() {
+        targets.sort(boxed);
+        return targets;
+    }
+
+    @Benchmark
+    public Object fieldComparator() {
+        targets.sort(comparator);
+        return targets;
+    }
+
+    @Benchmark
+    public Object extractedKeys() {
+        comparator.sort(targets);
+        return targets;
+    }
+
+}
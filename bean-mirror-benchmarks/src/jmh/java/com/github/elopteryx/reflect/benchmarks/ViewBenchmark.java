@@ -0,0 +1,78 @@
+package com.github.elopteryx.reflect.benchmarks;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling a method of a class, which does not implement the
+ * interface, through a view, through the object mirror, and directly.
+ * The view is also measured together with its creation.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ViewBenchmark {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    public interface Scaler {
+        long scale(long value);
+    }
+
+    public static class Target {
+
+        private long factor = 3L;
+
+        public long scale(final long value) {
+            return value * factor;
+        }
+    }
+
+    private Target target;
+
+    private Scaler view;
+
+    private long value = 14L;
+
+    @Setup
+    public void setup() {
+        target = new Target();
+        view = BeanMirror.of(target, LOOKUP).as(Scaler.class);
+    }
+
+    @Benchmark
+    public long view() {
+        return view.scale(value);
+    }
+
+    @Benchmark
+    public long createView() {
+        return BeanMirror.of(target, LOOKUP).as(Scaler.class).scale(value);
+    }
+
+    @Benchmark
+    public long mirror() {
+        return BeanMirror.of(target, LOOKUP).call(Long.class, "scale", value).get();
+    }
+
+    @Benchmark
+    public long direct() {
+        return target.scale(value);
+    }
+}
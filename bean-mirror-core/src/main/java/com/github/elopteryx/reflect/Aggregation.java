@@ -0,0 +1,484 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.Readers.doubleReader;
+import static com.github.elopteryx.reflect.internal.Readers.isIntegral;
+import static com.github.elopteryx.reflect.internal.Readers.isNumeric;
+import static com.github.elopteryx.reflect.internal.Readers.longReader;
+
+import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.LongHashMap;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Computes aggregates over a collection of beans, optionally grouped
+ * by the value of a field. The aggregated fields must be numeric
+ * primitives, they are read without boxing. Integral fields are
+ * summed as long values, floating point fields as double values.
+ *
+ * <p>The collection is split into ranges, which are aggregated on the
+ * fork-join pool, each into its own accumulators. The partial results
+ * are merged when the tasks are joined, so the elements are never
+ * shared between threads and no synchronization is needed.</p>
+ *
+ * <p>The builder is not thread-safe, but the execution can be
+ * repeated, it always reflects the current state of the beans.</p>
+ */
+public final class Aggregation<T> {
+
+    /**
+     * The ranges will not be split below this size.
+     */
+    static final int SPLIT_THRESHOLD = 4096;
+
+    private enum Kind { COUNT, SUM, MIN, MAX, AVG }
+
+    /**
+     * A single aggregate operation.
+     */
+    private static final class Operation<T> {
+
+        private final Kind kind;
+
+        private final String label;
+
+        /**
+         * Whether the accumulated value is a long.
+         */
+        private final boolean integral;
+
+        private final ToLongFunction<T> longReader;
+
+        private final ToDoubleFunction<T> doubleReader;
+
+        private Operation(final Kind kind, final String label, final VarHandle handle) {
+            this.kind = kind;
+            this.label = label;
+            this.integral = handle == null || isIntegral(handle);
+            this.longReader = handle != null && integral ? longReader(handle) : null;
+            this.doubleReader = handle != null && !integral ? doubleReader(handle) : null;
+        }
+    }
+
+    /**
+     * The accumulated values of a single group.
+     */
+    private static final class Accumulator {
+
+        private long count;
+
+        private final long[] longs;
+
+        private final double[] doubles;
+
+        private Accumulator(final Operation<?>[] operations) {
+            this.longs = new long[operations.length];
+            this.doubles = new double[operations.length];
+            for (var i = 0; i < operations.length; i++) {
+                if (operations[i].kind == Kind.MIN) {
+                    longs[i] = Long.MAX_VALUE;
+                    doubles[i] = Double.POSITIVE_INFINITY;
+                } else if (operations[i].kind == Kind.MAX) {
+                    longs[i] = Long.MIN_VALUE;
+                    doubles[i] = Double.NEGATIVE_INFINITY;
+                }
+            }
+        }
+
+        private void merge(final Operation<?>[] operations, final Accumulator other) {
+            count += other.count;
+            for (var i = 0; i < operations.length; i++) {
+                switch (operations[i].kind) {
+                    case MIN:
+                        longs[i] = Math.min(longs[i], other.longs[i]);
+                        doubles[i] = Math.min(doubles[i], other.doubles[i]);
+                        break;
+                    case MAX:
+                        longs[i] = Math.max(longs[i], other.longs[i]);
+                        doubles[i] = Math.max(doubles[i], other.doubles[i]);
+                        break;
+                    default:
+                        longs[i] += other.longs[i];
+                        doubles[i] += other.doubles[i];
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The accumulators of a range, by their group keys. Only one
+     * of the maps is used, depending on the type of the group field.
+     */
+    private static final class Partial {
+
+        private final Map<Object, Accumulator> groups = new HashMap<>();
+
+        private final LongHashMap<Accumulator> primitiveGroups = new LongHashMap<>();
+    }
+
+    private final Class<T> clazz;
+
+    private final Lookup lookup;
+
+    private final Collection<T> elements;
+
+    private final List<Operation<T>> operations = new ArrayList<>();
+
+    private String groupName;
+
+    private VarHandle groupHandle;
+
+    private ToLongFunction<T> groupReader;
+
+    Aggregation(final Class<T> clazz, final Lookup lookup, final Collection<T> elements) {
+        this.clazz = clazz;
+        this.lookup = lookup;
+        this.elements = elements;
+    }
+
+    /**
+     * Groups the elements by the value of the field, identified by its
+     * name. Primitive fields are used as keys without boxing, the keys
+     * of the result will be their wrappers.
+     * @param name The name of the field
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> groupBy(final String name) {
+        final var handle = Functional.findVarHandle(name, lookup, clazz);
+        final var type = handle.varType();
+        this.groupName = name;
+        this.groupHandle = handle;
+        if (isIntegral(handle)) {
+            this.groupReader = longReader(handle);
+        } else if (type == double.class || type == float.class) {
+            final ToDoubleFunction<T> reader = doubleReader(handle);
+            this.groupReader = obj -> Double.doubleToLongBits(reader.applyAsDouble(obj));
+        } else if (type == boolean.class) {
+            this.groupReader = obj -> (boolean) handle.get(obj) ? 1L : 0L;
+        } else {
+            this.groupReader = null;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the number of elements to the aggregates, with the label 'count()'.
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> count() {
+        return add(Kind.COUNT, null);
+    }
+
+    /**
+     * Adds the sum of the field to the aggregates, with the label 'sum(name)'.
+     * @param name The name of the field
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> sum(final String name) {
+        return add(Kind.SUM, name);
+    }
+
+    /**
+     * Adds the minimum of the field to the aggregates, with the label 'min(name)'.
+     * @param name The name of the field
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> min(final String name) {
+        return add(Kind.MIN, name);
+    }
+
+    /**
+     * Adds the maximum of the field to the aggregates, with the label 'max(name)'.
+     * @param name The name of the field
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> max(final String name) {
+        return add(Kind.MAX, name);
+    }
+
+    /**
+     * Adds the average of the field to the aggregates, with the label 'avg(name)'.
+     * @param name The name of the field
+     * @return The same aggregation instance
+     */
+    public Aggregation<T> avg(final String name) {
+        return add(Kind.AVG, name);
+    }
+
+    private Aggregation<T> add(final Kind kind, final String name) {
+        final var label = kind.name().toLowerCase() + "(" + (name == null ? "" : name) + ")";
+        if (operations.stream().noneMatch(operation -> operation.label.equals(label))) {
+            final var handle = name == null ? null : Functional.findVarHandle(name, lookup, clazz);
+            if (handle != null && !isNumeric(handle)) {
+                throw new BeanMirrorException(new IllegalArgumentException("The field " + name + " of type " + handle.varType() + " is not numeric."));
+            }
+            operations.add(new Operation<>(kind, label, handle));
+        }
+        return this;
+    }
+
+    /**
+     * Computes the aggregates on the common fork-join pool.
+     * @return The aggregates, by the group keys. Without a group field
+     *         there is a single entry, with a null key. The map is
+     *         empty if the collection was empty.
+     */
+    public Map<Object, Aggregates> execute() {
+        return execute(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the aggregates on the given fork-join pool.
+     * @param pool The pool to be used
+     * @return The aggregates, by the group keys. Without a group field
+     *         there is a single entry, with a null key. The map is
+     *         empty if the collection was empty.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object, Aggregates> execute(final ForkJoinPool pool) {
+        final var array = (T[]) elements.toArray();
+        final var compiled = operations.toArray((Operation<T>[]) new Operation<?>[0]);
+        final var partial = array.length <= SPLIT_THRESHOLD
+                ? accumulate(array, 0, array.length, compiled)
+                : pool.invoke(new AggregateTask(array, 0, array.length, compiled));
+        final var labels = new HashMap<String, Integer>();
+        for (var i = 0; i < compiled.length; i++) {
+            labels.put(compiled[i].label, i);
+        }
+        final var result = new HashMap<Object, Aggregates>();
+        partial.groups.forEach((key, accumulator) -> result.put(key, new Aggregates(labels, compiled, accumulator)));
+        partial.primitiveGroups.forEach((key, accumulator) -> result.put(box(key), new Aggregates(labels, compiled, accumulator)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Aggregates a range of the elements.
+     */
+    private final class AggregateTask extends RecursiveTask<Partial> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient T[] array;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient Operation<T>[] compiled;
+
+        private AggregateTask(final T[] array, final int from, final int to, final Operation<T>[] compiled) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.compiled = compiled;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return accumulate(array, from, to, compiled);
+            }
+            final var middle = (from + to) >>> 1;
+            final var left = new AggregateTask(array, from, middle, compiled);
+            left.fork();
+            final var right = new AggregateTask(array, middle, to, compiled).compute();
+            return merge(left.join(), right, compiled);
+        }
+    }
+
+    private Partial accumulate(final T[] array, final int from, final int to, final Operation<T>[] compiled) {
+        final var partial = new Partial();
+        for (var index = from; index < to; index++) {
+            final var element = array[index];
+            final var accumulator = accumulator(partial, element, compiled);
+            accumulator.count++;
+            final var longs = accumulator.longs;
+            final var doubles = accumulator.doubles;
+            for (var i = 0; i < compiled.length; i++) {
+                final var operation = compiled[i];
+                switch (operation.kind) {
+                    case COUNT:
+                        longs[i]++;
+                        break;
+                    case MIN:
+                        if (operation.integral) {
+                            longs[i] = Math.min(longs[i], operation.longReader.applyAsLong(element));
+                        } else {
+                            doubles[i] = Math.min(doubles[i], operation.doubleReader.applyAsDouble(element));
+                        }
+                        break;
+                    case MAX:
+                        if (operation.integral) {
+                            longs[i] = Math.max(longs[i], operation.longReader.applyAsLong(element));
+                        } else {
+                            doubles[i] = Math.max(doubles[i], operation.doubleReader.applyAsDouble(element));
+                        }
+                        break;
+                    default:
+                        if (operation.integral) {
+                            longs[i] += operation.longReader.applyAsLong(element);
+                        } else {
+                            doubles[i] += operation.doubleReader.applyAsDouble(element);
+                        }
+                        break;
+                }
+            }
+        }
+        return partial;
+    }
+
+    private Accumulator accumulator(final Partial partial, final T element, final Operation<T>[] compiled) {
+        if (groupReader != null) {
+            final var key = groupReader.applyAsLong(element);
+            var accumulator = partial.primitiveGroups.get(key);
+            if (accumulator == null) {
+                accumulator = new Accumulator(compiled);
+                partial.primitiveGroups.put(key, accumulator);
+            }
+            return accumulator;
+        }
+        final var key = groupHandle == null ? null : groupHandle.get(element);
+        var accumulator = partial.groups.get(key);
+        if (accumulator == null) {
+            accumulator = new Accumulator(compiled);
+            partial.groups.put(key, accumulator);
+        }
+        return accumulator;
+    }
+
+    private static Partial merge(final Partial left, final Partial right, final Operation<?>[] compiled) {
+        right.groups.forEach((key, accumulator) -> {
+            final var existing = left.groups.putIfAbsent(key, accumulator);
+            if (existing != null) {
+                existing.merge(compiled, accumulator);
+            }
+        });
+        right.primitiveGroups.forEach((key, accumulator) -> {
+            final var existing = left.primitiveGroups.get(key);
+            if (existing == null) {
+                left.primitiveGroups.put(key, accumulator);
+            } else {
+                existing.merge(compiled, accumulator);
+            }
+        });
+        return left;
+    }
+
+    private Object box(final long key) {
+        final var type = groupHandle.varType();
+        if (type == int.class) {
+            return (int) key;
+        } else if (type == long.class) {
+            return key;
+        } else if (type == short.class) {
+            return (short) key;
+        } else if (type == byte.class) {
+            return (byte) key;
+        } else if (type == char.class) {
+            return (char) key;
+        } else if (type == double.class) {
+            return Double.longBitsToDouble(key);
+        } else if (type == float.class) {
+            return (float) Double.longBitsToDouble(key);
+        }
+        return key != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Aggregation of " + clazz + (groupName == null ? "" : " by " + groupName)
+                + ": " + operations.stream().map(operation -> operation.label).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * The computed aggregates of a single group. The values are
+     * identified by their labels, for example 'sum(amount)'. The sum,
+     * minimum and maximum of integral fields and the counts are exact
+     * long values, the others are double values.
+     */
+    public static final class Aggregates {
+
+        private final Map<String, Integer> labels;
+
+        private final long count;
+
+        private final long[] longs;
+
+        private final double[] doubles;
+
+        private final boolean[] integral;
+
+        private Aggregates(final Map<String, Integer> labels, final Operation<?>[] operations, final Accumulator accumulator) {
+            this.labels = labels;
+            this.count = accumulator.count;
+            this.longs = accumulator.longs;
+            this.doubles = accumulator.doubles;
+            this.integral = new boolean[operations.length];
+            for (var i = 0; i < operations.length; i++) {
+                final var operation = operations[i];
+                if (operation.kind == Kind.AVG) {
+                    doubles[i] = (operation.integral ? longs[i] : doubles[i]) / count;
+                } else {
+                    integral[i] = operation.integral;
+                }
+            }
+        }
+
+        /**
+         * Returns the number of elements in the group.
+         * @return The size of the group
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the aggregate as a long value. Double values are truncated.
+         * @param label The label of the aggregate
+         * @return The value
+         */
+        public long getLong(final String label) {
+            final var index = index(label);
+            return integral[index] ? longs[index] : (long) doubles[index];
+        }
+
+        /**
+         * Returns the aggregate as a double value.
+         * @param label The label of the aggregate
+         * @return The value
+         */
+        public double getDouble(final String label) {
+            final var index = index(label);
+            return integral[index] ? longs[index] : doubles[index];
+        }
+
+        private int index(final String label) {
+            final var index = labels.get(label);
+            if (index == null) {
+                throw new BeanMirrorException(new IllegalArgumentException("No aggregate with the label " + label + ", the labels are " + labels.keySet() + "."));
+            }
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            final var builder = new StringBuilder("{");
+            labels.forEach((label, index) -> builder.append(builder.length() > 1 ? ", " : "").append(label).append('=')
+                    .append(integral[index] ? String.valueOf(longs[index]) : String.valueOf(doubles[index])));
+            return builder.append('}').toString();
+        }
+    }
+}
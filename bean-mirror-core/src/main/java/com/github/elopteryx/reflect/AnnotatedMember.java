@@ -0,0 +1,206 @@
+package com.github.elopteryx.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * A field or method, annotated with a given annotation, with its
+ * accessors resolved in advance. The instances are created in bulk
+ * by the class mirror, they are immutable and can be shared
+ * between threads. The static members ignore the bean argument.
+ * @param <T> The type of the bean
+ * @param <A> The type of the annotation
+ */
+public final class AnnotatedMember<T, A extends Annotation> {
+
+    private final Member member;
+
+    private final A annotation;
+
+    private final Class<?> type;
+
+    /**
+     * The getter of the field or the spread invoker of the method.
+     */
+    private final MethodHandle accessor;
+
+    /**
+     * The setter of the field, null for methods and final fields.
+     */
+    private final MethodHandle setter;
+
+    private AnnotatedMember(final Field field, final A annotation, final Lookup lookup) throws IllegalAccessException {
+        this.member = field;
+        this.annotation = annotation;
+        this.type = field.getType();
+        final var isStatic = Modifier.isStatic(field.getModifiers());
+        this.accessor = receiver(lookup.unreflectGetter(field), isStatic).asType(methodType(Object.class, Object.class));
+        this.setter = Modifier.isFinal(field.getModifiers())
+                ? null : receiver(lookup.unreflectSetter(field), isStatic).asType(methodType(void.class, Object.class, Object.class));
+    }
+
+    private AnnotatedMember(final Method method, final A annotation, final Lookup lookup) throws IllegalAccessException {
+        this.member = method;
+        this.annotation = annotation;
+        this.type = method.getReturnType();
+        final var handle = receiver(lookup.unreflect(method), Modifier.isStatic(method.getModifiers()));
+        this.accessor = handle.asSpreader(Object[].class, method.getParameterCount())
+                .asType(methodType(Object.class, Object.class, Object[].class));
+        this.setter = null;
+    }
+
+    /**
+     * Adds an ignored receiver parameter to the handles of static members.
+     */
+    private static MethodHandle receiver(final MethodHandle handle, final boolean isStatic) {
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+
+    /**
+     * Finds the fields and methods of the type, annotated with the given annotation.
+     * If the hierarchy is included, then the members of the superclasses follow
+     * the members of the type, except for the overridden methods. The
+     * members of Object are never included.
+     */
+    static <T, A extends Annotation> List<AnnotatedMember<T, A>> scan(final Class<T> clazz, final Lookup lookup,
+                                                                     final Class<A> annotationType, final boolean hierarchy) throws IllegalAccessException {
+        final var result = new ArrayList<AnnotatedMember<T, A>>();
+        final var signatures = new HashSet<List<Object>>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = hierarchy ? current.getSuperclass() : null) {
+            Lookup privateLookup = null;
+            for (final var field : current.getDeclaredFields()) {
+                final var annotation = field.getAnnotation(annotationType);
+                if (annotation != null) {
+                    privateLookup = privateLookup == null ? MethodHandles.privateLookupIn(current, lookup) : privateLookup;
+                    result.add(new AnnotatedMember<>(field, annotation, privateLookup));
+                }
+            }
+            for (final var method : current.getDeclaredMethods()) {
+                final var modifiers = method.getModifiers();
+                final var isVirtual = !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers);
+                if (method.isBridge() || isVirtual && !signatures.add(List.of(method.getName(), List.of(method.getParameterTypes())))) {
+                    continue;
+                }
+                final var annotation = method.getAnnotation(annotationType);
+                if (annotation != null) {
+                    privateLookup = privateLookup == null ? MethodHandles.privateLookupIn(current, lookup) : privateLookup;
+                    result.add(new AnnotatedMember<>(method, annotation, privateLookup));
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Returns the reflected member.
+     * @return The field or method
+     */
+    public Member member() {
+        return member;
+    }
+
+    /**
+     * Returns the name of the member.
+     * @return The name
+     */
+    public String name() {
+        return member.getName();
+    }
+
+    /**
+     * Returns the type of the field or the return type of the method.
+     * @return The type
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Returns the annotation of the member.
+     * @return The annotation
+     */
+    public A annotation() {
+        return annotation;
+    }
+
+    /**
+     * Determines whether the member is a field.
+     * @return True, if the member is a field
+     */
+    public boolean isField() {
+        return member instanceof Field;
+    }
+
+    /**
+     * Determines whether the member is static.
+     * @return True, if the member is static
+     */
+    public boolean isStatic() {
+        return Modifier.isStatic(member.getModifiers());
+    }
+
+    /**
+     * Gets the value of the field.
+     * @param bean The bean containing the field, ignored for static fields
+     * @return The value of the field
+     */
+    public Object get(final T bean) {
+        check(isField(), "is not a field");
+        try {
+            return accessor.invokeExact((Object) bean);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Sets the value of the field.
+     * @param bean The bean containing the field, ignored for static fields
+     * @param value The new value
+     */
+    public void set(final T bean, final Object value) {
+        check(setter != null, isField() ? "is final" : "is not a field");
+        try {
+            setter.invokeExact((Object) bean, value);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the method.
+     * @param bean The bean of the method, ignored for static methods
+     * @param args The arguments which will be used for the invocation
+     * @return The returned value, or null for void methods
+     */
+    public Object invoke(final T bean, final Object... args) {
+        check(!isField(), "is not a method");
+        try {
+            return accessor.invokeExact((Object) bean, args);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    private void check(final boolean condition, final String message) {
+        if (!condition) {
+            throw new BeanMirrorException(new UnsupportedOperationException("The member " + member.getName() + " " + message + "."));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (isField() ? "Field " : "Method ") + member.getName() + " annotated with " + annotation;
+    }
+}
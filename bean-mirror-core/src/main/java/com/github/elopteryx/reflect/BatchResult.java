@@ -0,0 +1,240 @@
+package com.github.elopteryx.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The result of a batch operation of the class mirror, which applied the
+ * same method or field write to each element of a collection. A failing
+ * element does not stop the batch, its exception is collected instead,
+ * with the element and its position in the iteration order.
+ *
+ * <p>On a fork-join pool the elements are split into ranges, which are
+ * processed as recursive tasks. Other executors receive a task for each
+ * element, so they can run blocking methods concurrently. The failures
+ * are written to separate slots of an array, so the tasks need no
+ * synchronization apart from the joins. The virtual machine errors are
+ * not collected, they stop the batch and are thrown to the caller.</p>
+ *
+ * @param <T> The type of the elements
+ */
+public final class BatchResult<T> {
+
+    /**
+     * The ranges will not be split below this size.
+     */
+    static final int SPLIT_THRESHOLD = 1024;
+
+    private final int size;
+
+    private final List<Failure<T>> failures;
+
+    private BatchResult(final int size, final List<Failure<T>> failures) {
+        this.size = size;
+        this.failures = failures;
+    }
+
+    /**
+     * Applies the action to each element, on the given executor, and
+     * waits for all of them.
+     * @param elements The elements
+     * @param executor The executor, or fork-join pool
+     * @param action The action, with the (Object, Object)void type
+     * @param argument The second argument of the action
+     * @param <T> The type of the elements
+     * @return The result
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BatchResult<T> execute(final Collection<T> elements, final Executor executor, final MethodHandle action, final Object argument) {
+        final var array = elements.toArray();
+        final var causes = new Throwable[array.length];
+        if (executor instanceof ForkJoinPool) {
+            if (array.length <= SPLIT_THRESHOLD) {
+                apply(action, argument, array, causes, 0, array.length);
+            } else {
+                ((ForkJoinPool) executor).invoke(new BatchTask(action, argument, array, causes, 0, array.length));
+            }
+        } else {
+            submit(executor, action, argument, array, causes);
+        }
+        final var failures = new ArrayList<Failure<T>>();
+        for (var i = 0; i < causes.length; i++) {
+            if (causes[i] instanceof VirtualMachineError) {
+                throw (VirtualMachineError) causes[i];
+            } else if (causes[i] != null) {
+                failures.add(new Failure<>(i, (T) array[i], causes[i]));
+            }
+        }
+        return new BatchResult<>(array.length, Collections.unmodifiableList(failures));
+    }
+
+    /**
+     * Submits a task for each element. A rejected task counts as the
+     * failure of its element.
+     */
+    private static void submit(final Executor executor, final MethodHandle action, final Object argument, final Object[] array, final Throwable[] causes) {
+        final var latch = new CountDownLatch(array.length);
+        for (var i = 0; i < array.length; i++) {
+            final var index = i;
+            try {
+                executor.execute(() -> {
+                    try {
+                        apply(action, argument, array, causes, index, index + 1);
+                    } catch (final VirtualMachineError e) {
+                        causes[index] = e;
+                        throw e;
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                causes[index] = e;
+                latch.countDown();
+            }
+        }
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Processes a range of the elements.
+     */
+    private static final class BatchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient MethodHandle action;
+
+        private final transient Object argument;
+
+        private final transient Object[] array;
+
+        private final transient Throwable[] causes;
+
+        private final int from;
+
+        private final int to;
+
+        private BatchTask(final MethodHandle action, final Object argument, final Object[] array, final Throwable[] causes, final int from, final int to) {
+            this.action = action;
+            this.argument = argument;
+            this.array = array;
+            this.causes = causes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                apply(action, argument, array, causes, from, to);
+                return;
+            }
+            final var middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(action, argument, array, causes, from, middle), new BatchTask(action, argument, array, causes, middle, to));
+        }
+    }
+
+    private static void apply(final MethodHandle action, final Object argument, final Object[] array, final Throwable[] causes,
+                              final int from, final int to) {
+        for (var i = from; i < to; i++) {
+            try {
+                action.invokeExact(array[i], argument);
+            } catch (final VirtualMachineError e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                causes[i] = throwable;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of processed elements.
+     * @return The size of the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the failed elements, in the iteration order of the collection.
+     * @return The failures, empty if every element succeeded
+     */
+    public List<Failure<T>> failures() {
+        return failures;
+    }
+
+    /**
+     * Determines whether the operation succeeded for each element.
+     * @return True, if there were no failures
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{size=" + size + ", failures=" + failures.size() + "}";
+    }
+
+    /**
+     * A single failed element.
+     * @param <T> The type of the element
+     */
+    public static final class Failure<T> {
+
+        private final int index;
+
+        private final T element;
+
+        private final Throwable cause;
+
+        private Failure(final int index, final T element, final Throwable cause) {
+            this.index = index;
+            this.element = element;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the position of the element in the iteration order.
+         * @return The index
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the failed element.
+         * @return The element
+         */
+        public T element() {
+            return element;
+        }
+
+        /**
+         * Returns the exception thrown by the method or the setter,
+         * without wrapping it.
+         * @return The exception
+         */
+        public Throwable cause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{index=" + index + ", cause=" + cause + "}";
+        }
+    }
+}
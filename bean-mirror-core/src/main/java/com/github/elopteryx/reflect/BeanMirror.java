@@ -1,8 +1,23 @@
 package com.github.elopteryx.reflect;
 
+import com.github.elopteryx.reflect.internal.Bootstraps;
+import com.github.elopteryx.reflect.internal.Constants;
+import com.github.elopteryx.reflect.internal.Conversions;
+import com.github.elopteryx.reflect.internal.Implementations;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberTable;
+import com.github.elopteryx.reflect.internal.Tiers;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * The entry point for creating mirror instances.
@@ -62,4 +77,169 @@ public final class BeanMirror {
         return new ClassMirror<>(clazz, lookup);
     }
 
+    /**
+     * Creates a new call site for the given field, which can be used
+     * on receivers of different classes.
+     * @param name The name of the field
+     * @param type The type of the field
+     * @param lookup User-supplied lookup for access check
+     * @param <R> The generic type
+     * @return A new call site
+     */
+    public static <R> MirrorCallSite<R> callSite(final String name, final Class<R> type, final Lookup lookup) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(lookup);
+        return new MirrorCallSite<>(name, type, lookup);
+    }
+
+    /**
+     * Registers a converter, used when values of the source type are
+     * written to fields of the target type, and there is no built-in
+     * conversion between them. It is also used for the subtypes of the
+     * source type. Converters should be registered before the mirrors
+     * are used, as the already created setters are not affected.
+     * @param source The type of the values
+     * @param target The type of the fields
+     * @param converter The converter function
+     * @param <S> The generic type of the values
+     * @param <R> The generic type of the fields
+     */
+    public static <S, R> void registerConverter(final Class<S> source, final Class<R> target, final Function<? super S, ? extends R> converter) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(converter);
+        Conversions.register(source, target, converter);
+    }
+
+    /**
+     * Removes the converter registered for the source and target types,
+     * so it no longer holds the classes of the converter function. The
+     * already created setters are not affected.
+     * @param source The type of the values
+     * @param target The type of the fields
+     * @return True, if there was a converter for the types
+     */
+    public static boolean unregisterConverter(final Class<?> source, final Class<?> target) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        return Conversions.unregister(source, target);
+    }
+
+    // IMPLEMENTATION
+
+    /**
+     * Creates a new implementation of the given interface.
+     * @param type The interface type
+     * @param dispatcher Returns the target handle for each method
+     * @param <I> The generic type
+     * @return A new implementation
+     * @see #implement(Class, Function, Lookup)
+     */
+    public static <I> I implement(final Class<I> type, final Function<Method, MethodHandle> dispatcher) {
+        return implement(type, dispatcher, MethodHandles.lookup());
+    }
+
+    /**
+     * Creates a new implementation of the given interface, as an alternative
+     * to the proxies of the java.lang.reflect package. The dispatcher is
+     * called once for each method of the interface, and returns the target
+     * handle for it, which receives the arguments of the method, without
+     * the implementation itself. The handle is adapted to the type of the
+     * method, so the primitive arguments are only boxed if the handle
+     * requires it. The default methods and the methods of Object are kept,
+     * if the dispatcher returns null for them. The implementing classes
+     * are generated once per interface and set of implemented methods.
+     * @param type The interface type
+     * @param dispatcher Returns the target handle for each method
+     * @param lookup User-supplied lookup for access check
+     * @param <I> The generic type
+     * @return A new implementation
+     */
+    public static <I> I implement(final Class<I> type, final Function<Method, MethodHandle> dispatcher, final Lookup lookup) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(dispatcher);
+        Objects.requireNonNull(lookup);
+        try {
+            return Implementations.implement(type, dispatcher, lookup);
+        } catch (final ReflectiveOperationException | WrongMethodTypeException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    // BOOTSTRAP
+
+    /**
+     * Bootstrap method for invokedynamic instructions, reading an instance
+     * field. The call site type must be (receiver)value, the field is
+     * searched on the receiver type and its superclasses, and the value
+     * is converted to the return type.
+     * @param caller The lookup of the caller, used for access check
+     * @param name The name of the field
+     * @param type The type of the call site
+     * @return A new constant call site
+     */
+    public static CallSite bootstrapGetter(final Lookup caller, final String name, final MethodType type) {
+        try {
+            return new ConstantCallSite(Bootstraps.getter(caller, name, type));
+        } catch (final ReflectiveOperationException | WrongMethodTypeException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Bootstrap method for invokedynamic instructions, writing an instance
+     * field. The call site type must be (receiver, value)void, the field is
+     * searched on the receiver type and its superclasses.
+     * @param caller The lookup of the caller, used for access check
+     * @param name The name of the field
+     * @param type The type of the call site
+     * @return A new constant call site
+     */
+    public static CallSite bootstrapSetter(final Lookup caller, final String name, final MethodType type) {
+        try {
+            return new ConstantCallSite(Bootstraps.setter(caller, name, type));
+        } catch (final ReflectiveOperationException | WrongMethodTypeException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Bootstrap method for invokedynamic instructions, invoking an instance
+     * method. The call site type must be (receiver, arguments...)result.
+     * If there is no method with the exact signature, then a method with
+     * a similar one is used, the same way as with the object mirror.
+     * @param caller The lookup of the caller, used for access check
+     * @param name The name of the method
+     * @param type The type of the call site
+     * @return A new constant call site
+     */
+    public static CallSite bootstrapInvoke(final Lookup caller, final String name, final MethodType type) {
+        try {
+            return new ConstantCallSite(Bootstraps.invoker(caller, name, type));
+        } catch (final ReflectiveOperationException | WrongMethodTypeException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Removes everything cached for the given class: the resolved members,
+     * the member table, the compiled converters to the class, the generated
+     * accessors and implementations, and the values of its static fields
+     * read as constants. The caches do not prevent the class from being
+     * unloaded, so this is only needed if the class was redefined or the
+     * memory should be released eagerly. The already created accessors,
+     * setters and implementations are not affected.
+     * @param clazz The class of the members
+     */
+    public static void invalidate(final Class<?> clazz) {
+        Objects.requireNonNull(clazz);
+        MemberCache.invalidate(clazz);
+        MemberTable.invalidate(clazz);
+        Conversions.invalidate(clazz);
+        Constants.invalidate(clazz);
+        Tiers.invalidate(clazz);
+        Implementations.invalidate(clazz);
+    }
+
 }
@@ -1,5 +1,7 @@
 package com.github.elopteryx.reflect;
 
+import com.github.elopteryx.reflect.internal.Events.ExceptionWrapEvent;
+
 /**
  * Custom RuntimeException class, to wrap the exceptions
  * caused by the invalid invocations.
@@ -12,6 +14,7 @@ public class BeanMirrorException extends RuntimeException {
      */
     public BeanMirrorException(final Throwable cause) {
         super(cause);
+        ExceptionWrapEvent.record(cause);
     }
 
 }
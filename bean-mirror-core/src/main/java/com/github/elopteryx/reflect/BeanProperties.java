@@ -0,0 +1,414 @@
+package com.github.elopteryx.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The JavaBeans properties of a class, discovered from its public
+ * accessor methods, following the naming rules of the specification:
+ * getX and isX for reading, setX for writing. Unlike the introspector
+ * of the java.desktop module, the accessors are invoked through method
+ * handles, and the primitive values can be read and written without
+ * boxing. The bridge methods are only used if the class has no other
+ * method with the same name and arity, which is the case for the public
+ * accessors inherited from a package private superclass. The
+ * properties are discovered once per class and lookup,
+ * the class instances are immutable and can be shared between threads.
+ */
+public final class BeanProperties<T> {
+
+    private final Class<T> clazz;
+
+    private final Map<String, Property<T>> properties;
+
+    BeanProperties(final Class<T> clazz, final Lookup lookup) throws IllegalAccessException {
+        final var getters = new TreeMap<String, Method>();
+        final var setters = new HashMap<String, List<Method>>();
+        final var methods = clazz.getMethods();
+        final var overridden = new HashSet<List<Object>>();
+        for (final var method : methods) {
+            if (!method.isBridge()) {
+                overridden.add(List.of(method.getName(), method.getParameterCount()));
+            }
+        }
+        for (final var method : methods) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class
+                    || method.isBridge() && overridden.contains(List.of(method.getName(), method.getParameterCount()))) {
+                continue;
+            }
+            final var name = method.getName();
+            final var count = method.getParameterCount();
+            final var returnType = method.getReturnType();
+            if (count == 0 && returnType == boolean.class && name.length() > 2 && name.startsWith("is")) {
+                getters.put(decapitalize(name.substring(2)), method);
+            } else if (count == 0 && returnType != void.class && name.length() > 3 && name.startsWith("get")) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (count == 1 && returnType == void.class && name.length() > 3 && name.startsWith("set")) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), key -> new ArrayList<>()).add(method);
+            }
+        }
+        final var names = new TreeMap<String, Property<T>>();
+        for (final var entry : getters.entrySet()) {
+            final var getter = entry.getValue();
+            final var setter = findSetter(setters.remove(entry.getKey()), getter.getReturnType());
+            names.put(entry.getKey(), new Property<>(entry.getKey(), getter.getReturnType(), lookup.unreflect(getter),
+                    setter == null ? null : lookup.unreflect(setter)));
+        }
+        for (final var entry : setters.entrySet()) {
+            if (entry.getValue().size() == 1) {
+                final var setter = entry.getValue().get(0);
+                names.put(entry.getKey(), new Property<>(entry.getKey(), setter.getParameterTypes()[0], null, lookup.unreflect(setter)));
+            }
+        }
+        this.clazz = clazz;
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(names));
+    }
+
+    private static Method findSetter(final List<Method> candidates, final Class<?> type) {
+        if (candidates != null) {
+            for (final var candidate : candidates) {
+                if (candidate.getParameterTypes()[0] == type) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts the name to the property name, the same way as the
+     * introspector: the first character is lower cased, unless the
+     * first two characters are both upper case, like in 'URL'.
+     */
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Returns the property with the given name.
+     * @param name The name of the property
+     * @return The property
+     * @throws BeanMirrorException If there is no such property
+     */
+    public Property<T> get(final String name) {
+        final var property = properties.get(name);
+        if (property == null) {
+            throw new BeanMirrorException(new NoSuchMethodException("No property " + name + " could be found on type " + clazz + "."));
+        }
+        return property;
+    }
+
+    /**
+     * Determines whether the property with the given name exists.
+     * @param name The name of the property
+     * @return True, if there is such property
+     */
+    public boolean contains(final String name) {
+        return properties.containsKey(name);
+    }
+
+    /**
+     * Returns the properties, ordered by their names.
+     * @return An immutable map of the properties
+     */
+    public Map<String, Property<T>> asMap() {
+        return properties;
+    }
+
+    /**
+     * Returns the number of properties.
+     * @return The size
+     */
+    public int size() {
+        return properties.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Properties of " + clazz.getName() + ": " + properties.keySet();
+    }
+
+    /**
+     * A single property, with its getter and setter. The primitive
+     * accessors apply the same widening and unboxing conversions as
+     * the method handles, without boxing the primitive values.
+     * @param <T> The type of the bean
+     */
+    public static final class Property<T> {
+
+        private static final MethodType GETTER = methodType(Object.class, Object.class);
+
+        private static final MethodType SETTER = methodType(void.class, Object.class, Object.class);
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final MethodHandle intGetter;
+
+        private final MethodHandle longGetter;
+
+        private final MethodHandle doubleGetter;
+
+        private final MethodHandle booleanGetter;
+
+        private final MethodHandle intSetter;
+
+        private final MethodHandle longSetter;
+
+        private final MethodHandle doubleSetter;
+
+        private final MethodHandle booleanSetter;
+
+        private Property(final String name, final Class<?> type, final MethodHandle getter, final MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = adapt(getter, GETTER);
+            this.setter = adapt(setter, SETTER);
+            this.intGetter = adapt(getter, methodType(int.class, Object.class));
+            this.longGetter = adapt(getter, methodType(long.class, Object.class));
+            this.doubleGetter = adapt(getter, methodType(double.class, Object.class));
+            this.booleanGetter = adapt(getter, methodType(boolean.class, Object.class));
+            this.intSetter = adapt(setter, methodType(void.class, Object.class, int.class));
+            this.longSetter = adapt(setter, methodType(void.class, Object.class, long.class));
+            this.doubleSetter = adapt(setter, methodType(void.class, Object.class, double.class));
+            this.booleanSetter = adapt(setter, methodType(void.class, Object.class, boolean.class));
+        }
+
+        /**
+         * Adapts the accessor to the given type, if the conversion is allowed.
+         */
+        private static MethodHandle adapt(final MethodHandle handle, final MethodType type) {
+            if (handle == null) {
+                return null;
+            }
+            try {
+                return handle.asType(type);
+            } catch (final WrongMethodTypeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the name of the property.
+         * @return The name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the type of the property.
+         * @return The type
+         */
+        public Class<?> type() {
+            return type;
+        }
+
+        /**
+         * Determines whether the property has a getter.
+         * @return True, if the property can be read
+         */
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        /**
+         * Determines whether the property has a setter.
+         * @return True, if the property can be written
+         */
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        /**
+         * Reads the value of the property.
+         * @param bean The bean to be read
+         * @return The value, primitives are boxed
+         */
+        public Object get(final T bean) {
+            try {
+                return check(getter, false).invokeExact((Object) bean);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Reads the value of the property as an int.
+         * @param bean The bean to be read
+         * @return The value
+         */
+        public int getInt(final T bean) {
+            try {
+                return (int) check(intGetter, false).invokeExact((Object) bean);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Reads the value of the property as a long.
+         * @param bean The bean to be read
+         * @return The value
+         */
+        public long getLong(final T bean) {
+            try {
+                return (long) check(longGetter, false).invokeExact((Object) bean);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Reads the value of the property as a double.
+         * @param bean The bean to be read
+         * @return The value
+         */
+        public double getDouble(final T bean) {
+            try {
+                return (double) check(doubleGetter, false).invokeExact((Object) bean);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Reads the value of the property as a boolean.
+         * @param bean The bean to be read
+         * @return The value
+         */
+        public boolean getBoolean(final T bean) {
+            try {
+                return (boolean) check(booleanGetter, false).invokeExact((Object) bean);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Writes the value of the property.
+         * @param bean The bean to be written
+         * @param value The new value, primitives must be boxed
+         */
+        public void set(final T bean, final Object value) {
+            try {
+                check(setter, true).invokeExact((Object) bean, value);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Writes the value of the property from an int.
+         * @param bean The bean to be written
+         * @param value The new value
+         */
+        public void setInt(final T bean, final int value) {
+            try {
+                check(intSetter, true).invokeExact((Object) bean, value);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Writes the value of the property from a long.
+         * @param bean The bean to be written
+         * @param value The new value
+         */
+        public void setLong(final T bean, final long value) {
+            try {
+                check(longSetter, true).invokeExact((Object) bean, value);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Writes the value of the property from a double.
+         * @param bean The bean to be written
+         * @param value The new value
+         */
+        public void setDouble(final T bean, final double value) {
+            try {
+                check(doubleSetter, true).invokeExact((Object) bean, value);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Writes the value of the property from a boolean.
+         * @param bean The bean to be written
+         * @param value The new value
+         */
+        public void setBoolean(final T bean, final boolean value) {
+            try {
+                check(booleanSetter, true).invokeExact((Object) bean, value);
+            } catch (final BeanMirrorException e) {
+                throw e;
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        }
+
+        /**
+         * Returns the accessor, or throws if the property does not
+         * have one, or it cannot be converted to the requested type.
+         */
+        private MethodHandle check(final MethodHandle handle, final boolean write) {
+            if (handle != null) {
+                return handle;
+            }
+            if (write ? setter == null : getter == null) {
+                throw new BeanMirrorException(new NoSuchMethodException("The property " + name + " cannot be " + (write ? "written." : "read.")));
+            }
+            throw new BeanMirrorException(new ClassCastException("The property " + name + " has the type " + type.getName() + "."));
+        }
+
+        @Override
+        public String toString() {
+            return "Property " + name + " of type " + type.getName();
+        }
+    }
+}
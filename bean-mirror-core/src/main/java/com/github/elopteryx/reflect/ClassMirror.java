@@ -1,17 +1,31 @@
 package com.github.elopteryx.reflect;
 
-import static com.github.elopteryx.reflect.internal.Utils.isSimilarSignature;
+import static com.github.elopteryx.reflect.internal.MemberCache.NO_TYPES;
 import static com.github.elopteryx.reflect.internal.Utils.types;
 import static java.lang.invoke.MethodType.methodType;
 
+import com.github.elopteryx.reflect.internal.Constants;
+import com.github.elopteryx.reflect.internal.Conversions;
+import com.github.elopteryx.reflect.internal.Events.ConstructorLookupEvent;
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.MethodResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.SimilarMethodScanEvent;
 import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
+import com.github.elopteryx.reflect.internal.MemberTable;
+import com.github.elopteryx.reflect.internal.NULL;
 
+import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -63,9 +77,16 @@ public final class ClassMirror<T> {
         try {
             final var types = types(args);
 
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-
-            final var constructorHandle = privateLookup.findConstructor(clazz, methodType(void.class, types));
+            final MethodHandle constructorHandle = MemberCache.get(clazz, lookup, Kind.CONSTRUCTOR, "<init>", void.class, types, () -> {
+                final var event = new ConstructorLookupEvent();
+                event.begin();
+                try {
+                    final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
+                    return privateLookup.findConstructor(clazz, methodType(void.class, types));
+                } finally {
+                    event.record(clazz, "<init>", types);
+                }
+            });
             return constructorHandle.invokeWithArguments(args);
 
         } catch (final Throwable e) {
@@ -73,6 +94,135 @@ public final class ClassMirror<T> {
         }
     }
 
+    // CURSOR
+
+    /**
+     * Creates a new cursor for the current type. The instance fields
+     * are resolved once, then the cursor can be bound to any number of
+     * instances. The cursor is mutable, it must not be shared between threads.
+     * @return A new cursor, not bound to any object
+     */
+    public CursorMirror<T> cursor() {
+        return new CursorMirror<>(clazz, lookup);
+    }
+
+    // CONDITION
+
+    /**
+     * Starts a new condition on the field, identified by its name. The
+     * conditions can be combined and compiled into a single predicate.
+     * @param name The name of the field
+     * @return A new condition builder for the field
+     */
+    public FieldCondition<T> where(final String name) {
+        return new FieldCondition<>(clazz, name, lookup);
+    }
+
+    /**
+     * Creates a new comparator, using the given fields as sort keys. Each
+     * key is the name of a field, optionally followed by 'asc' or 'desc'.
+     * Null values are ordered last by default.
+     * @param keys The sort keys, in the order of precedence
+     * @return A new comparator
+     */
+    public FieldComparator<T> comparator(final String... keys) {
+        return new FieldComparator<>(clazz, lookup, keys);
+    }
+
+    /**
+     * Starts a new aggregation over the elements. The aggregates are
+     * computed in parallel, when the aggregation is executed.
+     * @param elements The elements to be aggregated
+     * @return A new aggregation builder
+     */
+    public Aggregation<T> aggregate(final Collection<T> elements) {
+        return new Aggregation<>(clazz, lookup, elements);
+    }
+
+    /**
+     * Creates a new index builder for the integral field, identified by
+     * its name. The builder creates unique or multi-value indexes, which
+     * store the keys without boxing.
+     * @param name The name of the field
+     * @return A new index builder
+     */
+    public FieldIndex.Builder<T> indexBy(final String name) {
+        return new FieldIndex.Builder<>(clazz, lookup, name);
+    }
+
+    // BINDER
+
+    /**
+     * Creates a new binder for comma separated values, with quoting.
+     * The current type must have a no-arg constructor.
+     * @return A new binder
+     */
+    public CsvBinder<T> csv() {
+        return new CsvBinder<>(clazz, lookup, ',', true);
+    }
+
+    /**
+     * Creates a new binder for tab separated values, without quoting.
+     * The current type must have a no-arg constructor.
+     * @return A new binder
+     */
+    public CsvBinder<T> tsv() {
+        return new CsvBinder<>(clazz, lookup, '\t', false);
+    }
+
+    // PROPERTY
+
+    /**
+     * Returns the JavaBeans properties of the current type, discovered
+     * from its public getter and setter methods. The properties are
+     * discovered once and cached with the other members of the type.
+     * @return The properties
+     */
+    public BeanProperties<T> properties() {
+        try {
+            return MemberCache.get(clazz, lookup, Kind.PROPERTIES, "<properties>", null, NO_TYPES,
+                    () -> new BeanProperties<>(clazz, MethodHandles.privateLookupIn(clazz, lookup)));
+        } catch (final IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    // ANNOTATION
+
+    /**
+     * Returns the fields and methods declared by the current type,
+     * which are annotated with the given annotation. The members and
+     * their accessors are resolved once and cached with the other
+     * members of the type.
+     * @param annotationType The type of the annotation, must be retained at runtime
+     * @param <A> The generic type
+     * @return An immutable list of the annotated members
+     */
+    public <A extends Annotation> List<AnnotatedMember<T, A>> annotated(final Class<A> annotationType) {
+        return annotated(annotationType, false);
+    }
+
+    /**
+     * Returns the fields and methods of the current type, which are annotated
+     * with the given annotation. If the hierarchy is included, then the members
+     * of the superclasses follow the members of the type, except for the
+     * overridden methods. The members and their accessors are resolved once
+     * and cached with the other members of the type.
+     * @param annotationType The type of the annotation, must be retained at runtime
+     * @param hierarchy Whether the superclasses should be scanned too
+     * @param <A> The generic type
+     * @return An immutable list of the annotated members
+     */
+    public <A extends Annotation> List<AnnotatedMember<T, A>> annotated(final Class<A> annotationType, final boolean hierarchy) {
+        Objects.requireNonNull(annotationType);
+        try {
+            return MemberCache.get(clazz, lookup, Kind.ANNOTATED, hierarchy ? "<hierarchy>" : "<declared>", annotationType, NO_TYPES,
+                    () -> AnnotatedMember.scan(clazz, lookup, annotationType, hierarchy));
+        } catch (final IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
     // FIELD
 
     /**
@@ -88,7 +238,9 @@ public final class ClassMirror<T> {
     }
 
     /**
-     * Sets the value of the field, identified by its name.
+     * Sets the value of the field, identified by its name. The value is
+     * converted to the type of the field, by unboxing and widening, by
+     * parsing strings or by the converters registered in {@link BeanMirror}.
      * @param name The name of the field
      * @param value The new value
      * @return The same mirror instance
@@ -98,6 +250,39 @@ public final class ClassMirror<T> {
         return this;
     }
 
+    /**
+     * Returns a supplier of the value of the static field, identified by its
+     * name. The value of a final field is read once, the supplier returns it
+     * from a constant method handle. The value of other fields is cached
+     * too, until the field is written with {@link #setStatic(String, Object)},
+     * which invalidates the cached value with a switch point. Writes by other
+     * means, including the setters created by the mirrors, are not detected.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return A new Supplier
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Supplier<R> constant(final String name, final Class<R> clazz) {
+        final MethodHandle handle;
+        try {
+            handle = MemberCache.get(this.clazz, lookup, Kind.CONSTANT, name, clazz, NO_TYPES, () -> {
+                final var field = MemberTable.of(this.clazz).staticField(name);
+                final var getter = MemberTable.lookup(field, lookup).findStaticGetter(field.getDeclaringClass(), name, clazz);
+                return Constants.constant(field, getter.asType(methodType(Object.class)));
+            });
+        } catch (final ReflectiveOperationException e) {
+            throw new BeanMirrorException(e);
+        }
+        return () -> {
+            try {
+                return (R) (Object) handle.invokeExact();
+            } catch (final Throwable throwable) {
+                throw new BeanMirrorException(throwable);
+            }
+        };
+    }
+
     /**
      * Switches over to the field, identified by its name.
      * @param name The name of the field
@@ -112,25 +297,67 @@ public final class ClassMirror<T> {
     }
 
     private Object getField(final String fieldName, final Class<?> fieldType) {
+        return findField(fieldName, fieldType).get();
+    }
+
+    private void setField(final String name, final Object value) {
         try {
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var varHandle = privateLookup.findStaticVarHandle(clazz, fieldName, fieldType);
-            return varHandle.get();
-        } catch (final NoSuchFieldException | IllegalAccessException e) {
-            throw new BeanMirrorException(e);
+            findSetter(name, value == null ? NULL.class : value.getClass()).invokeExact(value);
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
         }
     }
 
-    private void setField(final String name, final Object value) {
+    /**
+     * Returns the static field. The cache is queried first, so the
+     * resolver is only created if the field is not cached yet.
+     */
+    private VarHandle findField(final String name, final Class<?> fieldType) {
+        final VarHandle cached = MemberCache.find(clazz, lookup, Kind.STATIC_FIELD, name, fieldType, NO_TYPES);
+        return cached != null ? cached : resolveField(name, fieldType);
+    }
+
+    private VarHandle resolveField(final String name, final Class<?> fieldType) {
         try {
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var handle = privateLookup.findStaticVarHandle(clazz, name, value.getClass());
-            handle.set(value);
-        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            return MemberCache.get(clazz, lookup, Kind.STATIC_FIELD, name, fieldType, NO_TYPES, () -> {
+                final var event = new FieldResolutionEvent();
+                event.begin();
+                try {
+                    final var field = MemberTable.of(clazz).staticField(name);
+                    return MemberTable.lookup(field, lookup).findStaticVarHandle(field.getDeclaringClass(), name, fieldType);
+                } finally {
+                    event.record(clazz, name, fieldType);
+                }
+            });
+        } catch (final ReflectiveOperationException e) {
             throw new BeanMirrorException(e);
         }
     }
 
+    /**
+     * Returns the setter of the static field, converting the values of the given type.
+     */
+    private MethodHandle findSetter(final String name, final Class<?> valueType) throws ReflectiveOperationException {
+        final MethodHandle cached = MemberCache.find(clazz, lookup, Kind.STATIC_SETTER, name, valueType, NO_TYPES);
+        return cached != null ? cached : resolveSetter(name, valueType);
+    }
+
+    private MethodHandle resolveSetter(final String name, final Class<?> valueType) throws ReflectiveOperationException {
+        return MemberCache.get(clazz, lookup, Kind.STATIC_SETTER, name, valueType, NO_TYPES, () -> {
+            final var event = new FieldResolutionEvent();
+            event.begin();
+            try {
+                final var field = MemberTable.of(clazz).staticField(name);
+                final var setter = MemberTable.lookup(field, lookup).findStaticSetter(field.getDeclaringClass(), name, field.getType());
+                return Constants.invalidating(field, Conversions.setter(setter, valueType)).asType(methodType(void.class, Object.class));
+            } finally {
+                event.record(clazz, name, valueType);
+            }
+        });
+    }
+
     /**
      * Creates a new function which can be used to get the value of
      * field for the object given to the function. The input
@@ -189,6 +416,31 @@ public final class ClassMirror<T> {
         return Functional.createStaticSetter(name, lookup, type, clazz);
     }
 
+    /**
+     * Creates a new function which can be used to create instances of
+     * the current type from rows of values. The values are assigned to
+     * the fields in the order of the given names, extra values are ignored.
+     * If there is a constructor with parameters of the same names and
+     * types, it will be used, otherwise the fields are set after calling
+     * the no-arg constructor.
+     * @param columns The names of the fields
+     * @return A new Function
+     */
+    public Function<Object[], T> rowReader(final String... columns) {
+        return Functional.createRowReader(columns, lookup, clazz);
+    }
+
+    /**
+     * Creates a new bi-consumer which can be used to copy the values of
+     * the fields into a row, in the order of the given names. The row must
+     * have at least as many elements as the number of the names.
+     * @param columns The names of the fields
+     * @return A new BiConsumer
+     */
+    public BiConsumer<T, Object[]> rowWriter(final String... columns) {
+        return Functional.createRowWriter(columns, lookup, clazz);
+    }
+
     // METHOD
 
     /**
@@ -239,25 +491,142 @@ public final class ClassMirror<T> {
 
     private MethodHandle findMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var types = types(args);
-        final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
+        return MemberCache.get(clazz, lookup, Kind.STATIC_METHOD, name, returnType, types, () -> resolveMethod(returnType, name, types));
+    }
+
+    private MethodHandle resolveMethod(final Class<?> returnType, final String name, final Class<?>... types) throws Throwable {
+        final var event = new MethodResolutionEvent();
+        event.begin();
         try {
+            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
             return privateLookup.findStatic(clazz, name, methodType(returnType, types));
         } catch (final NoSuchMethodException e) {
             try {
-                return similarMethod(lookup, name, types);
+                return similarMethod(name, true, types);
             } catch (final NoSuchMethodException e1) {
                 throw new BeanMirrorException(e1);
             }
+        } finally {
+            event.record(clazz, name, types);
         }
     }
 
-    private MethodHandle similarMethod(final Lookup lookup, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
-        for (final var method : clazz.getMethods()) {
-            if (Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return lookup.unreflect(method);
+    private MethodHandle similarMethod(final String name, final boolean isStatic, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
+        final var event = new SimilarMethodScanEvent();
+        event.begin();
+        try {
+            final var method = MemberTable.of(clazz).similarMethod(name, isStatic, types);
+            return MemberTable.lookup(method, lookup).unreflect(method);
+        } finally {
+            event.record(clazz, name, types);
+        }
+    }
+
+    // BATCH
+
+    /**
+     * Invokes the instance method on each element, on the common fork-join pool.
+     * @param elements The elements to be processed
+     * @param name The name of the method
+     * @param args The arguments which will be used for each invocation
+     * @return The result, with the failed elements
+     * @see #invokeAll(Executor, Collection, String, Object...)
+     */
+    public BatchResult<T> invokeAll(final Collection<T> elements, final String name, final Object... args) {
+        return invokeAll(ForkJoinPool.commonPool(), elements, name, args);
+    }
+
+    /**
+     * Invokes the instance method on each element. The method is identified
+     * by its name and the given arguments, the same way as with
+     * {@link ObjectMirror#run(String, Object...)}, but it is resolved only
+     * once, on the current type. The elements are processed on the executor,
+     * a fork-join pool splits them into ranges, other executors receive a task
+     * for each element, which suits the methods which block. The exceptions
+     * thrown by the method are collected into the result, they do not stop
+     * the batch. The returned values are ignored.
+     * @param executor The executor to be used
+     * @param elements The elements to be processed
+     * @param name The name of the method
+     * @param args The arguments which will be used for each invocation
+     * @return The result, with the failed elements
+     */
+    public BatchResult<T> invokeAll(final Executor executor, final Collection<T> elements, final String name, final Object... args) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(elements);
+        final MethodHandle action;
+        try {
+            final var types = types(args);
+            action = MemberCache.get(clazz, lookup, Kind.BATCH, name, void.class, types, () -> {
+                final var method = resolveVirtualMethod(name, types);
+                return method.asType(method.type().generic().changeReturnType(void.class))
+                        .asSpreader(Object[].class, types.length)
+                        .asType(methodType(void.class, Object.class, Object.class));
+            });
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+        return BatchResult.execute(elements, executor, action, args);
+    }
+
+    /**
+     * Sets the instance field of each element, on the common fork-join pool.
+     * @param elements The elements to be processed
+     * @param name The name of the field
+     * @param value The new value
+     * @return The result, with the failed elements
+     * @see #setAll(Executor, Collection, String, Object)
+     */
+    public BatchResult<T> setAll(final Collection<T> elements, final String name, final Object value) {
+        return setAll(ForkJoinPool.commonPool(), elements, name, value);
+    }
+
+    /**
+     * Sets the instance field of each element, identified by its name. The
+     * value is converted to the type of the field once, the same way as with
+     * {@link ObjectMirror#set(String, Object)}. The elements are processed on
+     * the executor, the same way as with the method invocations, the
+     * failed elements are collected into the result.
+     * @param executor The executor to be used
+     * @param elements The elements to be processed
+     * @param name The name of the field
+     * @param value The new value
+     * @return The result, with the failed elements
+     */
+    public BatchResult<T> setAll(final Executor executor, final Collection<T> elements, final String name, final Object value) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(elements);
+        final MethodHandle action;
+        final Object converted;
+        try {
+            final var fieldType = MemberTable.of(clazz).field(name).getType();
+            converted = (Object) Conversions.converter(value == null ? NULL.class : value.getClass(), fieldType).invoke(value);
+            action = Functional.findSetter(name, lookup, clazz, fieldType);
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+        return BatchResult.execute(elements, executor, action, converted);
+    }
+
+    private MethodHandle resolveVirtualMethod(final String name, final Class<?>... types) throws Throwable {
+        final var event = new MethodResolutionEvent();
+        event.begin();
+        try {
+            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
+            return privateLookup.findVirtual(clazz, name, methodType(void.class, types));
+        } catch (final NoSuchMethodException e) {
+            try {
+                return similarMethod(name, false, types);
+            } catch (final NoSuchMethodException e1) {
+                throw new BeanMirrorException(e1);
             }
+        } finally {
+            event.record(clazz, name, types);
         }
-        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + clazz + ".");
     }
 
     @Override
@@ -0,0 +1,142 @@
+package com.github.elopteryx.reflect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A condition on the fields of a type, which can be combined with
+ * other conditions and compiled into a single predicate. The field
+ * accessors are resolved when the condition is created, the compiled
+ * predicate does not perform any lookups. The class instances are immutable.
+ *
+ * <p>When compiling, the operands of consecutive 'and' and 'or' operations
+ * are reordered by their estimated cost, so the cheap primitive comparisons
+ * can short-circuit the more expensive ones.</p>
+ */
+public final class Criteria<T> {
+
+    /**
+     * Collections with at least this many elements are filtered in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    private enum Kind { LEAF, AND, OR, NOT }
+
+    private final Kind kind;
+
+    /**
+     * The compiled condition, only for leaves.
+     */
+    private final Predicate<T> predicate;
+
+    /**
+     * The estimated cost of the evaluation.
+     */
+    private final int cost;
+
+    private final List<Criteria<T>> operands;
+
+    private Criteria(final Kind kind, final Predicate<T> predicate, final int cost, final List<Criteria<T>> operands) {
+        this.kind = kind;
+        this.predicate = predicate;
+        this.cost = cost;
+        this.operands = operands;
+    }
+
+    static <T> Criteria<T> leaf(final Predicate<T> predicate, final int cost) {
+        return new Criteria<>(Kind.LEAF, predicate, cost, List.of());
+    }
+
+    /**
+     * Combines this condition with the given one, both must be true.
+     * @param other The other condition
+     * @return A new condition
+     */
+    public Criteria<T> and(final Criteria<T> other) {
+        return combine(Kind.AND, other);
+    }
+
+    /**
+     * Combines this condition with the given one, either must be true.
+     * @param other The other condition
+     * @return A new condition
+     */
+    public Criteria<T> or(final Criteria<T> other) {
+        return combine(Kind.OR, other);
+    }
+
+    /**
+     * Negates this condition.
+     * @return A new condition
+     */
+    public Criteria<T> negate() {
+        return new Criteria<>(Kind.NOT, null, cost, List.of(this));
+    }
+
+    private Criteria<T> combine(final Kind kind, final Criteria<T> other) {
+        Objects.requireNonNull(other);
+        return new Criteria<>(kind, null, cost + other.cost, List.of(this, other));
+    }
+
+    /**
+     * Compiles the condition into a predicate.
+     * @return A new predicate
+     */
+    public Predicate<T> toPredicate() {
+        switch (kind) {
+            case LEAF:
+                return predicate;
+            case NOT:
+                return operands.get(0).toPredicate().negate();
+            default:
+                final var flattened = new ArrayList<Criteria<T>>();
+                flatten(kind, flattened);
+                flattened.sort(Comparator.comparingInt(criteria -> criteria.cost));
+                var result = flattened.get(flattened.size() - 1).toPredicate();
+                for (var i = flattened.size() - 2; i >= 0; i--) {
+                    final var first = flattened.get(i).toPredicate();
+                    final var rest = result;
+                    result = kind == Kind.AND
+                            ? obj -> first.test(obj) && rest.test(obj)
+                            : obj -> first.test(obj) || rest.test(obj);
+                }
+                return result;
+        }
+    }
+
+    private void flatten(final Kind parent, final List<Criteria<T>> result) {
+        if (kind == parent) {
+            for (final var operand : operands) {
+                operand.flatten(parent, result);
+            }
+        } else {
+            result.add(this);
+        }
+    }
+
+    /**
+     * Returns the elements of the collection which satisfy the condition,
+     * keeping their order. Large collections are filtered in parallel.
+     * @param collection The elements to be filtered
+     * @return A new list
+     */
+    public List<T> filter(final Collection<T> collection) {
+        final var compiled = toPredicate();
+        if (collection.size() >= PARALLEL_THRESHOLD) {
+            return collection.parallelStream().filter(compiled).collect(Collectors.toList());
+        }
+        final var result = new ArrayList<T>();
+        for (final var element : collection) {
+            if (compiled.test(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,501 @@
+package com.github.elopteryx.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.internal.ByteParsers;
+import com.github.elopteryx.reflect.internal.Conversions;
+import com.github.elopteryx.reflect.internal.Events.ConstructorLookupEvent;
+import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.MemberTable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Binds the records of delimited text, like CSV or TSV, to new beans.
+ * The input is read in chunks into a reusable buffer, which only grows
+ * if a single record does not fit, so the memory used does not depend
+ * on the size of the input. The columns are mapped to fields by their
+ * names, using the header or the given column names. Columns without
+ * a matching field are skipped.
+ *
+ * <p>The setters are compiled once for each column name and cached.
+ * Primitive fields are parsed directly from the bytes, without
+ * creating strings or boxing. The other types are converted from strings,
+ * with the same conversions as the setters of the mirrors, including
+ * the registered converters. The columns of fields without a conversion
+ * are skipped. Empty values do not change the field,
+ * it keeps the value set by the constructor. The beans are created
+ * with their no-arg constructors.</p>
+ *
+ * <p>The input must be UTF-8 encoded, a byte order mark is ignored.
+ * With quoting enabled, values can be enclosed in double quotes, and
+ * can contain separators, line breaks and escaped quotes. The class
+ * instances are immutable and can be shared between threads.</p>
+ */
+public final class CsvBinder<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte QUOTE = '"';
+
+    private static final byte NEW_LINE = '\n';
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /**
+     * Binds a single value to a field of the bean.
+     */
+    @FunctionalInterface
+    private interface Column {
+
+        void bind(Object bean, byte[] bytes, int start, int end);
+    }
+
+    private static final Column SKIP = (bean, bytes, start, end) -> {};
+
+    private final Class<T> clazz;
+
+    private final Lookup lookup;
+
+    private final MethodHandle constructor;
+
+    /**
+     * The compiled columns, by their names. Shared
+     * by all binders created from the same mirror.
+     */
+    private final Map<String, Column> compiled;
+
+    private final byte separator;
+
+    private final boolean quoting;
+
+    private final String[] columns;
+
+    private final int bufferSize;
+
+    CsvBinder(final Class<T> clazz, final Lookup lookup, final char separator, final boolean quoting) {
+        this.clazz = clazz;
+        this.lookup = lookup;
+        this.compiled = new ConcurrentHashMap<>();
+        this.separator = ascii(separator);
+        this.quoting = quoting;
+        this.columns = null;
+        this.bufferSize = DEFAULT_BUFFER_SIZE;
+        final var event = new ConstructorLookupEvent();
+        event.begin();
+        try {
+            this.constructor = MethodHandles.privateLookupIn(clazz, lookup).findConstructor(clazz, methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        } finally {
+            event.record(clazz, "<init>", new Class<?>[0]);
+        }
+    }
+
+    private CsvBinder(final CsvBinder<T> binder, final byte separator, final boolean quoting, final String[] columns, final int bufferSize) {
+        this.clazz = binder.clazz;
+        this.lookup = binder.lookup;
+        this.constructor = binder.constructor;
+        this.compiled = binder.compiled;
+        this.separator = separator;
+        this.quoting = quoting;
+        this.columns = columns;
+        this.bufferSize = bufferSize;
+    }
+
+    private static byte ascii(final char separator) {
+        if (separator > 127 || separator == QUOTE || separator == NEW_LINE || separator == CARRIAGE_RETURN) {
+            throw new BeanMirrorException(new IllegalArgumentException("Invalid separator: " + separator));
+        }
+        return (byte) separator;
+    }
+
+    /**
+     * Returns a binder with the given separator.
+     * @param separator The separator, must be an ASCII character
+     * @return A new binder
+     */
+    public CsvBinder<T> separator(final char separator) {
+        return new CsvBinder<>(this, ascii(separator), quoting, columns, bufferSize);
+    }
+
+    /**
+     * Returns a binder with quoting enabled or disabled.
+     * @param quoting Whether quoted values are supported
+     * @return A new binder
+     */
+    public CsvBinder<T> quoting(final boolean quoting) {
+        return new CsvBinder<>(this, separator, quoting, columns, bufferSize);
+    }
+
+    /**
+     * Returns a binder which uses the given column names. The first
+     * record will be bound as data, not as a header.
+     * @param columns The names of the columns, in order
+     * @return A new binder
+     */
+    public CsvBinder<T> columns(final String... columns) {
+        return new CsvBinder<>(this, separator, quoting, columns.clone(), bufferSize);
+    }
+
+    /**
+     * Returns a binder with the given initial buffer size.
+     * @param bufferSize The size of the buffer in bytes
+     * @return A new binder
+     */
+    public CsvBinder<T> bufferSize(final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new BeanMirrorException(new IllegalArgumentException("Invalid buffer size: " + bufferSize));
+        }
+        return new CsvBinder<>(this, separator, quoting, columns, bufferSize);
+    }
+
+    /**
+     * Reads the file, passing each bean to the consumer.
+     * @param path The path of the file
+     * @param consumer The consumer of the beans
+     * @return The number of beans
+     */
+    public long read(final Path path, final Consumer<? super T> consumer) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel, consumer);
+        } catch (final IOException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Reads the file, passing the beans to the consumer in batches.
+     * @param path The path of the file
+     * @param batchSize The maximum size of the batches
+     * @param consumer The consumer of the batches
+     * @return The number of beans
+     */
+    public long read(final Path path, final int batchSize, final Consumer<? super List<T>> consumer) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel, batchSize, consumer);
+        } catch (final IOException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Reads the channel until its end, passing the beans to the consumer in
+     * batches. Each batch is a new list, which is not used after it was passed.
+     * The channel is not closed.
+     * @param channel The source channel
+     * @param batchSize The maximum size of the batches
+     * @param consumer The consumer of the batches
+     * @return The number of beans
+     */
+    public long read(final ReadableByteChannel channel, final int batchSize, final Consumer<? super List<T>> consumer) {
+        if (batchSize < 1) {
+            throw new BeanMirrorException(new IllegalArgumentException("Invalid batch size: " + batchSize));
+        }
+        final var batch = new ArrayList<List<T>>(1);
+        batch.add(new ArrayList<>(batchSize));
+        final var result = read(channel, bean -> {
+            final var current = batch.get(0);
+            current.add(bean);
+            if (current.size() == batchSize) {
+                consumer.accept(current);
+                batch.set(0, new ArrayList<>(batchSize));
+            }
+        });
+        if (!batch.get(0).isEmpty()) {
+            consumer.accept(batch.get(0));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the channel until its end, passing each bean to the consumer.
+     * The channel is not closed.
+     * @param channel The source channel
+     * @param consumer The consumer of the beans
+     * @return The number of beans
+     */
+    public long read(final ReadableByteChannel channel, final Consumer<? super T> consumer) {
+        var buffer = new byte[bufferSize];
+        var bound = columns == null ? null : compile(columns);
+        final var values = new Values();
+        var start = 0;
+        var limit = 0;
+        var eof = false;
+        var first = true;
+        var record = 0L;
+        var beans = 0L;
+        while (true) {
+            var end = recordEnd(buffer, start, limit);
+            if (end < 0) {
+                if (!eof) {
+                    if (start > 0) {
+                        System.arraycopy(buffer, start, buffer, 0, limit - start);
+                        limit -= start;
+                        start = 0;
+                    }
+                    if (limit == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    final var read = fill(channel, buffer, limit);
+                    eof = read < 0;
+                    limit += Math.max(0, read);
+                    continue;
+                } else if (start == limit) {
+                    break;
+                }
+                end = limit;
+            }
+            final var next = Math.min(end + 1, limit);
+            if (first) {
+                first = false;
+                if (end - start >= 3 && buffer[start] == (byte) 0xEF && buffer[start + 1] == (byte) 0xBB && buffer[start + 2] == (byte) 0xBF) {
+                    start += 3;
+                }
+            }
+            if (end > start && buffer[end - 1] == CARRIAGE_RETURN) {
+                end--;
+            }
+            record++;
+            if (end > start) {
+                final var count = split(buffer, start, end, values);
+                final var starts = values.starts;
+                final var ends = values.ends;
+                if (bound == null) {
+                    final var names = new String[count];
+                    for (var i = 0; i < count; i++) {
+                        names[i] = new String(buffer, starts[i], ends[i] - starts[i], StandardCharsets.UTF_8).trim();
+                    }
+                    bound = compile(names);
+                } else {
+                    consumer.accept(bind(bound, buffer, starts, ends, Math.min(count, bound.length), record));
+                    beans++;
+                }
+            }
+            start = next;
+        }
+        return beans;
+    }
+
+    private static int fill(final ReadableByteChannel channel, final byte[] buffer, final int offset) {
+        try {
+            return channel.read(ByteBuffer.wrap(buffer, offset, buffer.length - offset));
+        } catch (final IOException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    /**
+     * Finds the end of the record, a line break outside of quotes.
+     * @return The index of the line break, or -1 if the record is incomplete
+     */
+    private int recordEnd(final byte[] buffer, final int start, final int limit) {
+        var quoted = false;
+        for (var i = start; i < limit; i++) {
+            final var current = buffer[i];
+            if (current == NEW_LINE && !quoted) {
+                return i;
+            } else if (current == QUOTE && quoting) {
+                quoted = !quoted;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The bounds of the values in the current record. The arrays are
+     * reused between the records, and grown if a record has more values.
+     */
+    private static final class Values {
+
+        private int[] starts = new int[16];
+
+        private int[] ends = new int[16];
+    }
+
+    /**
+     * Finds the values of the record. Quoted values are unescaped in
+     * place, so the record can only be split once.
+     * @return The number of values
+     */
+    private int split(final byte[] buffer, final int start, final int end, final Values values) {
+        var count = 0;
+        var position = start;
+        while (true) {
+            final int valueStart;
+            final int valueEnd;
+            if (quoting && position < end && buffer[position] == QUOTE) {
+                valueStart = position;
+                var write = position;
+                var read = position + 1;
+                while (read < end) {
+                    if (buffer[read] != QUOTE) {
+                        buffer[write++] = buffer[read++];
+                    } else if (read + 1 < end && buffer[read + 1] == QUOTE) {
+                        buffer[write++] = QUOTE;
+                        read += 2;
+                    } else {
+                        read++;
+                        break;
+                    }
+                }
+                valueEnd = write;
+                while (read < end && buffer[read] != separator) {
+                    read++;
+                }
+                position = read;
+            } else {
+                valueStart = position;
+                while (position < end && buffer[position] != separator) {
+                    position++;
+                }
+                valueEnd = position;
+            }
+            if (count == values.starts.length) {
+                values.starts = Arrays.copyOf(values.starts, count * 2);
+                values.ends = Arrays.copyOf(values.ends, count * 2);
+            }
+            values.starts[count] = valueStart;
+            values.ends[count] = valueEnd;
+            count++;
+            if (position >= end) {
+                return count;
+            }
+            position++;
+        }
+    }
+
+    private Column[] compile(final String... names) {
+        final var result = new Column[names.length];
+        for (var i = 0; i < names.length; i++) {
+            result[i] = compiled.computeIfAbsent(names[i], this::column);
+        }
+        return result;
+    }
+
+    private Column column(final String name) {
+        final VarHandle handle;
+        try {
+            MemberTable.of(clazz).field(name);
+            handle = Functional.findVarHandle(name, lookup, clazz);
+        } catch (final NoSuchFieldException e) {
+            return SKIP;
+        }
+        final var type = handle.varType();
+        if (type == int.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseInt(bytes, start, end));
+        } else if (type == long.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseLong(bytes, start, end));
+        } else if (type == double.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseDouble(bytes, start, end));
+        } else if (type == float.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseFloat(bytes, start, end));
+        } else if (type == short.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseShort(bytes, start, end));
+        } else if (type == byte.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseByte(bytes, start, end));
+        } else if (type == boolean.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, ByteParsers.parseBoolean(bytes, start, end));
+        } else if (type == char.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, character(string(bytes, start, end)));
+        } else if (type == String.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, string(bytes, start, end));
+        } else if (type == Integer.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Integer) ByteParsers.parseInt(bytes, start, end));
+        } else if (type == Long.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Long) ByteParsers.parseLong(bytes, start, end));
+        } else if (type == Double.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Double) ByteParsers.parseDouble(bytes, start, end));
+        } else if (type == Float.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Float) ByteParsers.parseFloat(bytes, start, end));
+        } else if (type == Short.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Short) ByteParsers.parseShort(bytes, start, end));
+        } else if (type == Byte.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Byte) ByteParsers.parseByte(bytes, start, end));
+        } else if (type == Boolean.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Boolean) ByteParsers.parseBoolean(bytes, start, end));
+        } else if (type == Character.class) {
+            return (bean, bytes, start, end) -> handle.set(bean, (Character) character(string(bytes, start, end)));
+        } else if (type.isEnum()) {
+            return (bean, bytes, start, end) -> handle.set(bean, enumValue(type, string(bytes, start, end).trim()));
+        }
+        final MethodHandle converter;
+        try {
+            converter = Conversions.converter(String.class, type).asType(methodType(Object.class, Object.class));
+        } catch (final ClassCastException e) {
+            return SKIP;
+        }
+        return (bean, bytes, start, end) -> handle.set(bean, convert(converter, string(bytes, start, end)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T bind(final Column[] bound, final byte[] buffer, final int[] starts, final int[] ends, final int count, final long record) {
+        final T bean;
+        try {
+            bean = (T) constructor.invoke();
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+        for (var i = 0; i < count; i++) {
+            if (starts[i] < ends[i]) {
+                try {
+                    bound[i].bind(bean, buffer, starts[i], ends[i]);
+                } catch (final IllegalArgumentException e) {
+                    throw new BeanMirrorException(new IllegalArgumentException("Invalid value '" + string(buffer, starts[i], ends[i])
+                            + "' in record " + record + ", column " + (i + 1) + ".", e));
+                }
+            }
+        }
+        return bean;
+    }
+
+    private static String string(final byte[] bytes, final int start, final int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static char character(final String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Not a single character: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * Applies the converter, reporting its failures as invalid values.
+     */
+    private static Object convert(final MethodHandle converter, final String value) {
+        try {
+            return (Object) converter.invokeExact((Object) value);
+        } catch (final IllegalArgumentException | Error e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new IllegalArgumentException(throwable);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(final Class<?> type, final String value) {
+        return Enum.valueOf((Class) type, value);
+    }
+
+    @Override
+    public String toString() {
+        return "Binder for " + clazz + " with separator '" + (char) separator + "'";
+    }
+}
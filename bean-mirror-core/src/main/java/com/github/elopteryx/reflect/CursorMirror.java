@@ -0,0 +1,253 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.MemberCache.NO_TYPES;
+import static com.github.elopteryx.reflect.internal.Utils.wrapper;
+
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
+import com.github.elopteryx.reflect.internal.MemberTable;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A rebindable object accessor. The instance fields of the
+ * type are resolved once per type and lookup, and shared by
+ * the cursors, then a cursor can be pointed at any number of
+ * instances without creating new mirrors or resolving again.
+ * The inherited fields which the lookup cannot access, like the
+ * private fields of the JDK superclasses, are left out.
+ *
+ * <p>Unlike the other mirrors the cursor is mutable, it
+ * must not be shared between threads.</p>
+ */
+public final class CursorMirror<T> {
+
+    /**
+     * The type of the objects. Cannot be null.
+     */
+    private final Class<T> clazz;
+
+    /**
+     * The resolved fields, by their names. Shared
+     * by the cursors of the same type and lookup.
+     */
+    private final Map<String, VarHandle> handles;
+
+    /**
+     * The currently bound value. Null until
+     * the first bind.
+     */
+    private T object;
+
+    CursorMirror(final Class<T> clazz, final Lookup lookup) {
+        this.clazz = clazz;
+        try {
+            this.handles = MemberCache.get(clazz, lookup, Kind.CURSOR, "<cursor>", null, NO_TYPES, () -> resolve(clazz, lookup));
+        } catch (final ReflectiveOperationException e) {
+            throw new BeanMirrorException(e);
+        }
+    }
+
+    private static Map<String, VarHandle> resolve(final Class<?> clazz, final Lookup lookup) throws NoSuchFieldException, IllegalAccessException {
+        final var handles = new HashMap<String, VarHandle>();
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            for (final var field : MemberTable.of(clazz).fields()) {
+                final var declaringClass = field.getDeclaringClass();
+                final Lookup fieldLookup;
+                try {
+                    fieldLookup = MemberTable.lookup(field, lookup);
+                } catch (final IllegalAccessException e) {
+                    if (declaringClass == clazz) {
+                        throw e;
+                    }
+                    continue;
+                }
+                handles.put(field.getName(), fieldLookup.findVarHandle(declaringClass, field.getName(), field.getType()));
+            }
+        } finally {
+            event.record(clazz, "*", (Class<?>) null);
+        }
+        return Map.copyOf(handles);
+    }
+
+    // OBJECT
+
+    /**
+     * Points the cursor at the given object. The resolved
+     * fields will be accessed on this object until the next bind.
+     * @param object The object to be used
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> bind(final T object) {
+        this.object = Objects.requireNonNull(object);
+        return this;
+    }
+
+    /**
+     * Returns the currently bound value.
+     * @return The current value
+     */
+    public T get() {
+        return bound();
+    }
+
+    // FIELD
+
+    /**
+     * Gets the value of the field, identified by its name.
+     * @param name The name of the field
+     * @param clazz The type for the field
+     * @param <R> The generic type
+     * @return The value of the field
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(final String name, final Class<R> clazz) {
+        return (R) handle(name, clazz).get(bound());
+    }
+
+    /**
+     * Gets the value of the int field, identified by its name.
+     * @param name The name of the field
+     * @return The value of the field
+     */
+    public int getInt(final String name) {
+        return (int) handle(name, int.class).get(bound());
+    }
+
+    /**
+     * Gets the value of the long field, identified by its name.
+     * @param name The name of the field
+     * @return The value of the field
+     */
+    public long getLong(final String name) {
+        return (long) handle(name, long.class).get(bound());
+    }
+
+    /**
+     * Gets the value of the double field, identified by its name.
+     * @param name The name of the field
+     * @return The value of the field
+     */
+    public double getDouble(final String name) {
+        return (double) handle(name, double.class).get(bound());
+    }
+
+    /**
+     * Gets the value of the boolean field, identified by its name.
+     * @param name The name of the field
+     * @return The value of the field
+     */
+    public boolean getBoolean(final String name) {
+        return (boolean) handle(name, boolean.class).get(bound());
+    }
+
+    /**
+     * Sets the value of the field, identified by its name. Primitive
+     * fields can be set with their wrapper types.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> set(final String name, final Object value) {
+        final var handle = handle(name);
+        final var type = handle.varType();
+        if (value == null ? type.isPrimitive() : !wrapper(type).isInstance(value)) {
+            throw new BeanMirrorException(new ClassCastException("Cannot set field " + name + " of type " + type + " to " + value + "."));
+        }
+        handle.set(bound(), value);
+        return this;
+    }
+
+    /**
+     * Sets the value of the int field, identified by its name.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> setInt(final String name, final int value) {
+        handle(name, int.class).set(bound(), value);
+        return this;
+    }
+
+    /**
+     * Sets the value of the long field, identified by its name.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> setLong(final String name, final long value) {
+        handle(name, long.class).set(bound(), value);
+        return this;
+    }
+
+    /**
+     * Sets the value of the double field, identified by its name.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> setDouble(final String name, final double value) {
+        handle(name, double.class).set(bound(), value);
+        return this;
+    }
+
+    /**
+     * Sets the value of the boolean field, identified by its name.
+     * @param name The name of the field
+     * @param value The new value
+     * @return The same cursor instance
+     */
+    public CursorMirror<T> setBoolean(final String name, final boolean value) {
+        handle(name, boolean.class).set(bound(), value);
+        return this;
+    }
+
+    private T bound() {
+        if (object == null) {
+            throw new IllegalStateException("The cursor is not bound to an object!");
+        }
+        return object;
+    }
+
+    private VarHandle handle(final String name) {
+        final var handle = handles.get(name);
+        if (handle == null) {
+            throw new BeanMirrorException(missing(name));
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the cause for a field without a handle, which either
+     * does not exist, or was left out as it is not accessible.
+     */
+    private ReflectiveOperationException missing(final String name) {
+        try {
+            final var field = MemberTable.of(clazz).field(name);
+            return new IllegalAccessException("Field " + name + " of " + field.getDeclaringClass() + " is not accessible.");
+        } catch (final NoSuchFieldException e) {
+            return new NoSuchFieldException("No field " + name + " could be found on type " + clazz + ".");
+        }
+    }
+
+    private VarHandle handle(final String name, final Class<?> type) {
+        final var handle = handle(name);
+        if (handle.varType() != type) {
+            throw new BeanMirrorException(new NoSuchFieldException("No field " + name + " with type " + type + " could be found on type " + clazz + "."));
+        }
+        return handle;
+    }
+
+    @Override
+    public String toString() {
+        return clazz + " -> " + object;
+    }
+
+}
@@ -0,0 +1,256 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.Readers.doubleReader;
+import static com.github.elopteryx.reflect.internal.Readers.isIntegral;
+import static com.github.elopteryx.reflect.internal.Readers.isNumeric;
+import static com.github.elopteryx.reflect.internal.Readers.longReader;
+
+import com.github.elopteryx.reflect.internal.Functional;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A comparator using one or more fields of a type as sort keys.
+ * The fields are resolved once, when the comparator is created.
+ * Primitive fields are compared directly, without boxing. Null
+ * values of reference fields are ordered by the null policy, which
+ * is not affected by the direction of the key. The class instances
+ * are immutable.
+ */
+public final class FieldComparator<T> implements Comparator<T> {
+
+    private enum Kind { LONG, DOUBLE, REFERENCE }
+
+    /**
+     * A single sort key.
+     */
+    private static final class Key<T> {
+
+        private final Kind kind;
+
+        private final boolean descending;
+
+        private final VarHandle handle;
+
+        private final ToLongFunction<T> longReader;
+
+        private final ToDoubleFunction<T> doubleReader;
+
+        private Key(final VarHandle handle, final boolean descending) {
+            this.handle = handle;
+            this.descending = descending;
+            if (isIntegral(handle)) {
+                this.kind = Kind.LONG;
+                this.longReader = longReader(handle);
+                this.doubleReader = null;
+            } else if (isNumeric(handle)) {
+                this.kind = Kind.DOUBLE;
+                this.longReader = null;
+                this.doubleReader = doubleReader(handle);
+            } else {
+                this.kind = Kind.REFERENCE;
+                this.longReader = null;
+                this.doubleReader = null;
+            }
+        }
+    }
+
+    private final Key<T>[] keys;
+
+    private final boolean nullsFirst;
+
+    @SuppressWarnings("unchecked")
+    FieldComparator(final Class<T> clazz, final Lookup lookup, final String... specs) {
+        if (specs.length == 0) {
+            throw new BeanMirrorException(new IllegalArgumentException("At least one key is required!"));
+        }
+        this.keys = (Key<T>[]) new Key<?>[specs.length];
+        this.nullsFirst = false;
+        for (var i = 0; i < specs.length; i++) {
+            keys[i] = key(clazz, lookup, specs[i]);
+        }
+    }
+
+    private FieldComparator(final Key<T>[] keys, final boolean nullsFirst) {
+        this.keys = keys;
+        this.nullsFirst = nullsFirst;
+    }
+
+    private static <T> Key<T> key(final Class<T> clazz, final Lookup lookup, final String spec) {
+        final var parts = spec.trim().split("\\s+");
+        if (parts.length > 2 || parts.length == 2 && !"asc".equalsIgnoreCase(parts[1]) && !"desc".equalsIgnoreCase(parts[1])) {
+            throw new BeanMirrorException(new IllegalArgumentException("Invalid key: " + spec + ", expected 'name', 'name asc' or 'name desc'."));
+        }
+        final var handle = Functional.findVarHandle(parts[0], lookup, clazz);
+        final var type = handle.varType();
+        if (!type.isPrimitive() && !Comparable.class.isAssignableFrom(type)) {
+            throw new BeanMirrorException(new IllegalArgumentException("The field " + parts[0] + " of type " + type + " is not comparable."));
+        }
+        return new Key<>(handle, parts.length == 2 && "desc".equalsIgnoreCase(parts[1]));
+    }
+
+    /**
+     * Returns a comparator with the same keys, which orders null values first.
+     * @return A new comparator
+     */
+    public FieldComparator<T> nullsFirst() {
+        return new FieldComparator<>(keys, true);
+    }
+
+    /**
+     * Returns a comparator with the same keys, which orders null values last.
+     * This is the default.
+     * @return A new comparator
+     */
+    public FieldComparator<T> nullsLast() {
+        return new FieldComparator<>(keys, false);
+    }
+
+    @Override
+    public int compare(final T first, final T second) {
+        for (final var key : keys) {
+            final int result;
+            switch (key.kind) {
+                case LONG:
+                    result = direction(key, Long.compare(key.longReader.applyAsLong(first), key.longReader.applyAsLong(second)));
+                    break;
+                case DOUBLE:
+                    result = direction(key, Double.compare(key.doubleReader.applyAsDouble(first), key.doubleReader.applyAsDouble(second)));
+                    break;
+                default:
+                    result = compareObjects(key, key.handle.get(first), key.handle.get(second));
+                    break;
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts the list in place. The keys of all elements are extracted into
+     * primitive arrays first, then the elements are sorted by comparing the
+     * array entries, so the fields are only read once per element. The
+     * sort is stable.
+     * @param list The list to be sorted
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(final List<T> list) {
+        final var elements = list.toArray();
+        final var size = elements.length;
+        final var columns = new Object[keys.length];
+        for (var k = 0; k < keys.length; k++) {
+            final var key = keys[k];
+            switch (key.kind) {
+                case LONG:
+                    final var longs = new long[size];
+                    for (var i = 0; i < size; i++) {
+                        longs[i] = key.longReader.applyAsLong((T) elements[i]);
+                    }
+                    columns[k] = longs;
+                    break;
+                case DOUBLE:
+                    final var doubles = new double[size];
+                    for (var i = 0; i < size; i++) {
+                        doubles[i] = key.doubleReader.applyAsDouble((T) elements[i]);
+                    }
+                    columns[k] = doubles;
+                    break;
+                default:
+                    final var objects = new Object[size];
+                    for (var i = 0; i < size; i++) {
+                        objects[i] = key.handle.get(elements[i]);
+                    }
+                    columns[k] = objects;
+                    break;
+            }
+        }
+        final var order = new int[size];
+        for (var i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, columns);
+        final var iterator = list.listIterator();
+        for (final var index : order) {
+            iterator.next();
+            iterator.set((T) elements[index]);
+        }
+    }
+
+    private void mergeSort(final int[] order, final Object[] columns) {
+        final var size = order.length;
+        var source = order;
+        var target = new int[size];
+        for (var width = 1; width < size; width *= 2) {
+            for (var low = 0; low < size; low += 2 * width) {
+                final var middle = Math.min(low + width, size);
+                final var high = Math.min(low + 2 * width, size);
+                var left = low;
+                var right = middle;
+                var index = low;
+                while (left < middle && right < high) {
+                    target[index++] = compareRows(columns, source[left], source[right]) <= 0 ? source[left++] : source[right++];
+                }
+                while (left < middle) {
+                    target[index++] = source[left++];
+                }
+                while (right < high) {
+                    target[index++] = source[right++];
+                }
+            }
+            final var swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != order) {
+            System.arraycopy(source, 0, order, 0, size);
+        }
+    }
+
+    private int compareRows(final Object[] columns, final int first, final int second) {
+        for (var k = 0; k < keys.length; k++) {
+            final var key = keys[k];
+            final int result;
+            switch (key.kind) {
+                case LONG:
+                    final var longs = (long[]) columns[k];
+                    result = direction(key, Long.compare(longs[first], longs[second]));
+                    break;
+                case DOUBLE:
+                    final var doubles = (double[]) columns[k];
+                    result = direction(key, Double.compare(doubles[first], doubles[second]));
+                    break;
+                default:
+                    final var objects = (Object[]) columns[k];
+                    result = compareObjects(key, objects[first], objects[second]);
+                    break;
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareObjects(final Key<T> key, final Object first, final Object second) {
+        if (first == null || second == null) {
+            if (first == second) {
+                return 0;
+            }
+            return (first == null) == nullsFirst ? -1 : 1;
+        }
+        return direction(key, Integer.signum(((Comparable) first).compareTo(second)));
+    }
+
+    private static int direction(final Key<?> key, final int result) {
+        return key.descending ? -result : result;
+    }
+
+}
@@ -0,0 +1,384 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.Readers.doubleReader;
+import static com.github.elopteryx.reflect.internal.Readers.isIntegral;
+import static com.github.elopteryx.reflect.internal.Readers.isNumeric;
+import static com.github.elopteryx.reflect.internal.Readers.longReader;
+
+import com.github.elopteryx.reflect.internal.Functional;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The first part of a condition, which identifies the field.
+ * The comparison methods create the actual conditions. Primitive
+ * fields are compared with primitive operands, without boxing.
+ * A null field is not equal to any value, so it only matches the
+ * not equal conditions, never the equal or the ordering ones.
+ * Fractional values follow the comparison operators of the
+ * language, NaN only matches the not equal conditions, and
+ * positive and negative zero are equal.
+ */
+public final class FieldCondition<T> {
+
+    private static final int PRIMITIVE_COST = 1;
+    private static final int WRAPPER_COST = 2;
+    private static final int EQUALS_COST = 3;
+    private static final int COMPARE_COST = 4;
+
+    private enum Operator {
+        EQ, NE, GT, GE, LT, LE;
+
+        boolean test(final int comparison) {
+            switch (this) {
+                case EQ:
+                    return comparison == 0;
+                case NE:
+                    return comparison != 0;
+                case GT:
+                    return comparison > 0;
+                case GE:
+                    return comparison >= 0;
+                case LT:
+                    return comparison < 0;
+                default:
+                    return comparison <= 0;
+            }
+        }
+
+        boolean test(final double first, final double second) {
+            switch (this) {
+                case EQ:
+                    return first == second;
+                case NE:
+                    return first != second;
+                case GT:
+                    return first > second;
+                case GE:
+                    return first >= second;
+                case LT:
+                    return first < second;
+                default:
+                    return first <= second;
+            }
+        }
+    }
+
+    /**
+     * The name of the field, used in the error messages.
+     */
+    private final String name;
+
+    /**
+     * The resolved field.
+     */
+    private final VarHandle handle;
+
+    FieldCondition(final Class<T> clazz, final String name, final Lookup lookup) {
+        this.name = name;
+        this.handle = Functional.findVarHandle(name, lookup, clazz);
+    }
+
+    // EQUALITY
+
+    /**
+     * The field must be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> eq(final long value) {
+        return compare(Operator.EQ, value);
+    }
+
+    /**
+     * The field must be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> eq(final double value) {
+        return compare(Operator.EQ, value);
+    }
+
+    /**
+     * The field must be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> eq(final boolean value) {
+        if (handle.varType() == boolean.class) {
+            final var handle = this.handle;
+            return Criteria.leaf(obj -> (boolean) handle.get(obj) == value, PRIMITIVE_COST);
+        }
+        return eq((Object) value);
+    }
+
+    /**
+     * The field must be equal to the given value, as determined by
+     * {@link Object#equals(Object)}.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> eq(final Object value) {
+        if (handle.varType().isPrimitive()) {
+            return primitive(Operator.EQ, value);
+        }
+        final var handle = this.handle;
+        return Criteria.leaf(obj -> Objects.equals(handle.get(obj), value), EQUALS_COST);
+    }
+
+    /**
+     * The field must not be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ne(final long value) {
+        return compare(Operator.NE, value);
+    }
+
+    /**
+     * The field must not be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ne(final double value) {
+        return compare(Operator.NE, value);
+    }
+
+    /**
+     * The field must not be equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ne(final boolean value) {
+        return eq(!value);
+    }
+
+    /**
+     * The field must not be equal to the given value, as determined by
+     * {@link Object#equals(Object)}.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ne(final Object value) {
+        return eq(value).negate();
+    }
+
+    /**
+     * The field must be null.
+     * @return A new condition
+     */
+    public Criteria<T> isNull() {
+        if (handle.varType().isPrimitive()) {
+            throw invalid("null");
+        }
+        final var handle = this.handle;
+        return Criteria.leaf(obj -> handle.get(obj) == null, PRIMITIVE_COST);
+    }
+
+    /**
+     * The field must not be null.
+     * @return A new condition
+     */
+    public Criteria<T> isNotNull() {
+        return isNull().negate();
+    }
+
+    // ORDERING
+
+    /**
+     * The field must be greater than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> gt(final long value) {
+        return compare(Operator.GT, value);
+    }
+
+    /**
+     * The field must be greater than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> gt(final double value) {
+        return compare(Operator.GT, value);
+    }
+
+    /**
+     * The field must be greater than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> gt(final Comparable<?> value) {
+        return compare(Operator.GT, value);
+    }
+
+    /**
+     * The field must be greater than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ge(final long value) {
+        return compare(Operator.GE, value);
+    }
+
+    /**
+     * The field must be greater than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ge(final double value) {
+        return compare(Operator.GE, value);
+    }
+
+    /**
+     * The field must be greater than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> ge(final Comparable<?> value) {
+        return compare(Operator.GE, value);
+    }
+
+    /**
+     * The field must be less than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> lt(final long value) {
+        return compare(Operator.LT, value);
+    }
+
+    /**
+     * The field must be less than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> lt(final double value) {
+        return compare(Operator.LT, value);
+    }
+
+    /**
+     * The field must be less than the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> lt(final Comparable<?> value) {
+        return compare(Operator.LT, value);
+    }
+
+    /**
+     * The field must be less than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> le(final long value) {
+        return compare(Operator.LE, value);
+    }
+
+    /**
+     * The field must be less than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> le(final double value) {
+        return compare(Operator.LE, value);
+    }
+
+    /**
+     * The field must be less than or equal to the given value.
+     * @param value The value to compare with
+     * @return A new condition
+     */
+    public Criteria<T> le(final Comparable<?> value) {
+        return compare(Operator.LE, value);
+    }
+
+    // COMPILATION
+
+    private Criteria<T> compare(final Operator operator, final long value) {
+        if (isIntegral(handle)) {
+            final var reader = longReader(handle);
+            return Criteria.leaf(obj -> operator.test(Long.compare(reader.applyAsLong(obj), value)), PRIMITIVE_COST);
+        } else if (isNumeric(handle)) {
+            return compare(operator, (double) value);
+        } else if (isWrapper()) {
+            final var handle = this.handle;
+            return Criteria.leaf(obj -> {
+                final var number = (Number) handle.get(obj);
+                if (number == null) {
+                    return operator == Operator.NE;
+                }
+                return isIntegralNumber(number) ? operator.test(Long.compare(number.longValue(), value)) : operator.test(number.doubleValue(), value);
+            }, WRAPPER_COST);
+        }
+        throw invalid(value);
+    }
+
+    private Criteria<T> compare(final Operator operator, final double value) {
+        if (isNumeric(handle)) {
+            final var reader = doubleReader(handle);
+            return Criteria.leaf(obj -> operator.test(reader.applyAsDouble(obj), value), PRIMITIVE_COST);
+        } else if (isWrapper()) {
+            final var handle = this.handle;
+            return Criteria.leaf(obj -> {
+                final var number = (Number) handle.get(obj);
+                if (number == null) {
+                    return operator == Operator.NE;
+                }
+                return operator.test(number.doubleValue(), value);
+            }, WRAPPER_COST);
+        }
+        throw invalid(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Criteria<T> compare(final Operator operator, final Comparable<?> value) {
+        Objects.requireNonNull(value);
+        final var type = handle.varType();
+        if (type.isPrimitive() || isWrapper() && value instanceof Number) {
+            return primitive(operator, value);
+        } else if (Comparable.class.isAssignableFrom(type) && type.isInstance(value)) {
+            final var handle = this.handle;
+            final var comparable = (Comparable) value;
+            return Criteria.leaf(obj -> {
+                final var current = handle.get(obj);
+                if (current == null) {
+                    return operator == Operator.NE;
+                }
+                return operator.test(Integer.compare(0, comparable.compareTo(current)));
+            }, COMPARE_COST);
+        }
+        throw invalid(value);
+    }
+
+    private Criteria<T> primitive(final Operator operator, final Object value) {
+        if (value instanceof Number && !isIntegralNumber((Number) value)) {
+            return compare(operator, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            return compare(operator, ((Number) value).longValue());
+        } else if (value instanceof Character) {
+            return compare(operator, (long) (char) value);
+        } else if (value instanceof Boolean && operator == Operator.EQ && handle.varType() == boolean.class) {
+            return eq((boolean) value);
+        }
+        throw invalid(value);
+    }
+
+    /**
+     * Determines whether the number can be compared as a long, without truncation.
+     */
+    private static boolean isIntegralNumber(final Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private boolean isWrapper() {
+        return Number.class.isAssignableFrom(handle.varType());
+    }
+
+    private BeanMirrorException invalid(final Object value) {
+        return new BeanMirrorException(new IllegalArgumentException("The field " + name + " of type " + handle.varType() + " cannot be compared to " + value + "."));
+    }
+}
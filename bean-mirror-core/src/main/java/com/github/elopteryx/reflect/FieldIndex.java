@@ -0,0 +1,231 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.Readers.isIntegral;
+import static com.github.elopteryx.reflect.internal.Readers.longReader;
+
+import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.LongHashMap;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A hash index of beans, by the value of an integral primitive field.
+ * The keys are stored as primitive longs in open-addressing tables,
+ * without boxing and entry objects. The index is a snapshot, it is
+ * not updated when the beans or the collection change. The class
+ * instances are immutable and can be shared between threads.
+ */
+public final class FieldIndex<T> {
+
+    /**
+     * Collections with at least this many elements are indexed in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 100_000;
+
+    private static final int MAX_SHARDS = 64;
+
+    /**
+     * Creates indexes by the value of a field. The field is resolved once,
+     * the builder can be used for any number of collections.
+     */
+    public static final class Builder<T> {
+
+        private final String name;
+
+        private final ToLongFunction<T> reader;
+
+        Builder(final Class<T> clazz, final Lookup lookup, final String name) {
+            final var handle = Functional.findVarHandle(name, lookup, clazz);
+            if (!isIntegral(handle)) {
+                throw new BeanMirrorException(new IllegalArgumentException("The field " + name + " of type " + handle.varType() + " is not integral."));
+            }
+            this.name = name;
+            this.reader = longReader(handle);
+        }
+
+        /**
+         * Creates an index, where each key must belong to a single element.
+         * @param elements The elements to be indexed
+         * @return A new index
+         * @throws BeanMirrorException If two elements have the same key
+         */
+        public FieldIndex<T> unique(final Collection<T> elements) {
+            return new FieldIndex<>(name, reader, elements, true);
+        }
+
+        /**
+         * Creates an index, where a key can belong to any number of elements.
+         * The elements of a key are kept in the iteration order of the collection.
+         * @param elements The elements to be indexed
+         * @return A new index
+         */
+        public FieldIndex<T> multi(final Collection<T> elements) {
+            return new FieldIndex<>(name, reader, elements, false);
+        }
+    }
+
+    /**
+     * The elements of a key in the multi-value mode, if there are more than one.
+     */
+    private static final class Bucket {
+
+        private Object[] elements = new Object[4];
+
+        private int size;
+
+        private Bucket(final Object first, final Object second) {
+            elements[0] = first;
+            elements[1] = second;
+            size = 2;
+        }
+
+        private void add(final Object element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = element;
+        }
+    }
+
+    private final String name;
+
+    private final boolean unique;
+
+    /**
+     * The tables, the keys are distributed by their hashes.
+     * The values are elements or buckets.
+     */
+    private final LongHashMap<Object>[] shards;
+
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    private FieldIndex(final String name, final ToLongFunction<T> reader, final Collection<T> elements, final boolean unique) {
+        this.name = name;
+        this.unique = unique;
+        final var array = elements.toArray();
+        final var length = array.length;
+        final var parallel = length >= PARALLEL_THRESHOLD;
+        final var shardCount = parallel ? Math.min(MAX_SHARDS, Integer.highestOneBit(ForkJoinPool.getCommonPoolParallelism()) * 2) : 1;
+        final var keys = new long[length];
+        final var ids = new int[length];
+        final var extract = IntStream.range(0, length);
+        (parallel ? extract.parallel() : extract).forEach(i -> {
+            keys[i] = reader.applyAsLong((T) array[i]);
+            ids[i] = shard(keys[i], shardCount);
+        });
+        // Partitions the positions by their shards, keeping their order, with a counting sort.
+        final var starts = new int[shardCount + 1];
+        for (final var id : ids) {
+            starts[id + 1]++;
+        }
+        for (var shard = 0; shard < shardCount; shard++) {
+            starts[shard + 1] += starts[shard];
+        }
+        final var positions = new int[length];
+        final var next = Arrays.copyOf(starts, shardCount);
+        for (var i = 0; i < length; i++) {
+            positions[next[ids[i]]++] = i;
+        }
+        this.shards = (LongHashMap<Object>[]) new LongHashMap<?>[shardCount];
+        final var duplicates = new boolean[shardCount];
+        final var duplicateKeys = new long[shardCount];
+        final var build = IntStream.range(0, shardCount);
+        (parallel ? build.parallel() : build).forEach(shard -> {
+            final var map = new LongHashMap<>(starts[shard + 1] - starts[shard]);
+            for (var j = starts[shard]; j < starts[shard + 1] && !duplicates[shard]; j++) {
+                final var i = positions[j];
+                final var key = keys[i];
+                final var previous = map.put(key, array[i]);
+                if (previous != null) {
+                    if (unique) {
+                        duplicates[shard] = true;
+                        duplicateKeys[shard] = key;
+                    } else if (previous instanceof Bucket) {
+                        ((Bucket) previous).add(array[i]);
+                        map.put(key, previous);
+                    } else {
+                        map.put(key, new Bucket(previous, array[i]));
+                    }
+                }
+            }
+            shards[shard] = map;
+        });
+        for (var shard = 0; shard < shardCount; shard++) {
+            if (duplicates[shard]) {
+                throw new BeanMirrorException(new IllegalArgumentException("Duplicate value " + duplicateKeys[shard] + " for the unique field " + name + "."));
+            }
+        }
+        this.size = Arrays.stream(shards).mapToInt(LongHashMap::size).sum();
+    }
+
+    private static int shard(final long key, final int shardCount) {
+        return shardCount == 1 ? 0 : (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(shardCount)));
+    }
+
+    /**
+     * Returns the element for the key. In the multi-value mode this
+     * is the first element with the key.
+     * @param key The value of the field
+     * @return The element or null, if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final long key) {
+        final var value = shards[shard(key, shards.length)].get(key);
+        return (T) (value instanceof Bucket ? ((Bucket) value).elements[0] : value);
+    }
+
+    /**
+     * Returns all of the elements for the key.
+     * @param key The value of the field
+     * @return An immutable list, which is empty if there are no elements
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getAll(final long key) {
+        final var value = shards[shard(key, shards.length)].get(key);
+        if (value == null) {
+            return List.of();
+        } else if (value instanceof Bucket) {
+            final var bucket = (Bucket) value;
+            return (List<T>) List.of(Arrays.copyOf(bucket.elements, bucket.size));
+        }
+        return List.of((T) value);
+    }
+
+    /**
+     * Determines whether there are elements with the key.
+     * @param key The value of the field
+     * @return True, if the key is present
+     */
+    public boolean containsKey(final long key) {
+        return shards[shard(key, shards.length)].get(key) != null;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     * @return The size of the index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether the index was created in the unique mode.
+     * @return True, if each key belongs to a single element
+     */
+    public boolean isUnique() {
+        return unique;
+    }
+
+    @Override
+    public String toString() {
+        return (unique ? "Unique" : "Multi-value") + " index by " + name + " with " + size + " keys";
+    }
+
+}
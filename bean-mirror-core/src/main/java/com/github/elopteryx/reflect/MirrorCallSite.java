@@ -0,0 +1,217 @@
+package com.github.elopteryx.reflect;
+
+import static com.github.elopteryx.reflect.internal.Utils.wrapper;
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Field;
+
+/**
+ * A reusable access point for a named field on receivers of any class.
+ * The site keeps a chain of guarded handles for the receiver classes it
+ * has seen, checking the exact class of the receiver. Up to a limit, a
+ * new class adds a new guard to the chain. After that the site turns
+ * megamorphic, and all receivers go through a per-class cache.
+ *
+ * <p>The receiver classes are referenced by the chain until the site
+ * becomes megamorphic. For the best performance the site should be
+ * stored in a static final field, so the chain can be inlined.</p>
+ */
+public final class MirrorCallSite<R> {
+
+    /**
+     * The maximum number of guards in a chain.
+     */
+    static final int LIMIT = 8;
+
+    private static final MethodHandle CLASS_TEST;
+
+    private static final MethodHandle MISS_GET;
+
+    private static final MethodHandle MISS_SET;
+
+    private static final MethodHandle MEGAMORPHIC_GET;
+
+    private static final MethodHandle MEGAMORPHIC_SET;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            CLASS_TEST = lookup.findStatic(MirrorCallSite.class, "hasClass", methodType(boolean.class, Class.class, Object.class));
+            MISS_GET = lookup.findVirtual(MirrorCallSite.class, "missGet", methodType(Object.class, Object.class));
+            MISS_SET = lookup.findVirtual(MirrorCallSite.class, "missSet", methodType(void.class, Object.class, Object.class));
+            MEGAMORPHIC_GET = lookup.findVirtual(MirrorCallSite.class, "megamorphicGet", methodType(Object.class, Object.class));
+            MEGAMORPHIC_SET = lookup.findVirtual(MirrorCallSite.class, "megamorphicSet", methodType(void.class, Object.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * A chain of guarded handles, for one kind of access.
+     */
+    private final class Chain {
+
+        private final MutableCallSite site;
+
+        private final MethodHandle invoker;
+
+        private final MethodHandle megamorphic;
+
+        private final ClassValue<MethodHandle> handles;
+
+        /**
+         * The number of guards. Guarded by the site.
+         */
+        private int size;
+
+        private Chain(final MethodHandle miss, final MethodHandle megamorphic, final boolean setter) {
+            this.site = new MutableCallSite(miss.bindTo(MirrorCallSite.this));
+            this.invoker = site.dynamicInvoker();
+            this.megamorphic = megamorphic.bindTo(MirrorCallSite.this);
+            this.handles = new ClassValue<>() {
+                @Override
+                protected MethodHandle computeValue(final Class<?> receiverType) {
+                    return resolve(receiverType, setter);
+                }
+            };
+        }
+
+        private MethodHandle link(final Class<?> receiverType) {
+            final var handle = handles.get(receiverType);
+            synchronized (MirrorCallSite.this) {
+                if (size < LIMIT) {
+                    final var test = CLASS_TEST.bindTo(receiverType);
+                    site.setTarget(MethodHandles.guardWithTest(test, handle, site.getTarget()));
+                    size++;
+                } else if (size == LIMIT) {
+                    site.setTarget(megamorphic);
+                    size++;
+                }
+            }
+            return handle;
+        }
+    }
+
+    private final String name;
+
+    private final Class<R> type;
+
+    private final Lookup lookup;
+
+    private final Chain getters;
+
+    private final Chain setters;
+
+    MirrorCallSite(final String name, final Class<R> type, final Lookup lookup) {
+        this.name = name;
+        this.type = type;
+        this.lookup = lookup;
+        this.getters = new Chain(MISS_GET, MEGAMORPHIC_GET, false);
+        this.setters = new Chain(MISS_SET, MEGAMORPHIC_SET, true);
+    }
+
+    /**
+     * Gets the value of the field on the receiver.
+     * @param receiver The object containing the field
+     * @return The value of the field
+     */
+    @SuppressWarnings("unchecked")
+    public R get(final Object receiver) {
+        try {
+            return (R) (Object) getters.invoker.invokeExact(receiver);
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Sets the value of the field on the receiver.
+     * @param receiver The object containing the field
+     * @param value The new value
+     */
+    public void set(final Object receiver, final R value) {
+        try {
+            setters.invoker.invokeExact(receiver, (Object) value);
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
+    /**
+     * Determines whether the getters of the site are megamorphic,
+     * meaning that the site has seen more receiver classes than
+     * the limit of the guard chain.
+     * @return True, if the getters are megamorphic
+     */
+    public boolean isMegamorphic() {
+        synchronized (this) {
+            return getters.size > LIMIT;
+        }
+    }
+
+    private static boolean hasClass(final Class<?> receiverType, final Object receiver) {
+        return receiver.getClass() == receiverType;
+    }
+
+    private Object missGet(final Object receiver) throws Throwable {
+        return getters.link(receiver.getClass()).invokeExact(receiver);
+    }
+
+    private void missSet(final Object receiver, final Object value) throws Throwable {
+        setters.link(receiver.getClass()).invokeExact(receiver, value);
+    }
+
+    private Object megamorphicGet(final Object receiver) throws Throwable {
+        return getters.handles.get(receiver.getClass()).invokeExact(receiver);
+    }
+
+    private void megamorphicSet(final Object receiver, final Object value) throws Throwable {
+        setters.handles.get(receiver.getClass()).invokeExact(receiver, value);
+    }
+
+    /**
+     * Resolves the field on the receiver class or its superclasses.
+     */
+    private MethodHandle resolve(final Class<?> receiverType, final boolean setter) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            final var field = findField(receiverType);
+            final var declaringClass = field.getDeclaringClass();
+            final var privateLookup = MethodHandles.privateLookupIn(declaringClass, lookup);
+            if (setter) {
+                return privateLookup.findSetter(declaringClass, name, field.getType()).asType(methodType(void.class, Object.class, Object.class));
+            }
+            return privateLookup.findGetter(declaringClass, name, field.getType()).asType(methodType(Object.class, Object.class));
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new BeanMirrorException(e);
+        } finally {
+            event.record(receiverType, name, type);
+        }
+    }
+
+    private Field findField(final Class<?> receiverType) throws NoSuchFieldException {
+        final var field = Utils.findField(receiverType, name);
+        if (!wrapper(type).isAssignableFrom(wrapper(field.getType()))) {
+            throw new NoSuchFieldException("The field " + name + " of type " + receiverType + " is not a " + type + ".");
+        }
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        return "Call site for " + name + " with type " + type;
+    }
+
+}
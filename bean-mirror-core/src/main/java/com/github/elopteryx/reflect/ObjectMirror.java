@@ -1,18 +1,26 @@
 package com.github.elopteryx.reflect;
 
-import static com.github.elopteryx.reflect.internal.Utils.isSimilarSignature;
+import static com.github.elopteryx.reflect.internal.MemberCache.NO_TYPES;
+import static com.github.elopteryx.reflect.internal.Utils.isVisible;
 import static com.github.elopteryx.reflect.internal.Utils.types;
 import static com.github.elopteryx.reflect.internal.Utils.wrapper;
 
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.MethodResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.SimilarMethodScanEvent;
 import com.github.elopteryx.reflect.internal.Functional;
+import com.github.elopteryx.reflect.internal.Implementations;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
+import com.github.elopteryx.reflect.internal.MemberTable;
+import com.github.elopteryx.reflect.internal.NULL;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -71,6 +79,35 @@ public final class ObjectMirror<T> {
         }
     }
 
+    /**
+     * Returns a view of the current value, implementing the given interface.
+     * The methods of the interface are bound to the methods of the value
+     * with the same name and the same or similar parameter types, even if
+     * the class of the value does not implement the interface. The methods
+     * are resolved once per class of the value and interface, the views
+     * call them directly. The resolved factory refers to both of the
+     * classes, so it is cached on the class of the value only if that can
+     * already see the interface, otherwise on the interface, and it does
+     * not keep the class loader of the interface alive.
+     * @param type The interface type
+     * @param <I> The generic type
+     * @return A new view, implementing the interface
+     */
+    public <I> I as(final Class<I> type) {
+        Objects.requireNonNull(type);
+        final var clazz = object.getClass();
+        try {
+            final var owner = isVisible(type, clazz.getClassLoader()) ? clazz : type;
+            final var factory = MemberCache.get(owner, lookup, Kind.VIEW, "<view>", owner == clazz ? type : clazz, NO_TYPES,
+                    () -> Implementations.view(type, clazz, lookup));
+            return type.cast((Object) factory.invokeExact((Object) object));
+        } catch (final IllegalArgumentException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        }
+    }
+
     /**
      * Returns the type of the current value or its super type
      * if it was supplied.
@@ -107,7 +144,9 @@ public final class ObjectMirror<T> {
     }
 
     /**
-     * Sets the value of the field, identified by its name.
+     * Sets the value of the field, identified by its name. The value is
+     * converted to the type of the field, by unboxing and widening, by
+     * parsing strings or by the converters registered in {@link BeanMirror}.
      * @param name The name of the field
      * @param value The new value
      * @return The same mirror instance
@@ -131,27 +170,55 @@ public final class ObjectMirror<T> {
     }
 
     private Object getField(final String fieldName, final Class<?> fieldType) {
+        return findField(fieldName, fieldType).get(object);
+    }
+
+    private void setField(final String name, final Object value) {
         try {
-            final var clazz = type();
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var varHandle = privateLookup.findVarHandle(clazz, fieldName, fieldType);
-            return varHandle.get(object);
-        } catch (final NoSuchFieldException | IllegalAccessException e) {
-            throw new BeanMirrorException(e);
+            findSetter(name, value == null ? NULL.class : value.getClass()).invokeExact((Object) object, value);
+        } catch (final BeanMirrorException e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
         }
     }
 
-    private void setField(final String name, final Object value) {
+    /**
+     * Returns the field. The cache is queried first, so the resolver
+     * is only created if the field is not cached yet.
+     */
+    private VarHandle findField(final String name, final Class<?> fieldType) {
+        final var clazz = type();
+        final VarHandle cached = MemberCache.find(clazz, lookup, Kind.FIELD, name, fieldType, NO_TYPES);
+        return cached != null ? cached : resolveField(clazz, name, fieldType);
+    }
+
+    private VarHandle resolveField(final Class<?> clazz, final String name, final Class<?> fieldType) {
         try {
-            final var clazz = type();
-            final var privateLookup = MethodHandles.privateLookupIn(clazz, lookup);
-            final var handle = privateLookup.findVarHandle(clazz, name, value.getClass());
-            handle.set(object, value);
-        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            return MemberCache.get(clazz, lookup, Kind.FIELD, name, fieldType, NO_TYPES, () -> {
+                final var event = new FieldResolutionEvent();
+                event.begin();
+                try {
+                    final var field = MemberTable.of(clazz).field(name);
+                    return MemberTable.lookup(field, lookup).findVarHandle(field.getDeclaringClass(), name, fieldType);
+                } finally {
+                    event.record(clazz, name, fieldType);
+                }
+            });
+        } catch (final ReflectiveOperationException e) {
             throw new BeanMirrorException(e);
         }
     }
 
+    /**
+     * Returns the setter of the field, converting the values of the given type.
+     */
+    private MethodHandle findSetter(final String name, final Class<?> valueType) throws ReflectiveOperationException {
+        final var clazz = type();
+        final MethodHandle cached = MemberCache.find(clazz, lookup, Kind.SETTER, name, valueType, NO_TYPES);
+        return cached != null ? cached : Functional.findSetter(name, lookup, clazz, valueType);
+    }
+
     /**
      * Creates a new function which can be used to get the value of
      * field for the object given to the function. The input
@@ -273,41 +340,49 @@ public final class ObjectMirror<T> {
     private MethodHandle findMethod(final Class<?> returnType, final String name, final Object... args) throws Throwable {
         final var type = type();
         final var types = types(args);
-        final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        if (superType == null) {
+            return MemberCache.get(type, lookup, Kind.METHOD, name, returnType, types, () -> resolveMethod(returnType, name, types));
+        }
+        return MemberCache.get(type, lookup, Kind.SPECIAL_METHOD, name, null, types, () -> resolveMethod(returnType, name, types)).bindTo(object);
+    }
+
+    private MethodHandle resolveMethod(final Class<?> returnType, final String name, final Class<?>... types) throws Throwable {
+        final var type = type();
+        final var event = new MethodResolutionEvent();
+        event.begin();
         try {
+            final var privateLookup = MethodHandles.privateLookupIn(type, lookup);
             if (superType == null) {
                 return privateLookup.findVirtual(type, name, MethodType.methodType(returnType, types));
             } else {
                 final var method = similarMethod(name, types);
-                return privateLookup.unreflectSpecial(method, type).bindTo(object);
+                return privateLookup.unreflectSpecial(method, type);
             }
         } catch (final NoSuchMethodException e) {
             try {
-                return similarMethodHandle(lookup, name, types);
+                return similarMethodHandle(name, types);
             } catch (final NoSuchMethodException e1) {
                 throw new BeanMirrorException(e1);
             }
+        } finally {
+            event.record(type, name, types);
         }
     }
 
-    private MethodHandle similarMethodHandle(final Lookup lookup, final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
-        return lookup.unreflect(similarMethod(name, types));
+    private MethodHandle similarMethodHandle(final String name, final Class<?>... types) throws NoSuchMethodException, IllegalAccessException {
+        final var method = similarMethod(name, types);
+        return MemberTable.lookup(method, lookup).unreflect(method);
     }
 
     private Method similarMethod(final String name, final Class<?>... types) throws NoSuchMethodException {
         final var type = type();
-
-        for (final var method : type.getMethods()) {
-            if (!Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return method;
-            }
-        }
-        for (final var method : type.getDeclaredMethods()) {
-            if (!Modifier.isStatic(method.getModifiers()) && isSimilarSignature(method, name, types)) {
-                return method;
-            }
+        final var event = new SimilarMethodScanEvent();
+        event.begin();
+        try {
+            return MemberTable.of(type).similarMethod(name, false, types);
+        } finally {
+            event.record(type, name, types);
         }
-        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + type() + ".");
     }
 
     @Override
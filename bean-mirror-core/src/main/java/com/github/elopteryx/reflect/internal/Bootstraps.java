@@ -0,0 +1,135 @@
+package com.github.elopteryx.reflect.internal;
+
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.MethodResolutionEvent;
+import com.github.elopteryx.reflect.internal.Events.SimilarMethodScanEvent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Resolves the targets of the invokedynamic bootstrap methods. The
+ * receiver is always the first parameter of the call site type, the
+ * resolved handles are adapted to the exact call site type. The members
+ * are resolved with the lookup of the caller if it has access to them,
+ * otherwise with a private lookup in their declaring class, so the public
+ * members of the modules which are not open to the caller can be linked.
+ */
+public final class Bootstraps {
+
+    private Bootstraps() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Resolves a getter for the instance field.
+     * @param caller The lookup of the caller
+     * @param name The name of the field
+     * @param type The type of the call site, (receiver)value
+     * @return The getter handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field is not accessible
+     */
+    public static MethodHandle getter(final Lookup caller, final String name, final MethodType type) throws NoSuchFieldException, IllegalAccessException {
+        checkParameters(type, 1);
+        final var receiver = type.parameterType(0);
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            final var field = Utils.findField(receiver, name);
+            final var declaringClass = field.getDeclaringClass();
+            try {
+                return caller.findGetter(declaringClass, name, field.getType()).asType(type);
+            } catch (final IllegalAccessException e) {
+                return MemberTable.lookup(field, caller).findGetter(declaringClass, name, field.getType()).asType(type);
+            }
+        } finally {
+            event.record(receiver, name, type.returnType());
+        }
+    }
+
+    /**
+     * Resolves a setter for the instance field.
+     * @param caller The lookup of the caller
+     * @param name The name of the field
+     * @param type The type of the call site, (receiver, value)void
+     * @return The setter handle
+     * @throws NoSuchFieldException If the field does not exist
+     * @throws IllegalAccessException If the field is not accessible
+     */
+    public static MethodHandle setter(final Lookup caller, final String name, final MethodType type) throws NoSuchFieldException, IllegalAccessException {
+        checkParameters(type, 2);
+        final var receiver = type.parameterType(0);
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            final var field = Utils.findField(receiver, name);
+            final var declaringClass = field.getDeclaringClass();
+            try {
+                return caller.findSetter(declaringClass, name, field.getType()).asType(type);
+            } catch (final IllegalAccessException e) {
+                return MemberTable.lookup(field, caller).findSetter(declaringClass, name, field.getType()).asType(type);
+            }
+        } finally {
+            event.record(receiver, name, type.parameterType(1));
+        }
+    }
+
+    /**
+     * Resolves a virtual method. If there is no method with the exact
+     * signature, then a method with a similar signature is used.
+     * @param caller The lookup of the caller
+     * @param name The name of the method
+     * @param type The type of the call site, (receiver, arguments...)result
+     * @return The method handle
+     * @throws NoSuchMethodException If the method does not exist
+     * @throws IllegalAccessException If the method is not accessible
+     */
+    public static MethodHandle invoker(final Lookup caller, final String name, final MethodType type) throws NoSuchMethodException, IllegalAccessException {
+        if (type.parameterCount() < 1) {
+            throw new IllegalArgumentException("The call site type has no receiver: " + type);
+        }
+        final var receiver = type.parameterType(0);
+        final var types = type.dropParameterTypes(0, 1).parameterArray();
+        final var event = new MethodResolutionEvent();
+        event.begin();
+        try {
+            try {
+                return findVirtual(caller, receiver, name, MethodType.methodType(type.returnType(), types)).asType(type);
+            } catch (final NoSuchMethodException e) {
+                return MemberTable.unreflect(similarMethod(receiver, name, types), caller).asType(type);
+            }
+        } finally {
+            event.record(receiver, name, types);
+        }
+    }
+
+    private static MethodHandle findVirtual(final Lookup caller, final Class<?> receiver, final String name, final MethodType type)
+            throws NoSuchMethodException, IllegalAccessException {
+        try {
+            return caller.findVirtual(receiver, name, type);
+        } catch (final IllegalAccessException e) {
+            return MethodHandles.privateLookupIn(receiver, caller).findVirtual(receiver, name, type);
+        }
+    }
+
+    private static Method similarMethod(final Class<?> receiver, final String name, final Class<?>... types) throws NoSuchMethodException {
+        final var event = new SimilarMethodScanEvent();
+        event.begin();
+        try {
+            return MemberTable.of(receiver).similarMethod(name, false, types);
+        } finally {
+            event.record(receiver, name, types);
+        }
+    }
+
+    private static void checkParameters(final MethodType type, final int count) {
+        if (type.parameterCount() != count) {
+            throw new IllegalArgumentException("The call site type must have " + count + " parameters: " + type);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent map with a maximum size. The entries are evicted with
+ * the generalized clock algorithm, an approximation of LFU: reads only
+ * increment a small counter on the entry, so they do not need any
+ * locking. When the size is exceeded, the entries are swept from where
+ * the previous sweep stopped, decrementing the counters and removing
+ * the first entry with a counter of zero. Frequently read entries
+ * survive several sweeps, entries read only once are evicted soon.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * The maximum value of the use counters.
+     */
+    private static final int MAX_USES = 3;
+
+    /**
+     * A value with its use counter. The counter is updated without
+     * synchronization, lost updates only affect the eviction order.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private volatile int uses = 1;
+
+        private Entry(final V value) {
+            this.value = value;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+
+    private final int capacity;
+
+    /**
+     * The position of the sweeps. Guarded by this.
+     */
+    private Iterator<Entry<V>> hand;
+
+    /**
+     * Creates a new, empty cache.
+     * @param capacity The maximum number of entries
+     */
+    public BoundedCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the value for the key, counting the use.
+     * @param key The key
+     * @return The value or null, if there is none
+     */
+    public V get(final Object key) {
+        final var entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final var uses = entry.uses;
+        if (uses < MAX_USES) {
+            entry.uses = uses + 1;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Associates the value with the key, unless there is already
+     * a value for it. Evicts entries if the cache became too large.
+     * @param key The key
+     * @param value The value, cannot be null
+     * @return The value in the cache for the key
+     */
+    public V putIfAbsent(final K key, final V value) {
+        final var existing = map.putIfAbsent(key, new Entry<>(value));
+        if (existing != null) {
+            return existing.value;
+        }
+        if (map.size() > capacity) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of entries.
+     * @return The size
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Removes all of the entries.
+     */
+    public synchronized void clear() {
+        map.clear();
+        hand = null;
+    }
+
+    private synchronized void evict() {
+        var steps = (MAX_USES + 1) * (map.size() + 1);
+        while (map.size() > capacity && steps-- > 0) {
+            if (hand == null || !hand.hasNext()) {
+                hand = map.values().iterator();
+            }
+            final var entry = hand.next();
+            final var uses = entry.uses;
+            if (uses > 0) {
+                entry.uses = uses - 1;
+            } else {
+                hand.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Cache with " + map.size() + " of " + capacity + " entries";
+    }
+}
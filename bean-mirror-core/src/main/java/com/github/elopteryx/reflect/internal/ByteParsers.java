@@ -0,0 +1,253 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses primitive values directly from ASCII bytes, without creating
+ * strings. Leading and trailing spaces are ignored. The common decimal
+ * formats are parsed without allocation, the others fall back to the
+ * parse methods of the JDK.
+ */
+public final class ByteParsers {
+
+    /**
+     * The powers of ten, which can be represented exactly as doubles.
+     */
+    private static final double[] DOUBLE_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The powers of ten, which can be represented exactly as floats.
+     */
+    private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private ByteParsers() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Parses a decimal long value.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid long
+     */
+    public static long parseLong(final byte[] bytes, final int start, final int end) {
+        var from = skipSpaces(bytes, start, end);
+        final var to = trimSpaces(bytes, from, end);
+        if (from == to) {
+            throw invalid(bytes, start, end);
+        }
+        final var negative = bytes[from] == '-';
+        if (negative || bytes[from] == '+') {
+            from++;
+            if (from == to) {
+                throw invalid(bytes, start, end);
+            }
+        }
+        final var limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final var multiplyLimit = limit / 10;
+        var result = 0L;
+        for (var i = from; i < to; i++) {
+            final var digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalid(bytes, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalid(bytes, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a decimal int value.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid int
+     */
+    public static int parseInt(final byte[] bytes, final int start, final int end) {
+        return (int) parseRange(bytes, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses a decimal short value.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid short
+     */
+    public static short parseShort(final byte[] bytes, final int start, final int end) {
+        return (short) parseRange(bytes, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    /**
+     * Parses a decimal byte value.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid byte
+     */
+    public static byte parseByte(final byte[] bytes, final int start, final int end) {
+        return (byte) parseRange(bytes, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    private static long parseRange(final byte[] bytes, final int start, final int end, final long min, final long max) {
+        final var result = parseLong(bytes, start, end);
+        if (result < min || result > max) {
+            throw invalid(bytes, start, end);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a double value. Plain decimals with at most 15 digits are
+     * computed exactly from the digits, every other format is delegated
+     * to {@link Double#parseDouble(String)}.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid double
+     */
+    public static double parseDouble(final byte[] bytes, final int start, final int end) {
+        final var from = skipSpaces(bytes, start, end);
+        final var to = trimSpaces(bytes, from, end);
+        final var mantissa = mantissa(bytes, from, to, 15);
+        if (mantissa != Long.MIN_VALUE) {
+            final var scale = scale(bytes, from, to);
+            if (scale < DOUBLE_POWERS.length) {
+                final var value = mantissa / DOUBLE_POWERS[scale];
+                return bytes[from] == '-' ? -value : value;
+            }
+        }
+        return Double.parseDouble(string(bytes, from, to));
+    }
+
+    /**
+     * Parses a float value. Plain decimals with at most 7 digits are
+     * computed exactly from the digits, every other format is delegated
+     * to {@link Float#parseFloat(String)}.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws NumberFormatException If the value is not a valid float
+     */
+    public static float parseFloat(final byte[] bytes, final int start, final int end) {
+        final var from = skipSpaces(bytes, start, end);
+        final var to = trimSpaces(bytes, from, end);
+        final var mantissa = mantissa(bytes, from, to, 7);
+        if (mantissa != Long.MIN_VALUE) {
+            final var scale = scale(bytes, from, to);
+            if (scale < FLOAT_POWERS.length) {
+                final var value = mantissa / FLOAT_POWERS[scale];
+                return bytes[from] == '-' ? -value : value;
+            }
+        }
+        return Float.parseFloat(string(bytes, from, to));
+    }
+
+    /**
+     * Parses a boolean value, either 'true' or 'false', ignoring the case.
+     * @param bytes The source
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The parsed value
+     * @throws IllegalArgumentException If the value is not a valid boolean
+     */
+    public static boolean parseBoolean(final byte[] bytes, final int start, final int end) {
+        final var from = skipSpaces(bytes, start, end);
+        final var to = trimSpaces(bytes, from, end);
+        if (matches(bytes, from, to, "true")) {
+            return true;
+        } else if (matches(bytes, from, to, "false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid boolean: " + string(bytes, start, end));
+    }
+
+    /**
+     * Returns the digits of a plain decimal, without the sign and the
+     * decimal point, if it has at most the given number of digits.
+     * @return The digits as a positive long, or Long.MIN_VALUE for other formats
+     */
+    private static long mantissa(final byte[] bytes, final int from, final int to, final int maxDigits) {
+        var index = from;
+        if (index < to && (bytes[index] == '-' || bytes[index] == '+')) {
+            index++;
+        }
+        var result = 0L;
+        var digits = 0;
+        var point = false;
+        for (; index < to; index++) {
+            final var current = bytes[index];
+            if (current == '.' && !point) {
+                point = true;
+            } else if (current >= '0' && current <= '9' && ++digits <= maxDigits) {
+                result = result * 10 + (current - '0');
+            } else {
+                return Long.MIN_VALUE;
+            }
+        }
+        return digits == 0 ? Long.MIN_VALUE : result;
+    }
+
+    /**
+     * Returns the number of digits after the decimal point.
+     */
+    private static int scale(final byte[] bytes, final int from, final int to) {
+        for (var i = from; i < to; i++) {
+            if (bytes[i] == '.') {
+                return to - i - 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean matches(final byte[] bytes, final int from, final int to, final String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (var i = 0; i < expected.length(); i++) {
+            if ((bytes[from + i] | 0x20) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipSpaces(final byte[] bytes, final int start, final int end) {
+        var index = start;
+        while (index < end && bytes[index] == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimSpaces(final byte[] bytes, final int start, final int end) {
+        var index = end;
+        while (index > start && bytes[index - 1] == ' ') {
+            index--;
+        }
+        return index;
+    }
+
+    private static String string(final byte[] bytes, final int start, final int end) {
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private static NumberFormatException invalid(final byte[] bytes, final int start, final int end) {
+        return new NumberFormatException("For input string: \"" + string(bytes, start, end) + "\"");
+    }
+}
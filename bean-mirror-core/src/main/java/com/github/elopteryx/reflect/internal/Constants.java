@@ -0,0 +1,136 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads static fields as constants. The final fields are read once, and
+ * their values are returned by constant method handles. The values of the
+ * other fields are returned by call sites, their targets are constant
+ * handles guarded by switch points. Writing the fields through the class
+ * mirror invalidates the switch points, and the next read links the call
+ * site to the new value. Writes by other means are not detected. The call
+ * sites are shared by the lookups, attached to the declaring classes of
+ * the fields through a class value.
+ */
+public final class Constants {
+
+    private static final ClassValue<Map<String, Slot>> SLOTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Slot> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodHandle RELINK;
+
+    private static final MethodHandle INVALIDATE;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            RELINK = lookup.findVirtual(Slot.class, "relink", methodType(Object.class));
+            INVALIDATE = lookup.findStatic(Constants.class, "invalidate", methodType(void.class, Map.class, String.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Constants() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a handle which returns the value of the static field.
+     * @param field The static field
+     * @param getter The getter of the field, with the type ()Object
+     * @return The handle, with the type ()Object
+     */
+    public static MethodHandle constant(final Field field, final MethodHandle getter) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return MethodHandles.constant(Object.class, read(getter));
+        }
+        return SLOTS.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), name -> new Slot(getter)).invoker;
+    }
+
+    /**
+     * Adds the invalidation of the constant to the setter of the static field.
+     * @param field The static field
+     * @param setter The setter of the field
+     * @return The setter, which invalidates the constant after the write
+     */
+    public static MethodHandle invalidating(final Field field, final MethodHandle setter) {
+        final var invalidate = MethodHandles.insertArguments(INVALIDATE, 0, SLOTS.get(field.getDeclaringClass()), field.getName());
+        return MethodHandles.filterReturnValue(setter, invalidate);
+    }
+
+    /**
+     * Invalidates the constants of the fields declared by the class, the
+     * next reads link them to the current values. The call sites are kept,
+     * as the existing setters invalidate them.
+     * @param type The declaring class of the fields
+     */
+    public static void invalidate(final Class<?> type) {
+        SLOTS.get(type).values().forEach(Slot::invalidate);
+    }
+
+    private static void invalidate(final Map<String, Slot> slots, final String name) {
+        final var slot = slots.get(name);
+        if (slot != null) {
+            slot.invalidate();
+        }
+    }
+
+    private static Object read(final MethodHandle getter) {
+        try {
+            return (Object) getter.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * The call site of a single field. Linking and invalidating are
+     * synchronized, so a write cannot be missed by a concurrent link.
+     */
+    private static final class Slot {
+
+        private final MethodHandle getter;
+
+        private final MutableCallSite site = new MutableCallSite(methodType(Object.class));
+
+        private final MethodHandle invoker = site.dynamicInvoker();
+
+        private final MethodHandle fallback = RELINK.bindTo(this);
+
+        private SwitchPoint switchPoint;
+
+        private Slot(final MethodHandle getter) {
+            this.getter = getter;
+            relink();
+        }
+
+        @SuppressWarnings("unused") // Called through the fallback handle.
+        private synchronized Object relink() {
+            final var value = read(getter);
+            switchPoint = new SwitchPoint();
+            site.setTarget(switchPoint.guardWithTest(MethodHandles.constant(Object.class, value), fallback));
+            return value;
+        }
+
+        private synchronized void invalidate() {
+            SwitchPoint.invalidateAll(new SwitchPoint[] {switchPoint});
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.elopteryx.reflect.internal;
+
+import static com.github.elopteryx.reflect.internal.Utils.wrapper;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Compiles the conversions applied to the values written to fields.
+ * The converters are method handles, which can be folded into the
+ * setter handles, so a conversion costs nothing on top of itself.
+ * The following conversions are applied, in this order:
+ * <ul>
+ *     <li>Boxing, unboxing and reference widening</li>
+ *     <li>Primitive widening, for primitive and wrapper types</li>
+ *     <li>The converters registered by the user</li>
+ *     <li>Parsing strings to numbers, booleans, characters and enums</li>
+ * </ul>
+ * The compiled converters are cached per source and target type. The
+ * cache is attached to the target type, and holds both the source types
+ * and the converters weakly, as the type of a converter refers to the
+ * source type. It does not prevent the class loaders of either type
+ * from being collected, a collected converter is compiled again on the
+ * next use. The registered converters are held strongly until they are
+ * unregistered, so a converter function defined by another class loader
+ * keeps that loader alive until then.
+ */
+public final class Conversions {
+
+    private static final MethodHandle APPLY;
+
+    private static final MethodHandle ENUM_VALUE_OF;
+
+    /**
+     * The parsers of the strings, by the wrapped target type.
+     */
+    private static final Map<Class<?>, MethodHandle> PARSERS;
+
+    /**
+     * The registered converters, by the target and the source type.
+     * Guarded by itself.
+     */
+    private static final Map<Class<?>, Map<Class<?>, MethodHandle>> REGISTERED = new WeakHashMap<>();
+
+    /**
+     * The compiled converters, by the target and the source type.
+     * Replaced when the registered converters change.
+     */
+    private static volatile ClassValue<Map<Class<?>, WeakReference<MethodHandle>>> cache = newCache();
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            APPLY = lookup.findVirtual(Function.class, "apply", methodType(Object.class, Object.class));
+            ENUM_VALUE_OF = lookup.findStatic(Enum.class, "valueOf", methodType(Enum.class, Class.class, String.class));
+            PARSERS = Map.of(
+                    Integer.class, lookup.findStatic(Integer.class, "parseInt", methodType(int.class, String.class)),
+                    Long.class, lookup.findStatic(Long.class, "parseLong", methodType(long.class, String.class)),
+                    Short.class, lookup.findStatic(Short.class, "parseShort", methodType(short.class, String.class)),
+                    Byte.class, lookup.findStatic(Byte.class, "parseByte", methodType(byte.class, String.class)),
+                    Double.class, lookup.findStatic(Double.class, "parseDouble", methodType(double.class, String.class)),
+                    Float.class, lookup.findStatic(Float.class, "parseFloat", methodType(float.class, String.class)),
+                    Boolean.class, lookup.findStatic(Conversions.class, "parseBoolean", methodType(boolean.class, String.class)),
+                    Character.class, lookup.findStatic(Conversions.class, "parseChar", methodType(char.class, String.class)),
+                    BigInteger.class, lookup.findConstructor(BigInteger.class, methodType(void.class, String.class)),
+                    BigDecimal.class, lookup.findConstructor(BigDecimal.class, methodType(void.class, String.class)));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Conversions() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Registers a converter, replacing the previous one for the same
+     * source and target types. The converter is used for the source
+     * type and its subtypes. Already compiled setters are not affected.
+     * @param source The source type
+     * @param target The target type
+     * @param converter The converter function
+     * @param <S> The generic type of the source
+     * @param <R> The generic type of the target
+     */
+    public static <S, R> void register(final Class<S> source, final Class<R> target, final Function<? super S, ? extends R> converter) {
+        final var handle = APPLY.bindTo(converter);
+        synchronized (REGISTERED) {
+            REGISTERED.computeIfAbsent(wrapper(target), key -> new WeakHashMap<>()).put(source, handle);
+            cache = newCache();
+        }
+    }
+
+    /**
+     * Removes the converter registered for the source and target types.
+     * Already compiled setters are not affected.
+     * @param source The source type
+     * @param target The target type
+     * @return True, if there was a converter for the types
+     */
+    public static boolean unregister(final Class<?> source, final Class<?> target) {
+        synchronized (REGISTERED) {
+            final var converters = REGISTERED.get(wrapper(target));
+            if (converters == null || converters.remove(source) == null) {
+                return false;
+            }
+            if (converters.isEmpty()) {
+                REGISTERED.remove(wrapper(target));
+            }
+            cache = newCache();
+            return true;
+        }
+    }
+
+    /**
+     * Removes the compiled converters to the target type.
+     * @param target The target type
+     */
+    public static void invalidate(final Class<?> target) {
+        cache.remove(target);
+    }
+
+    /**
+     * Returns the converter handle for the given types. The handle takes
+     * an object, which must be an instance of the source type, and returns
+     * the converted value with the target type.
+     * @param source The type of the values, or the NULL class for null values
+     * @param target The type of the field
+     * @return The converter handle, with the (Object)target type
+     * @throws ClassCastException If there is no conversion between the types
+     */
+    public static MethodHandle converter(final Class<?> source, final Class<?> target) {
+        final var converters = cache.get(target);
+        final var cached = converters.get(source);
+        final var handle = cached == null ? null : cached.get();
+        if (handle != null) {
+            return handle;
+        }
+        final var converter = compile(source, target).asType(methodType(target, Object.class));
+        converters.put(source, new WeakReference<>(converter));
+        return converter;
+    }
+
+    /**
+     * Adapts the setter handle to accept values of the source type.
+     * @param setter The setter handle, taking the value as the last parameter
+     * @param source The type of the values, or the NULL class for null values
+     * @return The adapted handle, with an Object value parameter
+     * @throws ClassCastException If there is no conversion between the types
+     */
+    public static MethodHandle setter(final MethodHandle setter, final Class<?> source) {
+        final var index = setter.type().parameterCount() - 1;
+        final var target = setter.type().parameterType(index);
+        return MethodHandles.filterArguments(setter, index, converter(source, target));
+    }
+
+    private static MethodHandle compile(final Class<?> source, final Class<?> target) {
+        if (source == NULL.class) {
+            if (target.isPrimitive()) {
+                throw new ClassCastException("Cannot convert null to " + target.getName());
+            }
+            return MethodHandles.identity(Object.class);
+        }
+        final var from = unwrap(source);
+        final var to = unwrap(target);
+        if (wrapper(target).isAssignableFrom(wrapper(source))) {
+            return MethodHandles.identity(source).asType(methodType(target, source));
+        }
+        if (from.isPrimitive() && to.isPrimitive() && isWidening(from, to)) {
+            return MethodHandles.identity(to).asType(methodType(to, from)).asType(methodType(target, source));
+        }
+        final var registered = registered(source, target);
+        if (registered != null) {
+            return registered.asType(methodType(wrapper(target), source)).asType(methodType(target, source));
+        }
+        if (source == String.class) {
+            if (target.isEnum()) {
+                return ENUM_VALUE_OF.bindTo(target).asType(methodType(target, String.class));
+            }
+            final var parser = PARSERS.get(wrapper(target));
+            if (parser != null) {
+                return parser.asType(methodType(target, String.class));
+            }
+        }
+        throw new ClassCastException("Cannot convert " + source.getName() + " to " + target.getName());
+    }
+
+    private static MethodHandle registered(final Class<?> source, final Class<?> target) {
+        synchronized (REGISTERED) {
+            final var converters = REGISTERED.get(wrapper(target));
+            if (converters == null) {
+                return null;
+            }
+            for (var current = source; current != null; current = current.getSuperclass()) {
+                final var converter = converters.get(current);
+                if (converter != null) {
+                    return converter;
+                }
+            }
+            for (final var entry : converters.entrySet()) {
+                if (entry.getKey().isAssignableFrom(source)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    private static Class<?> unwrap(final Class<?> type) {
+        return MethodType.methodType(type).unwrap().returnType();
+    }
+
+    /**
+     * Determines whether the primitive conversion is widening, as in JLS 5.1.2.
+     */
+    private static boolean isWidening(final Class<?> from, final Class<?> to) {
+        if (from == byte.class) {
+            return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        } else if (from == short.class || from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        } else if (from == int.class) {
+            return to == long.class || to == float.class || to == double.class;
+        } else if (from == long.class) {
+            return to == float.class || to == double.class;
+        } else if (from == float.class) {
+            return to == double.class;
+        }
+        return false;
+    }
+
+    private static boolean parseBoolean(final String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid boolean: " + value);
+    }
+
+    private static char parseChar(final String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Invalid character: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    private static ClassValue<Map<Class<?>, WeakReference<MethodHandle>>> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, WeakReference<MethodHandle>> computeValue(final Class<?> type) {
+                return Collections.synchronizedMap(new WeakHashMap<>());
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.Arrays;
+
+/**
+ * Custom JDK Flight Recorder events, emitted from the
+ * resolution paths of the mirrors. When no recording is
+ * running the events are disabled and cost next to nothing,
+ * the fields are only filled if the event will be committed.
+ *
+ * <p>The jdk.jfr module is optional, if it is not present in
+ * the runtime image, or not resolved on the module path, then
+ * the events do nothing. A recording started from the command
+ * line resolves the module.</p>
+ */
+public final class Events {
+
+    /**
+     * Whether the jdk.jfr module can be used.
+     */
+    static final boolean ENABLED = isPresent();
+
+    private Events() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    private static boolean isPresent() {
+        final var layer = Events.class.getModule().getLayer();
+        return (layer == null ? ModuleLayer.boot() : layer).findModule("jdk.jfr").isPresent();
+    }
+
+    static String format(final Object types) {
+        if (types instanceof Class<?>[]) {
+            return Arrays.toString((Class<?>[]) types);
+        }
+        return types == null ? "[]" : "[" + ((Class<?>) types).getName() + "]";
+    }
+
+    /**
+     * Common base for the events measuring a member lookup.
+     * The duration of the event is the time spent resolving.
+     */
+    public abstract static class ResolutionEvent {
+
+        /**
+         * The flight recorder event, null if the module is not present.
+         */
+        private final Object event;
+
+        private ResolutionEvent(final Object event) {
+            this.event = event;
+        }
+
+        /**
+         * Starts the timing of the event.
+         */
+        public void begin() {
+            if (event != null) {
+                FlightEvents.begin(event);
+            }
+        }
+
+        /**
+         * Ends the event and commits it, if the recording settings
+         * and the threshold allows it.
+         * @param type The class type
+         * @param name The member name
+         * @param memberType The type of the field
+         */
+        public void record(final Class<?> type, final String name, final Class<?> memberType) {
+            if (event != null) {
+                FlightEvents.record(event, type, name, memberType);
+            }
+        }
+
+        /**
+         * Ends the event and commits it, if the recording settings
+         * and the threshold allows it.
+         * @param type The class type
+         * @param name The member name
+         * @param types The argument types
+         */
+        public void record(final Class<?> type, final String name, final Class<?>[] types) {
+            if (event != null) {
+                FlightEvents.record(event, type, name, types);
+            }
+        }
+    }
+
+    /**
+     * Emitted when a field is resolved into a var handle.
+     */
+    public static final class FieldResolutionEvent extends ResolutionEvent {
+
+        /**
+         * Creates a new event, which does nothing without the jdk.jfr module.
+         */
+        public FieldResolutionEvent() {
+            super(ENABLED ? FlightEvents.fieldResolution() : null);
+        }
+    }
+
+    /**
+     * Emitted when a method is resolved into a method handle.
+     */
+    public static final class MethodResolutionEvent extends ResolutionEvent {
+
+        /**
+         * Creates a new event, which does nothing without the jdk.jfr module.
+         */
+        public MethodResolutionEvent() {
+            super(ENABLED ? FlightEvents.methodResolution() : null);
+        }
+    }
+
+    /**
+     * Emitted when the exact method could not be found and
+     * the public and declared methods are scanned for a similar one.
+     */
+    public static final class SimilarMethodScanEvent extends ResolutionEvent {
+
+        /**
+         * Creates a new event, which does nothing without the jdk.jfr module.
+         */
+        public SimilarMethodScanEvent() {
+            super(ENABLED ? FlightEvents.similarMethodScan() : null);
+        }
+    }
+
+    /**
+     * Emitted when a constructor is resolved into a method handle.
+     */
+    public static final class ConstructorLookupEvent extends ResolutionEvent {
+
+        /**
+         * Creates a new event, which does nothing without the jdk.jfr module.
+         */
+        public ConstructorLookupEvent() {
+            super(ENABLED ? FlightEvents.constructorLookup() : null);
+        }
+    }
+
+    /**
+     * Emitted when a checked or unexpected exception is
+     * wrapped into a {@link com.github.elopteryx.reflect.BeanMirrorException}.
+     */
+    public static final class ExceptionWrapEvent {
+
+        private ExceptionWrapEvent() {
+            // No need to instantiate.
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Commits the event for the given cause, if the recording
+         * settings allow it.
+         * @param cause The wrapped error
+         */
+        public static void record(final Throwable cause) {
+            if (ENABLED) {
+                FlightEvents.exceptionWrap(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.elopteryx.reflect.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder events behind the {@link Events}. This is the
+ * only class which refers to the jdk.jfr module, it is only loaded if
+ * the module is present, the events are passed around as objects.
+ */
+final class FlightEvents {
+
+    private FlightEvents() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    static Object fieldResolution() {
+        return new FieldResolution();
+    }
+
+    static Object methodResolution() {
+        return new MethodResolution();
+    }
+
+    static Object similarMethodScan() {
+        return new SimilarMethodScan();
+    }
+
+    static Object constructorLookup() {
+        return new ConstructorLookup();
+    }
+
+    static void begin(final Object event) {
+        ((Event) event).begin();
+    }
+
+    /**
+     * Ends the event and commits it, if the recording settings
+     * and the threshold allows it. The argument types are only
+     * formatted for the committed events.
+     */
+    static void record(final Object event, final Class<?> type, final String name, final Object types) {
+        final var resolution = (Resolution) event;
+        resolution.end();
+        if (resolution.shouldCommit()) {
+            resolution.targetClass = type;
+            resolution.memberName = name;
+            resolution.argumentTypes = Events.format(types);
+            resolution.commit();
+        }
+    }
+
+    static void exceptionWrap(final Throwable cause) {
+        final var event = new ExceptionWrap();
+        if (event.shouldCommit()) {
+            event.exceptionClass = cause == null ? null : cause.getClass();
+            event.message = cause == null ? null : cause.getMessage();
+            event.commit();
+        }
+    }
+
+    /**
+     * Common base for the events measuring a member lookup.
+     * The duration of the event is the time spent resolving.
+     */
+    @Category("Bean Mirror")
+    @StackTrace
+    @Threshold("1 ms")
+    private abstract static class Resolution extends Event {
+
+        @Label("Target Class")
+        Class<?> targetClass;
+
+        @Label("Member Name")
+        String memberName;
+
+        @Label("Argument Types")
+        String argumentTypes;
+    }
+
+    @Name("com.github.elopteryx.reflect.FieldResolution")
+    @Label("Field Resolution")
+    @Description("Time spent resolving a field by its name and type")
+    private static final class FieldResolution extends Resolution {}
+
+    @Name("com.github.elopteryx.reflect.MethodResolution")
+    @Label("Method Resolution")
+    @Description("Time spent resolving a method by its name and argument types")
+    private static final class MethodResolution extends Resolution {}
+
+    @Name("com.github.elopteryx.reflect.SimilarMethodScan")
+    @Label("Similar Method Scan")
+    @Description("Time spent scanning the methods for a similar signature")
+    private static final class SimilarMethodScan extends Resolution {}
+
+    @Name("com.github.elopteryx.reflect.ConstructorLookup")
+    @Label("Constructor Lookup")
+    @Description("Time spent resolving a constructor by its argument types")
+    private static final class ConstructorLookup extends Resolution {}
+
+    @Name("com.github.elopteryx.reflect.ExceptionWrap")
+    @Label("Exception Wrap")
+    @Description("An exception wrapped by the library, with the stack trace of the call site")
+    @Category("Bean Mirror")
+    @StackTrace
+    @Threshold("0 ms")
+    private static final class ExceptionWrap extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+    }
+}
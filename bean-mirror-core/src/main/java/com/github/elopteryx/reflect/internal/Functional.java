@@ -1,13 +1,21 @@
 package com.github.elopteryx.reflect.internal;
 
+import static com.github.elopteryx.reflect.internal.MemberCache.NO_TYPES;
 import static com.github.elopteryx.reflect.internal.Utils.wrapper;
+import static java.lang.invoke.MethodType.methodType;
 
 import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Events.FieldResolutionEvent;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,7 +29,8 @@ public final class Functional {
     }
 
     /**
-     * Getter creator method used by both Mirror implementations.
+     * Getter creator method used by both Mirror implementations. The
+     * getter is upgraded to a generated class after it gets hot.
      * @param name The field name
      * @param lookup The lookup used for access check
      * @param targetType The class type
@@ -32,12 +41,17 @@ public final class Functional {
      */
     @SuppressWarnings("unchecked")
     public static <T, R> Function<T, R> createGetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
         try {
-            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, returnType);
+            final var field = MemberTable.of(targetType).field(name);
+            final var varHandle = getLookup(field, lookup).findVarHandle(field.getDeclaringClass(), name, returnType);
             final var classToUse = (Class<R>) wrapper(returnType);
-            return obj -> classToUse.cast(varHandle.get(obj));
+            return Tiers.getter(obj -> classToUse.cast(varHandle.get(obj)), targetType, name, lookup);
         } catch (final Throwable throwable) {
             throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, name, returnType);
         }
     }
 
@@ -53,17 +67,24 @@ public final class Functional {
      */
     @SuppressWarnings("unchecked")
     public static <T, R> Supplier<R> createStaticGetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
         try {
-            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, returnType);
+            final var field = MemberTable.of(targetType).staticField(name);
+            final var varHandle = getLookup(field, lookup).findStaticVarHandle(field.getDeclaringClass(), name, returnType);
             final var classToUse = (Class<R>) wrapper(returnType);
             return () -> classToUse.cast(varHandle.get());
         } catch (final Throwable throwable) {
             throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, name, returnType);
         }
     }
 
     /**
-     * Setter creator method used by both Mirror implementations.
+     * Setter creator method used by both Mirror implementations. If the
+     * field has a different type, then the values are converted to it,
+     * otherwise the setter is upgraded to a generated class after it gets hot.
      * @param name The field name
      * @param lookup The lookup used for access check
      * @param targetType The class type
@@ -73,16 +94,35 @@ public final class Functional {
      * @return A new bi-consumer
      */
     public static <T, R> BiConsumer<T, R> createSetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
         try {
-            final var varHandle = getLookup(name, lookup, targetType).findVarHandle(targetType, name, returnType);
-            return (target, value) -> varHandle.set((T)target, (R)value);
+            final var field = MemberTable.of(targetType).field(name);
+            final var fieldType = field.getType();
+            final var fieldLookup = getLookup(field, lookup);
+            if (fieldType != returnType) {
+                final var setter = Conversions.setter(fieldLookup.findSetter(field.getDeclaringClass(), name, fieldType), returnType)
+                        .asType(methodType(void.class, Object.class, Object.class));
+                return (target, value) -> {
+                    try {
+                        setter.invokeExact((Object) target, (Object) value);
+                    } catch (final Throwable throwable) {
+                        throw new BeanMirrorException(throwable);
+                    }
+                };
+            }
+            final var varHandle = fieldLookup.findVarHandle(field.getDeclaringClass(), name, returnType);
+            return Tiers.setter((target, value) -> varHandle.set((T)target, (R)value), targetType, name, lookup);
         } catch (final Throwable throwable) {
             throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, name, returnType);
         }
     }
 
     /**
-     * Static setter creator method used by both Mirror implementations.
+     * Static setter creator method used by both Mirror implementations. If
+     * the field has a different type, then the values are converted to it.
      * @param name The field name
      * @param lookup The lookup used for access check
      * @param targetType The class type
@@ -92,17 +132,210 @@ public final class Functional {
      * @return A new consumer
      */
     public static <T, R> Consumer<R> createStaticSetter(final String name, final Lookup lookup, final Class<T> targetType, final Class<R> returnType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
         try {
-            final var varHandle = getLookup(name, lookup, targetType).findStaticVarHandle(targetType, name, returnType);
+            final var field = MemberTable.of(targetType).staticField(name);
+            final var fieldType = field.getType();
+            final var fieldLookup = getLookup(field, lookup);
+            if (fieldType != returnType) {
+                final var setter = Conversions.setter(fieldLookup.findStaticSetter(field.getDeclaringClass(), name, fieldType), returnType)
+                        .asType(methodType(void.class, Object.class));
+                return value -> {
+                    try {
+                        setter.invokeExact((Object) value);
+                    } catch (final Throwable throwable) {
+                        throw new BeanMirrorException(throwable);
+                    }
+                };
+            }
+            final var varHandle = fieldLookup.findStaticVarHandle(field.getDeclaringClass(), name, returnType);
             return value -> varHandle.set((R)value);
         } catch (final Throwable throwable) {
             throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, name, returnType);
         }
     }
 
-    private static <T> Lookup getLookup(final String name, final Lookup lookup, final Class<T> targetType) throws IllegalAccessException, NoSuchFieldException {
-        final var field = targetType.getDeclaredField(name);
-        return isPrivateAndModifiable(field) ? MethodHandles.privateLookupIn(targetType, lookup) : lookup;
+    /**
+     * Resolves the instance field with the given name, using its declared type.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return The var handle for the field
+     */
+    public static <T> VarHandle findVarHandle(final String name, final Lookup lookup, final Class<T> targetType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        Class<?> fieldType = null;
+        try {
+            final var field = MemberTable.of(targetType).field(name);
+            fieldType = field.getType();
+            return getLookup(field, lookup).findVarHandle(field.getDeclaringClass(), name, fieldType);
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, name, fieldType);
+        }
+    }
+
+    /**
+     * Resolves the setter of the instance field, converting the values of the
+     * given type, used by both Mirror implementations. The setters are cached
+     * per class and lookup.
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param valueType The type of the values, or the NULL class for null values
+     * @return The setter handle, with the (Object, Object)void type
+     * @throws ReflectiveOperationException If the field cannot be found or accessed
+     */
+    public static MethodHandle findSetter(final String name, final Lookup lookup, final Class<?> targetType, final Class<?> valueType) throws ReflectiveOperationException {
+        return MemberCache.get(targetType, lookup, Kind.SETTER, name, valueType, NO_TYPES, () -> {
+            final var event = new FieldResolutionEvent();
+            event.begin();
+            try {
+                final var field = MemberTable.of(targetType).field(name);
+                final var setter = MemberTable.lookup(field, lookup).findSetter(field.getDeclaringClass(), name, field.getType());
+                return Conversions.setter(setter, valueType).asType(methodType(void.class, Object.class, Object.class));
+            } finally {
+                event.record(targetType, name, valueType);
+            }
+        });
+    }
+
+    /**
+     * Row reader creator method. The values of the row are converted to
+     * the field types, then passed to a constructor with parameters named
+     * after the columns, if there is one. Otherwise the no-arg constructor
+     * is used and the fields are set one by one.
+     * @param columns The field names, in the order of the row values
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Function<Object[], T> createRowReader(final String[] columns, final Lookup lookup, final Class<T> targetType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            final var table = MemberTable.of(targetType);
+            final var fields = new Field[columns.length];
+            final var types = new Class<?>[columns.length];
+            for (var i = 0; i < columns.length; i++) {
+                fields[i] = table.field(columns[i]);
+                types[i] = fields[i].getType();
+            }
+            final var privateLookup = MethodHandles.privateLookupIn(targetType, lookup);
+            final var constructor = findRowConstructor(columns, types, targetType);
+            MethodHandle handle;
+            if (constructor != null) {
+                final var filters = new MethodHandle[columns.length];
+                for (var i = 0; i < columns.length; i++) {
+                    filters[i] = rowElement(i, types[i]);
+                }
+                handle = MethodHandles.filterArguments(privateLookup.unreflectConstructor(constructor), 0, filters);
+                handle = MethodHandles.permuteArguments(handle, methodType(targetType, Object[].class), new int[columns.length]);
+            } else {
+                var setters = MethodHandles.empty(methodType(void.class, targetType, Object[].class));
+                for (var i = columns.length - 1; i >= 0; i--) {
+                    final var setter = getLookup(fields[i], lookup).findSetter(fields[i].getDeclaringClass(), columns[i], types[i])
+                            .asType(methodType(void.class, targetType, types[i]));
+                    setters = MethodHandles.foldArguments(setters, MethodHandles.filterArguments(setter, 1, rowElement(i, types[i])));
+                }
+                handle = MethodHandles.dropArguments(MethodHandles.identity(targetType), 1, Object[].class);
+                handle = MethodHandles.foldArguments(handle, setters);
+                handle = MethodHandles.foldArguments(handle, privateLookup.findConstructor(targetType, methodType(void.class)));
+            }
+            final var rowHandle = handle.asType(methodType(Object.class, Object[].class));
+            return row -> {
+                try {
+                    return (T) rowHandle.invokeExact(row);
+                } catch (final Throwable throwable) {
+                    throw new BeanMirrorException(throwable);
+                }
+            };
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, String.join(",", columns), (Class<?>) null);
+        }
+    }
+
+    /**
+     * Row writer creator method. The values of the fields are boxed
+     * if needed and stored in the row, in the order of the columns.
+     * @param columns The field names, in the order of the row values
+     * @param lookup The lookup used for access check
+     * @param targetType The class type
+     * @param <T> Generic param for the class
+     * @return A new bi-consumer
+     */
+    public static <T> BiConsumer<T, Object[]> createRowWriter(final String[] columns, final Lookup lookup, final Class<T> targetType) {
+        final var event = new FieldResolutionEvent();
+        event.begin();
+        try {
+            final var elementSetter = MethodHandles.arrayElementSetter(Object[].class);
+            final var table = MemberTable.of(targetType);
+            var writers = MethodHandles.empty(methodType(void.class, Object[].class, targetType));
+            for (var i = columns.length - 1; i >= 0; i--) {
+                final var field = table.field(columns[i]);
+                final var getter = getLookup(field, lookup).findGetter(field.getDeclaringClass(), columns[i], field.getType())
+                        .asType(methodType(Object.class, targetType));
+                final var writer = MethodHandles.filterArguments(MethodHandles.insertArguments(elementSetter, 1, i), 1, getter);
+                writers = MethodHandles.foldArguments(writers, writer);
+            }
+            final var rowHandle = MethodHandles.permuteArguments(writers, methodType(void.class, targetType, Object[].class), 1, 0)
+                    .asType(methodType(void.class, Object.class, Object[].class));
+            return (target, row) -> {
+                try {
+                    rowHandle.invokeExact((Object) target, row);
+                } catch (final Throwable throwable) {
+                    throw new BeanMirrorException(throwable);
+                }
+            };
+        } catch (final Throwable throwable) {
+            throw new BeanMirrorException(throwable);
+        } finally {
+            event.record(targetType, String.join(",", columns), (Class<?>) null);
+        }
+    }
+
+    /**
+     * Returns a handle which reads the value at the index of the row,
+     * converted to the given type. Primitive types are unboxed.
+     */
+    private static MethodHandle rowElement(final int index, final Class<?> type) {
+        return MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index)
+                .asType(methodType(type, Object[].class));
+    }
+
+    /**
+     * Finds the constructor with parameters matching the columns, by their names and
+     * types. The parameter names are only available if the class was compiled with
+     * the '-parameters' flag.
+     */
+    private static Constructor<?> findRowConstructor(final String[] columns, final Class<?>[] types, final Class<?> targetType) {
+        for (final var constructor : targetType.getDeclaredConstructors()) {
+            final var parameters = constructor.getParameters();
+            if (parameters.length == columns.length && Arrays.equals(constructor.getParameterTypes(), types)) {
+                var matches = true;
+                for (var i = 0; i < parameters.length && matches; i++) {
+                    matches = parameters[i].isNamePresent() && parameters[i].getName().equals(columns[i]);
+                }
+                if (matches) {
+                    return constructor;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Lookup getLookup(final Field field, final Lookup lookup) throws IllegalAccessException {
+        return isPrivateAndModifiable(field) ? MemberTable.lookup(field, lookup) : lookup;
     }
 
     private static boolean isPrivateAndModifiable(final Field field) {
@@ -0,0 +1,479 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Implements interfaces with generated classes. Each generated class
+ * has a final method handle field for each implemented method, and the
+ * method passes its arguments to the handle with an exact invocation,
+ * without allocating an array or boxing the primitive values. The views
+ * also have a target field, which is passed to the handles before the
+ * arguments. The classes are defined with the lookup of the interface,
+ * or if that is not accessible, with the lookup of the caller. They are
+ * generated once per host class, interface, shape and set of implemented
+ * methods, the handles are passed to the constructor. The constructors
+ * are cached on the host class, which can see the generated class.
+ */
+public final class Implementations {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    /**
+     * The constructors of the generated classes, by the host class, then
+     * the interface, the shape and the implemented methods.
+     */
+    private static final ClassValue<Map<List<Object>, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<List<Object>, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final String HANDLE = "java/lang/invoke/MethodHandle";
+
+    private static final String HANDLE_DESCRIPTOR = "L" + HANDLE + ";";
+
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+    private Implementations() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes the cached constructors of the classes hosted by the class.
+     * The next implementations define new classes.
+     * @param host The host class
+     */
+    public static void invalidate(final Class<?> host) {
+        CONSTRUCTORS.remove(host);
+    }
+
+    /**
+     * Creates a new implementation of the interface. The dispatcher returns
+     * the target handle for each method, which is adapted to the type of the
+     * method. The default methods and the methods of Object are only
+     * implemented if the dispatcher returns a handle for them.
+     * @param type The interface type
+     * @param dispatcher Returns the target handles, or null
+     * @param lookup The lookup of the caller
+     * @param <I> The generic type
+     * @return A new implementation
+     * @throws ReflectiveOperationException If an abstract method has no target, or the interface is not accessible
+     */
+    public static <I> I implement(final Class<I> type, final Function<Method, MethodHandle> dispatcher, final Lookup lookup) throws ReflectiveOperationException {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("The type " + type + " is not an interface.");
+        }
+        final var methods = new ArrayList<Method>();
+        final var targets = new ArrayList<MethodHandle>();
+        for (final var method : methods(type)) {
+            final var target = dispatcher.apply(method);
+            if (target != null) {
+                methods.add(method);
+                targets.add(target.asType(methodType(method.getReturnType(), method.getParameterTypes())));
+            } else if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+                throw new NoSuchMethodException("No target for the method " + method + ".");
+            }
+        }
+        final var constructor = constructor(type, methods, false, lookup);
+        try {
+            return type.cast((Object) constructor.invokeExact(targets.toArray(new MethodHandle[0])));
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Creates a factory for the views of the target class, implementing the
+     * interface. Each method of the interface is bound to the instance method
+     * of the target class, with the same name, and with the same parameter
+     * types, or with similar ones. The default methods are only bound if
+     * there is a matching method.
+     * @param type The interface type
+     * @param targetType The class of the targets
+     * @param lookup The lookup of the caller
+     * @return The factory, with the type (Object)Object
+     * @throws ReflectiveOperationException If an abstract method has no matching method, or a method is not accessible
+     */
+    public static MethodHandle view(final Class<?> type, final Class<?> targetType, final Lookup lookup) throws ReflectiveOperationException {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("The type " + type + " is not an interface.");
+        }
+        final var table = MemberTable.of(targetType);
+        final var methods = new ArrayList<Method>();
+        final var targets = new ArrayList<MethodHandle>();
+        for (final var method : methods(type)) {
+            final var target = matching(table, method);
+            if (target != null) {
+                methods.add(method);
+                targets.add(MemberTable.unreflect(target, lookup)
+                        .asType(methodType(method.getReturnType(), method.getParameterTypes()).insertParameterTypes(0, Object.class)));
+            } else if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+                throw new NoSuchMethodException("No method matches " + method + " on type " + targetType + ".");
+            }
+        }
+        final var constructor = constructor(type, methods, true, lookup);
+        return MethodHandles.insertArguments(constructor, 1, (Object) targets.toArray(new MethodHandle[0]))
+                .asType(methodType(Object.class, Object.class));
+    }
+
+    private static Method matching(final MemberTable table, final Method method) {
+        for (final var candidate : table.methods(method.getName())) {
+            if (!Modifier.isStatic(candidate.getModifiers()) && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        try {
+            return table.similarMethod(method.getName(), false, method.getParameterTypes());
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the instance methods of the interface, in a stable order. If more
+     * than one interface declares the same method, then the one with the most
+     * specific return type is used.
+     */
+    private static List<Method> methods(final Class<?> type) {
+        final var signatures = new HashMap<List<Object>, Method>();
+        for (final var method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            signatures.merge(List.of(method.getName(), List.of(method.getParameterTypes())), method,
+                    (first, second) -> first.getReturnType().isAssignableFrom(second.getReturnType()) ? second : first);
+        }
+        final var result = new ArrayList<>(signatures.values());
+        result.sort(Comparator.comparing(Method::getName).thenComparing(Implementations::descriptor));
+        return result;
+    }
+
+    private static boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the cached constructor, or defines a new class. Concurrent
+     * definitions are harmless, as every class has a unique name.
+     */
+    private static MethodHandle constructor(final Class<?> type, final List<Method> methods, final boolean view,
+                                            final Lookup lookup) throws ReflectiveOperationException {
+        final var hostLookup = hostLookup(type, lookup);
+        final var key = List.<Object>of(type, view, List.copyOf(methods));
+        final var cache = CONSTRUCTORS.get(hostLookup.lookupClass());
+        final var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var host = hostLookup.lookupClass().getPackageName();
+        final var simpleName = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+        final var name = (host.isEmpty() ? "" : host + ".") + simpleName + "$$Implementation" + COUNTER.incrementAndGet();
+        final var clazz = hostLookup.defineClass(generate(name.replace('.', '/'), type, methods, view));
+        final var constructorType = view ? methodType(void.class, Object.class, MethodHandle[].class) : methodType(void.class, MethodHandle[].class);
+        final var constructor = hostLookup.findConstructor(clazz, constructorType).asType(constructorType.changeReturnType(Object.class));
+        final var previous = cache.putIfAbsent(key, constructor);
+        return previous == null ? constructor : previous;
+    }
+
+    /**
+     * Returns a lookup for the package of the interface, so the class can see it
+     * even if its class loader is not visible from the caller. Public interfaces
+     * in packages which are not open, like the ones in java.base, are
+     * implemented in the package of the caller instead.
+     */
+    private static Lookup hostLookup(final Class<?> type, final Lookup lookup) throws IllegalAccessException {
+        try {
+            return MethodHandles.privateLookupIn(type, lookup);
+        } catch (final IllegalAccessException e) {
+            if (Modifier.isPublic(type.getModifiers()) && (lookup.lookupModes() & Lookup.PACKAGE) != 0) {
+                return lookup;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the class file. The methods are straight-line code, so they
+     * need no stack map frames.
+     */
+    private static byte[] generate(final String name, final Class<?> type, final List<Method> methods, final boolean view) {
+        try {
+            final var pool = new ConstantPool();
+            final var bytes = new ByteArrayOutputStream();
+            final var body = new DataOutputStream(bytes);
+            body.writeShort(0x1030); // ACC_FINAL, ACC_SUPER, ACC_SYNTHETIC
+            body.writeShort(pool.clazz(name));
+            body.writeShort(pool.clazz("java/lang/Object"));
+            body.writeShort(1);
+            body.writeShort(pool.clazz(type.getName().replace('.', '/')));
+            body.writeShort(methods.size() + (view ? 1 : 0));
+            if (view) {
+                body.writeShort(0x0012); // ACC_PRIVATE, ACC_FINAL
+                body.writeShort(pool.utf8("target"));
+                body.writeShort(pool.utf8(OBJECT_DESCRIPTOR));
+                body.writeShort(0);
+            }
+            for (var i = 0; i < methods.size(); i++) {
+                body.writeShort(0x0012); // ACC_PRIVATE, ACC_FINAL
+                body.writeShort(pool.utf8("h" + i));
+                body.writeShort(pool.utf8(HANDLE_DESCRIPTOR));
+                body.writeShort(0);
+            }
+            body.writeShort(methods.size() + 1);
+
+            final var constructor = new ByteArrayOutputStream();
+            final var code = new DataOutputStream(constructor);
+            code.writeByte(0x2A); // aload_0
+            code.writeByte(0xB7); // invokespecial
+            code.writeShort(pool.member(10, "java/lang/Object", "<init>", "()V"));
+            if (view) {
+                code.writeByte(0x2A); // aload_0
+                code.writeByte(0x2B); // aload_1
+                code.writeByte(0xB5); // putfield
+                code.writeShort(pool.member(9, name, "target", OBJECT_DESCRIPTOR));
+            }
+            for (var i = 0; i < methods.size(); i++) {
+                code.writeByte(0x2A); // aload_0
+                code.writeByte(view ? 0x2C : 0x2B); // aload_2 or aload_1
+                push(code, i);
+                code.writeByte(0x32); // aaload
+                code.writeByte(0xB5); // putfield
+                code.writeShort(pool.member(9, name, "h" + i, HANDLE_DESCRIPTOR));
+            }
+            code.writeByte(0xB1); // return
+            final var constructorDescriptor = "(" + (view ? OBJECT_DESCRIPTOR : "") + "[" + HANDLE_DESCRIPTOR + ")V";
+            writeMethod(body, pool, 0x0001, "<init>", constructorDescriptor, 3, view ? 3 : 2, constructor.toByteArray());
+
+            for (var i = 0; i < methods.size(); i++) {
+                final var method = methods.get(i);
+                final var descriptor = descriptor(method);
+                final var invoker = new ByteArrayOutputStream();
+                final var instructions = new DataOutputStream(invoker);
+                instructions.writeByte(0x2A); // aload_0
+                instructions.writeByte(0xB4); // getfield
+                instructions.writeShort(pool.member(9, name, "h" + i, HANDLE_DESCRIPTOR));
+                if (view) {
+                    instructions.writeByte(0x2A); // aload_0
+                    instructions.writeByte(0xB4); // getfield
+                    instructions.writeShort(pool.member(9, name, "target", OBJECT_DESCRIPTOR));
+                }
+                var slot = 1;
+                for (final var parameter : method.getParameterTypes()) {
+                    instructions.writeByte(load(parameter));
+                    instructions.writeByte(slot);
+                    slot += size(parameter);
+                }
+                instructions.writeByte(0xB6); // invokevirtual
+                final var invokeDescriptor = view ? "(" + OBJECT_DESCRIPTOR + descriptor.substring(1) : descriptor;
+                instructions.writeShort(pool.member(10, HANDLE, "invokeExact", invokeDescriptor));
+                instructions.writeByte(returns(method.getReturnType()));
+                final var maxStack = Math.max(slot + (view ? 1 : 0), size(method.getReturnType()));
+                writeMethod(body, pool, 0x0001, method.getName(), descriptor, maxStack, slot, invoker.toByteArray());
+            }
+            body.writeShort(0);
+
+            final var result = new ByteArrayOutputStream();
+            final var output = new DataOutputStream(result);
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(55);
+            pool.write(output);
+            output.write(bytes.toByteArray());
+            return result.toByteArray();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void writeMethod(final DataOutputStream output, final ConstantPool pool, final int access, final String name,
+                                    final String descriptor, final int maxStack, final int maxLocals, final byte[] code) throws IOException {
+        output.writeShort(access);
+        output.writeShort(pool.utf8(name));
+        output.writeShort(pool.utf8(descriptor));
+        output.writeShort(1);
+        output.writeShort(pool.utf8("Code"));
+        output.writeInt(12 + code.length);
+        output.writeShort(maxStack);
+        output.writeShort(maxLocals);
+        output.writeInt(code.length);
+        output.write(code);
+        output.writeShort(0);
+        output.writeShort(0);
+    }
+
+    private static String descriptor(final Method method) {
+        return methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private static void push(final DataOutputStream code, final int value) throws IOException {
+        if (value <= 5) {
+            code.writeByte(0x03 + value); // iconst_<n>
+        } else if (value <= Byte.MAX_VALUE) {
+            code.writeByte(0x10); // bipush
+            code.writeByte(value);
+        } else {
+            code.writeByte(0x11); // sipush
+            code.writeShort(value);
+        }
+    }
+
+    private static int load(final Class<?> type) {
+        if (type == long.class) {
+            return 0x16;
+        } else if (type == float.class) {
+            return 0x17;
+        } else if (type == double.class) {
+            return 0x18;
+        } else if (type.isPrimitive()) {
+            return 0x15;
+        }
+        return 0x19;
+    }
+
+    private static int returns(final Class<?> type) {
+        if (type == void.class) {
+            return 0xB1;
+        } else if (type == long.class) {
+            return 0xAD;
+        } else if (type == float.class) {
+            return 0xAE;
+        } else if (type == double.class) {
+            return 0xAF;
+        } else if (type.isPrimitive()) {
+            return 0xAC;
+        }
+        return 0xB0;
+    }
+
+    private static int size(final Class<?> type) {
+        return type == void.class ? 0 : type == long.class || type == double.class ? 2 : 1;
+    }
+
+    /**
+     * The constant pool of the generated class, with the entries deduplicated.
+     */
+    static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private final DataOutputStream output = new DataOutputStream(bytes);
+
+        private final Map<List<Object>, Integer> indexes = new HashMap<>();
+
+        int utf8(final String value) throws IOException {
+            final var key = List.<Object>of(1, value);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            output.writeByte(1);
+            output.writeUTF(value);
+            return add(key);
+        }
+
+        int clazz(final String name) throws IOException {
+            final var key = List.<Object>of(7, name);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final var nameIndex = utf8(name);
+            output.writeByte(7);
+            output.writeShort(nameIndex);
+            return add(key);
+        }
+
+        int member(final int tag, final String owner, final String name, final String descriptor) throws IOException {
+            final var key = List.<Object>of(tag, owner, name, descriptor);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final var ownerIndex = clazz(owner);
+            final var nameAndTypeIndex = nameAndType(name, descriptor);
+            output.writeByte(tag);
+            output.writeShort(ownerIndex);
+            output.writeShort(nameAndTypeIndex);
+            return add(key);
+        }
+
+        int methodHandle(final int kind, final String owner, final String name, final String descriptor) throws IOException {
+            final var key = List.<Object>of(15, kind, owner, name, descriptor);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final var memberIndex = member(10, owner, name, descriptor);
+            output.writeByte(15);
+            output.writeByte(kind);
+            output.writeShort(memberIndex);
+            return add(key);
+        }
+
+        int invokeDynamic(final int bootstrap, final String name, final String descriptor) throws IOException {
+            final var key = List.<Object>of(18, bootstrap, name, descriptor);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final var nameAndTypeIndex = nameAndType(name, descriptor);
+            output.writeByte(18);
+            output.writeShort(bootstrap);
+            output.writeShort(nameAndTypeIndex);
+            return add(key);
+        }
+
+        private int nameAndType(final String name, final String descriptor) throws IOException {
+            final var key = List.<Object>of(12, name, descriptor);
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final var nameIndex = utf8(name);
+            final var descriptorIndex = utf8(descriptor);
+            output.writeByte(12);
+            output.writeShort(nameIndex);
+            output.writeShort(descriptorIndex);
+            return add(key);
+        }
+
+        private int add(final List<Object> key) {
+            final var index = indexes.size() + 1;
+            indexes.put(key, index);
+            return index;
+        }
+
+        void write(final DataOutputStream target) throws IOException {
+            target.writeShort(indexes.size() + 1);
+            target.write(bytes.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive long keys, using open addressing with
+ * linear probing. The keys are not boxed and there are no entry
+ * objects, the keys and values are stored in two parallel arrays.
+ * Null values are not supported. Not thread-safe.
+ * @param <V> The type of the values
+ */
+public final class LongHashMap<V> {
+
+    /**
+     * Functional interface for iterating over the entries.
+     * @param <V> The type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Performs the operation on the entry.
+         * @param key The key
+         * @param value The value
+         */
+        void accept(long key, V value);
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    private int mask;
+
+    /**
+     * Creates a new, empty map.
+     */
+    public LongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty map which can hold the given
+     * number of entries without resizing.
+     * @param expectedSize The expected number of entries
+     */
+    public LongHashMap(final int expectedSize) {
+        final var capacity = Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value for the key.
+     * @param key The key
+     * @return The value or null, if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        var index = index(key);
+        while (true) {
+            final var value = values[index];
+            if (value == null) {
+                return null;
+            } else if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Associates the value with the key.
+     * @param key The key
+     * @param value The value, cannot be null
+     * @return The previous value or null, if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported!");
+        }
+        var index = index(key);
+        while (true) {
+            final var current = values[index];
+            if (current == null) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size * 2 > values.length) {
+                    resize();
+                }
+                return null;
+            } else if (keys[index] == key) {
+                values[index] = value;
+                return (V) current;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     * @return The size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs the operation for each entry, in no particular order.
+     * @param consumer The operation
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final EntryConsumer<? super V> consumer) {
+        for (var i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int index(final long key) {
+        final var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        mask = values.length - 1;
+        size = 0;
+        for (var i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final var builder = new StringBuilder("{");
+        forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the keys, in no particular order.
+     * @return A new array
+     */
+    public long[] keys() {
+        final var result = new long[size];
+        var index = 0;
+        for (var i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[index++] = keys[i];
+            }
+        }
+        return index == size ? result : Arrays.copyOf(result, index);
+    }
+}
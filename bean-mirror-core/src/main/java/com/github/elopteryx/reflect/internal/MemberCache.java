@@ -0,0 +1,245 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Caches the resolved members of classes. Each class has its own
+ * bounded cache, attached to it through a class value, so the cached
+ * handles are only reachable from the class itself and do not prevent
+ * its class loader from being collected. The other classes of the keys,
+ * like the lookup class and the parameter types, are held weakly.
+ *
+ * <p>The maximum number of members per class can be configured with the
+ * 'com.github.elopteryx.reflect.cacheSize' system property, the default
+ * is 256. Failed resolutions are never cached.</p>
+ */
+public final class MemberCache {
+
+    /**
+     * The kinds of the cached members.
+     */
+    public enum Kind { FIELD, STATIC_FIELD, SETTER, STATIC_SETTER, METHOD, SPECIAL_METHOD, STATIC_METHOD, CONSTRUCTOR, PROPERTIES, ANNOTATED, VIEW, CONSTANT, BATCH, CURSOR }
+
+    /**
+     * Resolves a member, on a cache miss.
+     * @param <V> The type of the resolved value
+     * @param <E> The type of the thrown exception
+     */
+    @FunctionalInterface
+    public interface Resolver<V, E extends Throwable> {
+
+        /**
+         * Resolves the member.
+         * @return The resolved value, cannot be null
+         * @throws E If the member cannot be resolved
+         */
+        V resolve() throws E;
+    }
+
+    /**
+     * The maximum number of members per class.
+     */
+    public static final int MAX_SIZE = Integer.getInteger("com.github.elopteryx.reflect.cacheSize", 256);
+
+    /**
+     * The parameter types of the fields.
+     */
+    public static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    /**
+     * The reusable keys of the queries, so the lookups do not allocate.
+     */
+    private static final ThreadLocal<Key> PROBES = ThreadLocal.withInitial(Key::new);
+
+    private static final ClassValue<BoundedCache<Key, Object>> CACHES = new ClassValue<>() {
+        @Override
+        protected BoundedCache<Key, Object> computeValue(final Class<?> type) {
+            return new BoundedCache<>(MAX_SIZE);
+        }
+    };
+
+    private MemberCache() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the cached member, or resolves and caches it. The cache is
+     * queried with {@link #find}, the resolver is only called on a miss.
+     * Hot paths should call find first, so they do not even create the
+     * resolver if the member is cached.
+     * @param type The class declaring the member
+     * @param lookup The lookup used for access check
+     * @param kind The kind of the member
+     * @param name The name of the member
+     * @param memberType The type of the field, the type of the values for setters, or the return type of the method, can be null
+     * @param types The parameter types of the member
+     * @param resolver The resolver used on a cache miss
+     * @param <V> The type of the resolved value
+     * @param <E> The type of the thrown exception
+     * @return The resolved value
+     * @throws E If the member cannot be resolved
+     */
+    public static <V, E extends Throwable> V get(final Class<?> type, final Lookup lookup, final Kind kind, final String name,
+                                                 final Class<?> memberType, final Class<?>[] types, final Resolver<V, E> resolver) throws E {
+        final V cached = find(type, lookup, kind, name, memberType, types);
+        return cached != null ? cached : resolve(type, lookup, kind, name, memberType, types, resolver);
+    }
+
+    /**
+     * Returns the cached member. The query does not allocate, the key
+     * is reused by the current thread.
+     * @param type The class declaring the member
+     * @param lookup The lookup used for access check
+     * @param kind The kind of the member
+     * @param name The name of the member
+     * @param memberType The type of the field, the type of the values for setters, or the return type of the method, can be null
+     * @param types The parameter types of the member
+     * @param <V> The type of the resolved value
+     * @return The cached value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V find(final Class<?> type, final Lookup lookup, final Kind kind, final String name,
+                             final Class<?> memberType, final Class<?>[] types) {
+        final var cache = CACHES.get(type);
+        final var probe = PROBES.get().set(kind, name, lookup, memberType, types);
+        try {
+            return (V) cache.get(probe);
+        } finally {
+            probe.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Throwable> V resolve(final Class<?> type, final Lookup lookup, final Kind kind, final String name,
+                                                      final Class<?> memberType, final Class<?>[] types, final Resolver<V, E> resolver) throws E {
+        return (V) CACHES.get(type).putIfAbsent(Key.weak(kind, name, lookup, memberType, types), resolver.resolve());
+    }
+
+    /**
+     * Removes the cached members of the class.
+     * @param type The class declaring the members
+     */
+    public static void invalidate(final Class<?> type) {
+        CACHES.remove(type);
+    }
+
+    /**
+     * Returns the number of cached members of the class.
+     * @param type The class declaring the members
+     * @return The number of cached members
+     */
+    public static int size(final Class<?> type) {
+        return CACHES.get(type).size();
+    }
+
+    /**
+     * The key of a cached member. The keys used for the queries are
+     * reused by each thread, and hold the classes strongly until the
+     * query is finished. The keys stored in the cache hold them weakly.
+     */
+    private static final class Key {
+
+        /**
+         * Stands in for the collected classes of the weak keys.
+         */
+        private static final Object CLEARED = new Object();
+
+        private Kind kind;
+
+        private String name;
+
+        private int modes;
+
+        /**
+         * The lookup class, the member type and the parameter
+         * types, as classes or weak references. Only the first
+         * length elements are used, the rest is null.
+         */
+        private Object[] classes;
+
+        private int length;
+
+        private int hash;
+
+        /**
+         * Creates an empty key, used for the queries.
+         */
+        private Key() {
+            this.classes = new Object[8];
+        }
+
+        private static Key weak(final Kind kind, final String name, final Lookup lookup, final Class<?> memberType, final Class<?>[] types) {
+            final var key = new Key().set(kind, name, lookup, memberType, types);
+            final var classes = new Object[key.length];
+            for (var i = 0; i < classes.length; i++) {
+                classes[i] = key.classes[i] == null ? null : new WeakReference<>(key.classes[i]);
+            }
+            key.classes = classes;
+            return key;
+        }
+
+        private Key set(final Kind kind, final String name, final Lookup lookup, final Class<?> memberType, final Class<?>[] types) {
+            this.kind = kind;
+            this.name = name;
+            this.modes = lookup.lookupModes();
+            this.length = types.length + 2;
+            if (classes.length < length) {
+                classes = new Object[length];
+            }
+            classes[0] = lookup.lookupClass();
+            classes[1] = memberType;
+            System.arraycopy(types, 0, classes, 2, types.length);
+            var result = 31 * kind.ordinal() + name.hashCode();
+            for (var i = 0; i < length; i++) {
+                result = 31 * result + System.identityHashCode(classes[i]);
+            }
+            this.hash = 31 * result + modes;
+            return this;
+        }
+
+        /**
+         * Releases the classes of the query.
+         */
+        private void clear() {
+            Arrays.fill(classes, 0, length, null);
+            name = null;
+        }
+
+        private Object clazz(final int index) {
+            final var value = classes[index];
+            if (value instanceof WeakReference) {
+                final var referent = ((WeakReference<?>) value).get();
+                return referent == null ? CLEARED : referent;
+            }
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final var other = (Key) obj;
+            if (hash != other.hash || kind != other.kind || modes != other.modes || length != other.length || !name.equals(other.name)) {
+                return false;
+            }
+            for (var i = 0; i < length; i++) {
+                if (clazz(i) != other.clazz(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
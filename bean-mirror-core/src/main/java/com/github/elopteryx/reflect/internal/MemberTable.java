@@ -0,0 +1,194 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields and methods of a class and its superclasses, flattened
+ * into a single table. The fields declared by the subclasses shadow
+ * the fields of the superclasses with the same name, the methods
+ * overridden by the subclasses are left out. The private methods
+ * cannot be overridden, so they are always included. The default
+ * methods of the interfaces follow the methods of the classes. The
+ * members of each name are ordered from the class to its ancestors.
+ *
+ * <p>The table is built once per class, and attached to it through a
+ * class value. The members record their declaring classes, the
+ * handles must be resolved with a lookup scoped to them, which is
+ * returned by {@link #lookup(Member, Lookup)}.</p>
+ */
+public final class MemberTable {
+
+    private static final ClassValue<MemberTable> TABLES = new ClassValue<>() {
+        @Override
+        protected MemberTable computeValue(final Class<?> type) {
+            return new MemberTable(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private final Map<String, Field> fields = new HashMap<>();
+
+    private final Map<String, Field> staticFields = new HashMap<>();
+
+    private final Map<String, List<Method>> methods = new HashMap<>();
+
+    private MemberTable(final Class<?> type) {
+        this.type = type;
+        final var signatures = new HashSet<List<Object>>();
+        for (var current = type; current != null; current = current.getSuperclass()) {
+            for (final var field : current.getDeclaredFields()) {
+                (Modifier.isStatic(field.getModifiers()) ? staticFields : fields).putIfAbsent(field.getName(), field);
+            }
+            for (final var method : current.getDeclaredMethods()) {
+                add(method, signatures);
+            }
+        }
+        for (final var method : type.getMethods()) {
+            if (method.getDeclaringClass().isInterface()) {
+                add(method, signatures);
+            }
+        }
+        for (final var field : type.getFields()) {
+            if (field.getDeclaringClass().isInterface()) {
+                staticFields.putIfAbsent(field.getName(), field);
+            }
+        }
+        methods.replaceAll((name, list) -> List.copyOf(list));
+    }
+
+    private void add(final Method method, final Set<List<Object>> signatures) {
+        final var modifiers = method.getModifiers();
+        if (method.isBridge() || method.isSynthetic()) {
+            return;
+        }
+        if (!Modifier.isPrivate(modifiers) && !Modifier.isStatic(modifiers)
+                && !signatures.add(List.of(method.getName(), Arrays.asList(method.getParameterTypes())))) {
+            return;
+        }
+        methods.computeIfAbsent(method.getName(), key -> new ArrayList<>()).add(method);
+    }
+
+    /**
+     * Returns the table of the class.
+     * @param type The class type
+     * @return The cached table
+     */
+    public static MemberTable of(final Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    /**
+     * Removes the table of the class, it will be built again on the next use.
+     * @param type The class type
+     */
+    public static void invalidate(final Class<?> type) {
+        TABLES.remove(type);
+    }
+
+    /**
+     * Returns a lookup, which has private access to the declaring class of the member.
+     * @param member The member to be accessed
+     * @param lookup The lookup of the caller
+     * @return The scoped lookup
+     * @throws IllegalAccessException If the caller has no access to the declaring class
+     */
+    public static Lookup lookup(final Member member, final Lookup lookup) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(member.getDeclaringClass(), lookup);
+    }
+
+    /**
+     * Returns the handle of the method, resolved with the lookup of the caller
+     * if it has access to the method, otherwise with a scoped lookup.
+     * @param method The method
+     * @param lookup The lookup of the caller
+     * @return The method handle
+     * @throws IllegalAccessException If the caller has no access to the declaring class
+     */
+    public static MethodHandle unreflect(final Method method, final Lookup lookup) throws IllegalAccessException {
+        try {
+            return lookup.unreflect(method);
+        } catch (final IllegalAccessException e) {
+            return lookup(method, lookup).unreflect(method);
+        }
+    }
+
+    /**
+     * Returns the instance field with the given name, declared by the
+     * class or the nearest of its superclasses.
+     * @param name The name of the field
+     * @return The field
+     * @throws NoSuchFieldException If there is no such field
+     */
+    public Field field(final String name) throws NoSuchFieldException {
+        return found(fields.get(name), name);
+    }
+
+    /**
+     * Returns the static field with the given name, declared by the
+     * class, the nearest of its superclasses, or its interfaces.
+     * @param name The name of the field
+     * @return The field
+     * @throws NoSuchFieldException If there is no such field
+     */
+    public Field staticField(final String name) throws NoSuchFieldException {
+        return found(staticFields.get(name), name);
+    }
+
+    /**
+     * Returns the instance fields, including the inherited ones which are not shadowed.
+     * @return The fields
+     */
+    public Collection<Field> fields() {
+        return Collections.unmodifiableCollection(fields.values());
+    }
+
+    private Field found(final Field field, final String name) throws NoSuchFieldException {
+        if (field == null) {
+            throw new NoSuchFieldException("No field " + name + " could be found on type " + type + ".");
+        }
+        return field;
+    }
+
+    /**
+     * Returns the methods with the given name, without the overridden ones.
+     * @param name The name of the methods
+     * @return The methods, can be empty
+     */
+    public List<Method> methods(final String name) {
+        return methods.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Finds the first method with a similar signature.
+     * @param name The name of the method
+     * @param isStatic Whether a static or an instance method is needed
+     * @param types The types of the arguments
+     * @return The method
+     * @throws NoSuchMethodException If there is no such method
+     * @see Utils#isSimilarSignature(Method, String, Class[])
+     */
+    public Method similarMethod(final String name, final boolean isStatic, final Class<?>... types) throws NoSuchMethodException {
+        for (final var method : methods(name)) {
+            if (Modifier.isStatic(method.getModifiers()) == isStatic && Utils.isSimilarSignature(method, name, types)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException("No similar method " + name + " with params " + Arrays.toString(types) + " could be found on type " + type + ".");
+    }
+}
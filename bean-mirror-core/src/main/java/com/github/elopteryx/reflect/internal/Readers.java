@@ -0,0 +1,79 @@
+package com.github.elopteryx.reflect.internal;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates primitive reader functions from the var handles of
+ * primitive fields. The values are never boxed, the narrower
+ * types are widened to long or double.
+ */
+public final class Readers {
+
+    private Readers() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determines if the field can be read with {@link #longReader(VarHandle)}.
+     * @param handle The var handle of the field
+     * @return Whether the field has an integral primitive type
+     */
+    public static boolean isIntegral(final VarHandle handle) {
+        final var type = handle.varType();
+        return type == int.class || type == long.class || type == short.class || type == byte.class || type == char.class;
+    }
+
+    /**
+     * Determines if the field can be read with {@link #doubleReader(VarHandle)}.
+     * @param handle The var handle of the field
+     * @return Whether the field has a numeric primitive type
+     */
+    public static boolean isNumeric(final VarHandle handle) {
+        final var type = handle.varType();
+        return isIntegral(handle) || type == double.class || type == float.class;
+    }
+
+    /**
+     * Creates a reader for an integral primitive field.
+     * @param handle The var handle of the field
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    public static <T> ToLongFunction<T> longReader(final VarHandle handle) {
+        final var type = handle.varType();
+        if (type == int.class) {
+            return obj -> (int) handle.get(obj);
+        } else if (type == long.class) {
+            return obj -> (long) handle.get(obj);
+        } else if (type == short.class) {
+            return obj -> (short) handle.get(obj);
+        } else if (type == byte.class) {
+            return obj -> (byte) handle.get(obj);
+        } else if (type == char.class) {
+            return obj -> (char) handle.get(obj);
+        }
+        throw new IllegalArgumentException("Not an integral field: " + type);
+    }
+
+    /**
+     * Creates a reader for a numeric primitive field.
+     * @param handle The var handle of the field
+     * @param <T> Generic param for the class
+     * @return A new function
+     */
+    public static <T> ToDoubleFunction<T> doubleReader(final VarHandle handle) {
+        final var type = handle.varType();
+        if (type == double.class) {
+            return obj -> (double) handle.get(obj);
+        } else if (type == float.class) {
+            return obj -> (float) handle.get(obj);
+        } else if (isIntegral(handle)) {
+            final ToLongFunction<T> reader = longReader(handle);
+            return reader::applyAsLong;
+        }
+        throw new IllegalArgumentException("Not a numeric field: " + type);
+    }
+}
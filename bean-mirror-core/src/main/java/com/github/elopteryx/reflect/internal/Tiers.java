@@ -0,0 +1,299 @@
+package com.github.elopteryx.reflect.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.github.elopteryx.reflect.BeanMirror;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Upgrades the functional accessors after they get hot. The accessors start
+ * with an implementation which is cheap to create, and count their calls.
+ * When the count reaches the threshold, they switch to a generated class,
+ * defined in the package of the target. The generated class reads or writes
+ * the field with an invokedynamic instruction, linked by the bootstrap methods
+ * of the bean mirror, so the compiled access is a plain field access. The
+ * generated classes are stateless, and shared by the accessors of the same
+ * field. If the class cannot be defined, for example because the target cannot
+ * see the bean mirror, then the accessor keeps its first implementation.
+ */
+public final class Tiers {
+
+    /**
+     * The number of calls before the upgrade. It can be set with the
+     * 'com.github.elopteryx.reflect.tierThreshold' system property,
+     * zero disables the upgrade.
+     */
+    public static final int THRESHOLD = Integer.getInteger("com.github.elopteryx.reflect.tierThreshold", 10_000);
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private static final ClassValue<Map<List<Object>, Object>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<List<Object>, Object> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final String BEAN_MIRROR = BeanMirror.class.getName().replace('.', '/');
+
+    private static final String BOOTSTRAP_DESCRIPTOR = methodType(CallSite.class, Lookup.class, String.class, MethodType.class)
+            .toMethodDescriptorString();
+
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+    private Tiers() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Wraps the getter into a tiered one.
+     * @param initial The first implementation
+     * @param targetType The class type
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new function
+     */
+    public static <T, R> Function<T, R> getter(final Function<T, R> initial, final Class<T> targetType, final String name, final Lookup lookup) {
+        return new TieredGetter<>(initial, targetType, name, lookup);
+    }
+
+    /**
+     * Wraps the setter into a tiered one. The setter must not convert
+     * the values, as the generated class does not.
+     * @param initial The first implementation
+     * @param targetType The class type
+     * @param name The field name
+     * @param lookup The lookup used for access check
+     * @param <T> Generic param for the class
+     * @param <R> Generic param for the field
+     * @return A new bi-consumer
+     */
+    public static <T, R> BiConsumer<T, R> setter(final BiConsumer<T, R> initial, final Class<T> targetType, final String name, final Lookup lookup) {
+        return new TieredSetter<>(initial, targetType, name, lookup);
+    }
+
+    /**
+     * Removes the cached generated accessors of the class. The already
+     * upgraded accessors keep their generated classes.
+     * @param targetType The class type
+     */
+    public static void invalidate(final Class<?> targetType) {
+        ACCESSORS.remove(targetType);
+    }
+
+    /**
+     * Returns whether the accessor switched to the generated class.
+     * @param accessor The accessor
+     * @return True, if it was upgraded
+     */
+    public static boolean isUpgraded(final Object accessor) {
+        return accessor instanceof Tiered && ((Tiered<?>) accessor).delegate != ((Tiered<?>) accessor).initial;
+    }
+
+    /**
+     * Counts the calls of the accessor. The counter and the delegate are not
+     * synchronized, a lost update only delays the upgrade, and both of the
+     * implementations are safe to publish.
+     */
+    private abstract static class Tiered<F> {
+
+        private final F initial;
+
+        private final Class<?> targetType;
+
+        private final String name;
+
+        private final Lookup lookup;
+
+        private final boolean setter;
+
+        private F delegate;
+
+        private int calls;
+
+        private Tiered(final F initial, final Class<?> targetType, final String name, final Lookup lookup, final boolean setter) {
+            this.initial = initial;
+            this.targetType = targetType;
+            this.name = name;
+            this.lookup = lookup;
+            this.setter = setter;
+            this.delegate = initial;
+        }
+
+        final F delegate() {
+            if (calls < THRESHOLD) {
+                count();
+            }
+            return delegate;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void count() {
+            if (++calls >= THRESHOLD) {
+                calls = THRESHOLD;
+                final var accessor = accessor(targetType, name, lookup, setter);
+                if (accessor != null) {
+                    delegate = (F) accessor;
+                }
+            }
+        }
+    }
+
+    private static final class TieredGetter<T, R> extends Tiered<Function<T, R>> implements Function<T, R> {
+
+        private TieredGetter(final Function<T, R> initial, final Class<T> targetType, final String name, final Lookup lookup) {
+            super(initial, targetType, name, lookup, false);
+        }
+
+        @Override
+        public R apply(final T target) {
+            return delegate().apply(target);
+        }
+    }
+
+    private static final class TieredSetter<T, R> extends Tiered<BiConsumer<T, R>> implements BiConsumer<T, R> {
+
+        private TieredSetter(final BiConsumer<T, R> initial, final Class<T> targetType, final String name, final Lookup lookup) {
+            super(initial, targetType, name, lookup, true);
+        }
+
+        @Override
+        public void accept(final T target, final R value) {
+            delegate().accept(target, value);
+        }
+    }
+
+    /**
+     * Returns the cached accessor, or defines a new class. Returns null if the
+     * class cannot be defined or linked. Concurrent definitions are harmless,
+     * as every class has a unique name.
+     */
+    private static Object accessor(final Class<?> targetType, final String name, final Lookup lookup, final boolean setter) {
+        final var key = List.<Object>of(setter, name);
+        final var cache = ACCESSORS.get(targetType);
+        final var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (!canLink(targetType)) {
+            return null;
+        }
+        final Object accessor;
+        try {
+            final var hostLookup = MethodHandles.privateLookupIn(targetType, lookup);
+            final var className = targetType.getName() + (setter ? "$$Setter" : "$$Getter") + COUNTER.incrementAndGet();
+            final var clazz = hostLookup.defineClass(generate(className.replace('.', '/'), targetType, name, setter));
+            final var constructor = hostLookup.findConstructor(clazz, methodType(void.class)).asType(methodType(Object.class));
+            accessor = (Object) constructor.invokeExact();
+        } catch (final ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+        final var previous = cache.putIfAbsent(key, accessor);
+        return previous == null ? accessor : previous;
+    }
+
+    /**
+     * Checks whether the classes in the package of the target can link
+     * to the bootstrap methods.
+     */
+    private static boolean canLink(final Class<?> targetType) {
+        if (!targetType.getModule().canRead(BeanMirror.class.getModule())) {
+            return false;
+        }
+        try {
+            return Class.forName(BeanMirror.class.getName(), false, targetType.getClassLoader()) == BeanMirror.class;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the class file. The getter implements Function, the setter
+     * implements BiConsumer, both of them cast the target and pass it to
+     * the invokedynamic instruction, with the value for the setter.
+     */
+    private static byte[] generate(final String name, final Class<?> targetType, final String field, final boolean setter) {
+        try {
+            final var pool = new Implementations.ConstantPool();
+            final var bytes = new ByteArrayOutputStream();
+            final var body = new DataOutputStream(bytes);
+            final var target = targetType.getName().replace('.', '/');
+            body.writeShort(0x1030); // ACC_FINAL, ACC_SUPER, ACC_SYNTHETIC
+            body.writeShort(pool.clazz(name));
+            body.writeShort(pool.clazz("java/lang/Object"));
+            body.writeShort(1);
+            body.writeShort(pool.clazz(setter ? "java/util/function/BiConsumer" : "java/util/function/Function"));
+            body.writeShort(0);
+            body.writeShort(2);
+
+            final var constructor = new ByteArrayOutputStream();
+            final var code = new DataOutputStream(constructor);
+            code.writeByte(0x2A); // aload_0
+            code.writeByte(0xB7); // invokespecial
+            code.writeShort(pool.member(10, "java/lang/Object", "<init>", "()V"));
+            code.writeByte(0xB1); // return
+            Implementations.writeMethod(body, pool, 0x0001, "<init>", "()V", 1, 1, constructor.toByteArray());
+
+            final var bootstrap = pool.methodHandle(6, BEAN_MIRROR, setter ? "bootstrapSetter" : "bootstrapGetter", BOOTSTRAP_DESCRIPTOR);
+            final var accessor = new ByteArrayOutputStream();
+            final var instructions = new DataOutputStream(accessor);
+            instructions.writeByte(0x2B); // aload_1
+            instructions.writeByte(0xC0); // checkcast
+            instructions.writeShort(pool.clazz(target));
+            if (setter) {
+                instructions.writeByte(0x2C); // aload_2
+            }
+            instructions.writeByte(0xBA); // invokedynamic
+            final var callSiteType = setter ? "(L" + target + ";" + OBJECT_DESCRIPTOR + ")V" : "(L" + target + ";)" + OBJECT_DESCRIPTOR;
+            instructions.writeShort(pool.invokeDynamic(0, field, callSiteType));
+            instructions.writeShort(0);
+            instructions.writeByte(setter ? 0xB1 : 0xB0); // return or areturn
+            if (setter) {
+                final var descriptor = "(" + OBJECT_DESCRIPTOR + OBJECT_DESCRIPTOR + ")V";
+                Implementations.writeMethod(body, pool, 0x0001, "accept", descriptor, 2, 3, accessor.toByteArray());
+            } else {
+                final var descriptor = "(" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR;
+                Implementations.writeMethod(body, pool, 0x0001, "apply", descriptor, 1, 2, accessor.toByteArray());
+            }
+
+            body.writeShort(1);
+            body.writeShort(pool.utf8("BootstrapMethods"));
+            body.writeInt(6);
+            body.writeShort(1);
+            body.writeShort(bootstrap);
+            body.writeShort(0);
+
+            final var result = new ByteArrayOutputStream();
+            final var output = new DataOutputStream(result);
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(55);
+            pool.write(output);
+            output.write(bytes.toByteArray());
+            return result.toByteArray();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.elopteryx.reflect.internal;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 public final class Utils {
@@ -37,6 +38,30 @@ public final class Utils {
         return true;
     }
 
+    /**
+     * Finds the instance field with the given name, declared by the type
+     * or the nearest of its superclasses.
+     * @param type The class type to be searched
+     * @param name The name of the field
+     * @return The field
+     * @throws NoSuchFieldException If there is no such field
+     */
+    public static Field findField(final Class<?> type, final String name) throws NoSuchFieldException {
+        return MemberTable.of(type).field(name);
+    }
+
+    /**
+     * Finds the static field with the given name, declared by the type,
+     * the nearest of its superclasses, or its interfaces.
+     * @param type The class type to be searched
+     * @param name The name of the field
+     * @return The field
+     * @throws NoSuchFieldException If there is no such field
+     */
+    public static Field findStaticField(final Class<?> type, final String name) throws NoSuchFieldException {
+        return MemberTable.of(type).staticField(name);
+    }
+
     /**
      * Converts the given array of values to a new array of their types.
      * @param values The object values
@@ -88,4 +113,25 @@ public final class Utils {
 
         return type;
     }
+
+    /**
+     * Determines whether the class is visible from the class loader, through
+     * the parent delegation. If it is, then the class is already reachable
+     * from the loader, so the loader does not keep it alive by referring to it.
+     * @param type The class type
+     * @param loader The class loader, null for the bootstrap loader
+     * @return True, if the loader or one of its parents defined the class
+     */
+    public static boolean isVisible(final Class<?> type, final ClassLoader loader) {
+        final var defining = type.getClassLoader();
+        if (defining == null) {
+            return true;
+        }
+        for (var current = loader; current != null; current = current.getParent()) {
+            if (current == defining) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
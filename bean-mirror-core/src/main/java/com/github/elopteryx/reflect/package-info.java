@@ -8,5 +8,19 @@
  * which handles plain object field and method access, and there
  * is {@link com.github.elopteryx.reflect.ClassMirror} for creating
  * new instances and accessing static fields and methods.</p>
+ *
+ * <p>The {@link com.github.elopteryx.reflect.CursorMirror}, created by
+ * the class mirror, resolves the fields once and can be bound to any
+ * number of instances, for iterating over large collections. The
+ * {@link com.github.elopteryx.reflect.MirrorCallSite} does the same for
+ * a single field on receivers of unrelated classes.
+ * {@link com.github.elopteryx.reflect.BeanMirror#implement(Class, java.util.function.Function)}
+ * implements interfaces with generated classes, calling a method handle
+ * for each method, as a faster alternative to the reflection proxies.</p>
+ *
+ * <p>The members resolved by the mirrors are cached per class, with a
+ * bounded size. The caches do not prevent the classes from being
+ * unloaded, {@link com.github.elopteryx.reflect.BeanMirror#invalidate(Class)}
+ * can be used to release them eagerly.</p>
  */
 package com.github.elopteryx.reflect;
\ No newline at end of file
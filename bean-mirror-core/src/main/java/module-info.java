@@ -2,5 +2,7 @@
  * Modern reflection module.
  */
 module com.github.elopteryx.reflect {
+    requires static jdk.jfr;
+
     exports com.github.elopteryx.reflect;
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.github.elopteryx.reflect.scanner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the class-level annotations from class files, as described
+ * in chapter 4 of the JVM specification. The constant pool is parsed
+ * first, and if none of the annotation descriptors appear in it, then
+ * the rest of the class file is skipped. Otherwise the fields and the
+ * methods are skipped, and only the annotation attributes of the
+ * class are read. Both the visible and the invisible annotations are
+ * checked, so annotations retained only in the class files work too.
+ */
+final class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final byte[] VISIBLE = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] INVISIBLE = "RuntimeInvisibleAnnotations".getBytes(StandardCharsets.UTF_8);
+
+    private ClassFileParser() {
+        // No need to instantiate.
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the binary name of the class, if it is annotated with
+     * any of the given annotations.
+     * @param buffer The contents of the class file, in big-endian order
+     * @param descriptors The descriptors of the annotations, like 'Lcom/example/Marker;'
+     * @return The name of the class, or null if it is not annotated
+     * @throws IllegalArgumentException If the contents are not a valid class file
+     */
+    static String match(final ByteBuffer buffer, final byte[][] descriptors) {
+        if (buffer.limit() < 10 || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a class file.");
+        }
+        final var count = u2(buffer, 8);
+        final var offsets = new int[count];
+        final var matches = new boolean[count];
+        var matched = false;
+        var position = 10;
+        for (var i = 1; i < count; i++) {
+            offsets[i] = position;
+            final var tag = buffer.get(position);
+            switch (tag) {
+                case 1:
+                    final var length = u2(buffer, position + 1);
+                    if (equalsAny(buffer, position + 3, length, descriptors)) {
+                        matches[i] = true;
+                        matched = true;
+                    }
+                    position += 3 + length;
+                    break;
+                case 7: case 8: case 16: case 19: case 20:
+                    position += 3;
+                    break;
+                case 15:
+                    position += 4;
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                    position += 5;
+                    break;
+                case 5: case 6:
+                    position += 9;
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid constant pool tag " + tag + " at " + position + ".");
+            }
+        }
+        if (!matched) {
+            return null;
+        }
+        final var thisClass = u2(buffer, position + 2);
+        position += 6;
+        position += 2 + 2 * u2(buffer, position);
+        position = skipMembers(buffer, position);
+        position = skipMembers(buffer, position);
+        final var attributes = u2(buffer, position);
+        position += 2;
+        for (var i = 0; i < attributes; i++) {
+            final var name = offsets[u2(buffer, position)];
+            final var length = buffer.getInt(position + 2);
+            if (isUtf8(buffer, name, VISIBLE) || isUtf8(buffer, name, INVISIBLE)) {
+                if (hasAnnotation(buffer, position + 6, matches)) {
+                    return className(buffer, offsets[u2(buffer, offsets[thisClass] + 1)]);
+                }
+            }
+            position += 6 + length;
+        }
+        return null;
+    }
+
+    private static int skipMembers(final ByteBuffer buffer, final int start) {
+        final var count = u2(buffer, start);
+        var position = start + 2;
+        for (var i = 0; i < count; i++) {
+            final var attributes = u2(buffer, position + 6);
+            position += 8;
+            for (var j = 0; j < attributes; j++) {
+                position += 6 + buffer.getInt(position + 2);
+            }
+        }
+        return position;
+    }
+
+    private static boolean hasAnnotation(final ByteBuffer buffer, final int start, final boolean[] matches) {
+        final var count = u2(buffer, start);
+        var position = start + 2;
+        for (var i = 0; i < count; i++) {
+            if (matches[u2(buffer, position)]) {
+                return true;
+            }
+            position = skipAnnotation(buffer, position);
+        }
+        return false;
+    }
+
+    private static int skipAnnotation(final ByteBuffer buffer, final int start) {
+        final var pairs = u2(buffer, start + 2);
+        var position = start + 4;
+        for (var i = 0; i < pairs; i++) {
+            position = skipElementValue(buffer, position + 2);
+        }
+        return position;
+    }
+
+    private static int skipElementValue(final ByteBuffer buffer, final int start) {
+        final var tag = (char) buffer.get(start);
+        switch (tag) {
+            case 'B': case 'C': case 'D': case 'F': case 'I': case 'J': case 'S': case 'Z': case 's': case 'c':
+                return start + 3;
+            case 'e':
+                return start + 5;
+            case '@':
+                return skipAnnotation(buffer, start + 1);
+            case '[':
+                final var count = u2(buffer, start + 1);
+                var position = start + 3;
+                for (var i = 0; i < count; i++) {
+                    position = skipElementValue(buffer, position);
+                }
+                return position;
+            default:
+                throw new IllegalArgumentException("Invalid element value tag " + tag + " at " + start + ".");
+        }
+    }
+
+    private static boolean equalsAny(final ByteBuffer buffer, final int start, final int length, final byte[][] values) {
+        for (final var value : values) {
+            if (equals(buffer, start, length, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean equals(final ByteBuffer buffer, final int start, final int length, final byte[] value) {
+        if (length != value.length) {
+            return false;
+        }
+        for (var i = 0; i < length; i++) {
+            if (buffer.get(start + i) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUtf8(final ByteBuffer buffer, final int offset, final byte[] value) {
+        return offset > 0 && buffer.get(offset) == 1 && equals(buffer, offset + 3, u2(buffer, offset + 1), value);
+    }
+
+    private static String className(final ByteBuffer buffer, final int offset) {
+        final var bytes = new byte[u2(buffer, offset + 1)];
+        for (var i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + 3 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8).replace('/', '.');
+    }
+
+    private static int u2(final ByteBuffer buffer, final int position) {
+        return buffer.getShort(position) & 0xFFFF;
+    }
+}
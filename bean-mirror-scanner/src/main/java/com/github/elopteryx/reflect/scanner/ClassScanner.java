@@ -0,0 +1,167 @@
+package com.github.elopteryx.reflect.scanner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes annotated with the given annotations, in directories
+ * and jar files. The class files are parsed directly, the classes are
+ * never loaded, so their static initializers do not run, and the
+ * scanning does not fill the metaspace. Only the class-level annotations
+ * are considered, with both runtime and class retention. The class
+ * files are parsed in parallel, the jar files are memory mapped.
+ * The instances are immutable and can be shared between threads.
+ */
+public final class ClassScanner {
+
+    private final byte[][] descriptors;
+
+    private final ForkJoinPool pool;
+
+    private ClassScanner(final byte[][] descriptors, final ForkJoinPool pool) {
+        this.descriptors = descriptors;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a new scanner, which finds the classes annotated with
+     * any of the given annotations.
+     * @param annotations The annotation types
+     * @return A new scanner
+     */
+    @SafeVarargs
+    public static ClassScanner of(final Class<? extends Annotation>... annotations) {
+        final var names = new String[annotations.length];
+        for (var i = 0; i < annotations.length; i++) {
+            names[i] = Objects.requireNonNull(annotations[i], "annotation").getName();
+        }
+        return of(names);
+    }
+
+    /**
+     * Creates a new scanner, which finds the classes annotated with
+     * any of the given annotations. This allows scanning for annotation
+     * types which are not available on the class path.
+     * @param annotations The binary names of the annotation types
+     * @return A new scanner
+     */
+    public static ClassScanner of(final String... annotations) {
+        if (annotations.length == 0) {
+            throw new IllegalArgumentException("At least one annotation is required.");
+        }
+        final var descriptors = new byte[annotations.length][];
+        for (var i = 0; i < annotations.length; i++) {
+            final var name = Objects.requireNonNull(annotations[i], "annotation");
+            descriptors[i] = ("L" + name.replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
+        }
+        return new ClassScanner(descriptors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a new scanner, which parses the class files in the given pool.
+     * @param pool The pool to be used
+     * @return A new scanner
+     */
+    public ClassScanner pool(final ForkJoinPool pool) {
+        return new ClassScanner(descriptors, Objects.requireNonNull(pool, "pool"));
+    }
+
+    /**
+     * Scans the given directories and jar files.
+     * @param roots The directories, containing the class files in
+     *              their package directories, or the jar files
+     * @return The sorted binary names of the annotated classes
+     * @throws IOException If a file cannot be read, or is not a valid class file or archive
+     */
+    public List<String> scan(final Path... roots) throws IOException {
+        final var entries = new ArrayList<Supplier<ByteBuffer>>();
+        final var archives = new ArrayList<JarArchive>();
+        try {
+            for (final var root : roots) {
+                if (Files.isDirectory(root)) {
+                    try (Stream<Path> files = Files.walk(root)) {
+                        files.filter(file -> isClassFile(root.relativize(file).toString()) && Files.isRegularFile(file))
+                                .forEach(file -> entries.add(() -> read(file)));
+                    }
+                } else {
+                    final var archive = JarArchive.open(root);
+                    archives.add(archive);
+                    entries.addAll(archive.entries());
+                }
+            }
+            return pool.submit(() -> entries.parallelStream()
+                    .map(entry -> match(entry.get()))
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .collect(Collectors.toList())).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (final ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (final var archive : archives) {
+                archive.close();
+            }
+        }
+    }
+
+    private String match(final ByteBuffer buffer) {
+        try {
+            return ClassFileParser.match(buffer, descriptors);
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new UncheckedIOException(new IOException("Invalid class file.", e));
+        }
+    }
+
+    private static ByteBuffer read(final Path file) {
+        try {
+            return ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IOException unwrap(final Throwable cause) {
+        if (cause instanceof UncheckedIOException) {
+            return ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * Determines whether the entry is a class file, which can be annotated.
+     * The module and package descriptors and the versioned entries of
+     * multi-release jars are skipped.
+     */
+    static boolean isClassFile(final String name) {
+        return name.endsWith(".class")
+                && !name.startsWith("META-INF")
+                && !name.endsWith("module-info.class")
+                && !name.endsWith("package-info.class");
+    }
+}
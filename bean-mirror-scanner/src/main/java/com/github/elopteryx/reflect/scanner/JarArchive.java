@@ -0,0 +1,199 @@
+package com.github.elopteryx.reflect.scanner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * The class files of a jar file. The archive is memory mapped, and
+ * its central directory is read directly from the mapped buffer.
+ * The stored entries are returned as slices of the mapped buffer,
+ * without copying, the deflated entries are inflated from it.
+ * The archives which cannot be mapped, like the ones using the zip64
+ * format, or the ones larger than 2 GB, are read with a zip file instead.
+ */
+final class JarArchive implements Closeable {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+
+    private static final int END_SIZE = 22;
+
+    private static final int STORED = 0;
+
+    private static final int DEFLATED = 8;
+
+    private final List<Entry> entries;
+
+    private final ZipFile zipFile;
+
+    private JarArchive(final List<Entry> entries, final ZipFile zipFile) {
+        this.entries = entries;
+        this.zipFile = zipFile;
+    }
+
+    /**
+     * Opens the archive and collects its class file entries.
+     * @param path The path of the jar file
+     * @return The archive
+     * @throws IOException If the file cannot be read, or is not a valid archive
+     */
+    static JarArchive open(final Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size < END_SIZE) {
+                throw new ZipException("The file " + path + " is not a zip file.");
+            }
+            if (size <= Integer.MAX_VALUE) {
+                final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+                final var entries = readCentralDirectory(buffer);
+                if (entries != null) {
+                    return new JarArchive(entries, null);
+                }
+            }
+        }
+        return openZipFile(path);
+    }
+
+    /**
+     * Reads the entries from the central directory, or returns null
+     * if the archive uses features which require the zip file.
+     */
+    private static List<Entry> readCentralDirectory(final ByteBuffer buffer) throws ZipException {
+        var end = buffer.limit() - END_SIZE;
+        final var min = Math.max(0, end - 0xFFFF);
+        while (end >= min && buffer.getInt(end) != END_SIGNATURE) {
+            end--;
+        }
+        if (end < min) {
+            throw new ZipException("The end of the central directory is missing.");
+        }
+        final var count = buffer.getShort(end + 10) & 0xFFFF;
+        final var offset = buffer.getInt(end + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || offset == 0xFFFFFFFFL) {
+            return null;
+        }
+        final var entries = new ArrayList<Entry>();
+        var position = (int) offset;
+        for (var i = 0; i < count; i++) {
+            if (buffer.getInt(position) != CENTRAL_SIGNATURE) {
+                throw new ZipException("Invalid central directory entry at " + position + ".");
+            }
+            final var method = buffer.getShort(position + 10) & 0xFFFF;
+            final var compressed = buffer.getInt(position + 20) & 0xFFFFFFFFL;
+            final var uncompressed = buffer.getInt(position + 24) & 0xFFFFFFFFL;
+            final var nameLength = buffer.getShort(position + 28) & 0xFFFF;
+            final var extraLength = buffer.getShort(position + 30) & 0xFFFF;
+            final var commentLength = buffer.getShort(position + 32) & 0xFFFF;
+            final var local = buffer.getInt(position + 42) & 0xFFFFFFFFL;
+            final var name = name(buffer, position + 46, nameLength);
+            position += 46 + nameLength + extraLength + commentLength;
+            if (!ClassScanner.isClassFile(name)) {
+                continue;
+            }
+            if (compressed == 0xFFFFFFFFL || uncompressed == 0xFFFFFFFFL || local == 0xFFFFFFFFL
+                    || method != STORED && method != DEFLATED) {
+                return null;
+            }
+            final var header = (int) local;
+            if (buffer.getInt(header) != LOCAL_SIGNATURE) {
+                throw new ZipException("Invalid local header for " + name + ".");
+            }
+            final var start = header + 30 + (buffer.getShort(header + 26) & 0xFFFF) + (buffer.getShort(header + 28) & 0xFFFF);
+            entries.add(method == STORED
+                    ? () -> slice(buffer, start, (int) compressed)
+                    : () -> inflate(slice(buffer, start, (int) compressed), (int) uncompressed));
+        }
+        return entries;
+    }
+
+    private static List<Entry> readZipFile(final ZipFile zipFile) {
+        final var entries = new ArrayList<Entry>();
+        zipFile.stream().filter(entry -> ClassScanner.isClassFile(entry.getName())).forEach(entry -> entries.add(() -> {
+            try (var stream = zipFile.getInputStream(entry)) {
+                return ByteBuffer.wrap(stream.readAllBytes());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return entries;
+    }
+
+    private static JarArchive openZipFile(final Path path) throws IOException {
+        final var zipFile = new ZipFile(path.toFile());
+        return new JarArchive(readZipFile(zipFile), zipFile);
+    }
+
+    private static String name(final ByteBuffer buffer, final int start, final int length) {
+        final var bytes = new byte[length];
+        buffer.duplicate().position(start).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer, final int start, final int length) {
+        return buffer.duplicate().position(start).limit(start + length).slice();
+    }
+
+    private static ByteBuffer inflate(final ByteBuffer input, final int size) {
+        final var inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            final var output = ByteBuffer.allocate(size);
+            var padded = false;
+            while (output.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(output) == 0) {
+                    if (padded || !inflater.needsInput()) {
+                        throw new ZipException("The entry is truncated or corrupted.");
+                    }
+                    // The raw deflate format may require an extra byte after the input.
+                    inflater.setInput(new byte[1]);
+                    padded = true;
+                }
+            }
+            return output.flip();
+        } catch (final ZipException e) {
+            throw new UncheckedIOException(e);
+        } catch (final DataFormatException e) {
+            throw new UncheckedIOException(new ZipException(e.getMessage()));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Returns the class file entries of the archive.
+     * @return The entries
+     */
+    List<Entry> entries() {
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (zipFile != null) {
+            zipFile.close();
+        }
+    }
+
+    /**
+     * A class file entry, read on demand, possibly from another thread.
+     */
+    @FunctionalInterface
+    interface Entry extends Supplier<ByteBuffer> {}
+}
@@ -0,0 +1,6 @@
+/**
+ * Class-file scanner module.
+ */
+module com.github.elopteryx.reflect.scanner {
+    exports com.github.elopteryx.reflect.scanner;
+}
@@ -0,0 +1,144 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+class AggregationTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Order {
+
+        private final String status;
+        private final int quantity;
+        private final long amount;
+        private final double price;
+        private final char region;
+        private final boolean paid;
+
+        private Order(final String status, final int quantity, final long amount, final double price) {
+            this.status = status;
+            this.quantity = quantity;
+            this.amount = amount;
+            this.price = price;
+            this.region = (char) ('A' + quantity % 3);
+            this.paid = quantity % 2 == 0;
+        }
+    }
+
+    private static final List<Order> ORDERS = List.of(
+            new Order("NEW", 1, 10, 1.5),
+            new Order("NEW", 2, 20, 2.5),
+            new Order("DONE", 3, 30, 3.5),
+            new Order(null, 4, 40, 4.5)
+    );
+
+    @Test
+    void withoutGroups() {
+        final var result = BeanMirror.of(Order.class, LOOKUP).aggregate(ORDERS)
+                .count().sum("amount").min("quantity").max("price").avg("quantity").avg("price")
+                .execute();
+        final var aggregates = result.get(null);
+        assertAll(
+                () -> assertEquals(1, result.size()),
+                () -> assertEquals(4, aggregates.count()),
+                () -> assertEquals(4, aggregates.getLong("count()")),
+                () -> assertEquals(100, aggregates.getLong("sum(amount)")),
+                () -> assertEquals(1, aggregates.getLong("min(quantity)")),
+                () -> assertEquals(4.5, aggregates.getDouble("max(price)")),
+                () -> assertEquals(2.5, aggregates.getDouble("avg(quantity)")),
+                () -> assertEquals(3.0, aggregates.getDouble("avg(price)"))
+        );
+    }
+
+    @Test
+    void groupByReference() {
+        final var result = BeanMirror.of(Order.class, LOOKUP).aggregate(ORDERS)
+                .groupBy("status").sum("amount").sum("price")
+                .execute();
+        assertAll(
+                () -> assertEquals(3, result.size()),
+                () -> assertEquals(2, result.get("NEW").count()),
+                () -> assertEquals(30, result.get("NEW").getLong("sum(amount)")),
+                () -> assertEquals(4.0, result.get("NEW").getDouble("sum(price)")),
+                () -> assertEquals(30, result.get("DONE").getLong("sum(amount)")),
+                () -> assertEquals(40, result.get(null).getLong("sum(amount)"))
+        );
+    }
+
+    @Test
+    void groupByPrimitive() {
+        final var mirror = BeanMirror.of(Order.class, LOOKUP);
+        final var byRegion = mirror.aggregate(ORDERS).groupBy("region").sum("quantity").execute();
+        final var byPaid = mirror.aggregate(ORDERS).groupBy("paid").sum("quantity").execute();
+        final var byPrice = mirror.aggregate(ORDERS).groupBy("price").count().execute();
+        assertAll(
+                () -> assertEquals(Map.of('A', 3L, 'B', 5L, 'C', 2L), byRegion.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getLong("sum(quantity)")))),
+                () -> assertEquals(6, byPaid.get(true).getLong("sum(quantity)")),
+                () -> assertEquals(4, byPaid.get(false).getLong("sum(quantity)")),
+                () -> assertEquals(4, byPrice.size()),
+                () -> assertEquals(1, byPrice.get(2.5).count())
+        );
+    }
+
+    @Test
+    void parallel() {
+        final var random = new Random(42);
+        final var orders = new ArrayList<Order>();
+        for (var i = 0; i < 100_000; i++) {
+            orders.add(new Order(String.valueOf(random.nextInt(10)), random.nextInt(100), random.nextInt(1000), random.nextDouble()));
+        }
+        final var result = BeanMirror.of(Order.class, LOOKUP).aggregate(orders)
+                .groupBy("status").count().sum("amount").min("amount").max("amount").avg("price")
+                .execute(new ForkJoinPool(4));
+        final var expected = orders.stream().collect(Collectors.groupingBy(order -> order.status, Collectors.summarizingLong(order -> order.amount)));
+        assertEquals(expected.keySet(), result.keySet());
+        expected.forEach((key, statistics) -> {
+            final var aggregates = result.get(key);
+            assertAll(
+                    () -> assertEquals(statistics.getCount(), aggregates.getLong("count()")),
+                    () -> assertEquals(statistics.getSum(), aggregates.getLong("sum(amount)")),
+                    () -> assertEquals(statistics.getMin(), aggregates.getLong("min(amount)")),
+                    () -> assertEquals(statistics.getMax(), aggregates.getLong("max(amount)")),
+                    () -> assertTrue(aggregates.getDouble("avg(price)") > 0.4 && aggregates.getDouble("avg(price)") < 0.6)
+            );
+        });
+    }
+
+    @Test
+    void empty() {
+        assertTrue(BeanMirror.of(Order.class, LOOKUP).aggregate(List.of()).count().execute().isEmpty());
+    }
+
+    @Test
+    void description() {
+        final var aggregation = BeanMirror.of(Order.class, LOOKUP).aggregate(ORDERS).groupBy("status").count().sum("amount");
+        assertEquals("Aggregation of " + Order.class + " by status: [count(), sum(amount)]", aggregation.toString());
+    }
+
+    @Test
+    void invalidFields() {
+        final var aggregation = BeanMirror.of(Order.class, LOOKUP).aggregate(ORDERS).sum("amount");
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> aggregation.sum("status")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> aggregation.groupBy("missing")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> aggregation.execute().get(null).getLong("sum(price)")).getCause().getClass())
+        );
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Verifies that the hot paths of the library do not allocate after
+ * they have been warmed up. The operations are run enough times
+ * to be compiled, then the allocated bytes of the current thread
+ * are measured for a large number of invocations. A single boxed
+ * value per invocation would already exceed the tolerance by far.
+ */
+class AllocationTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final int WARMUP = 50_000;
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * Allows for allocations not related to the measured operation,
+     * for example from the measurement itself.
+     */
+    private static final long TOLERANCE = 1024;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private int intValue = 42;
+
+        private Integer integerValue = 42;
+
+        private String stringValue = "a";
+
+        private static int staticIntValue = 42;
+
+        private static String staticStringValue = "a";
+    }
+
+    @BeforeAll
+    static void setUp() {
+        final var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation measurement is not supported.");
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation measurement is not supported.");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void getters() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var intGetter = mirror.createGetter("intValue", int.class);
+        final var integerGetter = mirror.createGetter("integerValue", Integer.class);
+        final var stringGetter = mirror.createGetter("stringValue", String.class);
+        assertAll(
+                assertNoAllocation("int getter", () -> intGetter.apply(target)),
+                assertNoAllocation("Integer getter", () -> integerGetter.apply(target)),
+                assertNoAllocation("String getter", () -> stringGetter.apply(target).length())
+        );
+    }
+
+    @Test
+    void setters() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var intSetter = mirror.createSetter("intValue", int.class);
+        final var integerSetter = mirror.createSetter("integerValue", Integer.class);
+        final var stringSetter = mirror.createSetter("stringValue", String.class);
+        final Integer value = 42;
+        assertAll(
+                assertNoAllocation("int setter", () -> {
+                    intSetter.accept(target, value);
+                    return target.intValue;
+                }),
+                assertNoAllocation("Integer setter", () -> {
+                    integerSetter.accept(target, value);
+                    return target.integerValue;
+                }),
+                assertNoAllocation("String setter", () -> {
+                    stringSetter.accept(target, "b");
+                    return target.stringValue.length();
+                })
+        );
+    }
+
+    @Test
+    void staticGettersAndSetters() {
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var intGetter = mirror.createStaticGetter("staticIntValue", int.class);
+        final var stringGetter = mirror.createStaticGetter("staticStringValue", String.class);
+        final var intSetter = mirror.createStaticSetter("staticIntValue", int.class);
+        final var stringSetter = mirror.createStaticSetter("staticStringValue", String.class);
+        final Integer value = 42;
+        assertAll(
+                assertNoAllocation("static int getter", intGetter::get),
+                assertNoAllocation("static String getter", () -> stringGetter.get().length()),
+                assertNoAllocation("static int setter", () -> {
+                    intSetter.accept(value);
+                    return Target.staticIntValue;
+                }),
+                assertNoAllocation("static String setter", () -> {
+                    stringSetter.accept("b");
+                    return Target.staticStringValue.length();
+                })
+        );
+    }
+
+    @Test
+    void mirrors() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(target, LOOKUP);
+        final var classMirror = BeanMirror.of(Target.class, LOOKUP);
+        final Integer value = 42;
+        assertAll(
+                assertNoAllocation("object mirror get", () -> mirror.get("intValue", int.class)),
+                assertNoAllocation("object mirror set", () -> {
+                    mirror.set("intValue", value).set("stringValue", "b");
+                    return target.intValue;
+                }),
+                assertNoAllocation("class mirror get", () -> classMirror.getStatic("staticStringValue", String.class).length())
+        );
+    }
+
+    @Test
+    void memberCache() {
+        final var types = new Class<?>[] {int.class, String.class};
+        final var member = new Object();
+        MemberCache.get(Target.class, LOOKUP, Kind.METHOD, "cached", void.class, types, () -> member);
+        assertAll(
+                assertNoAllocation("member cache", () -> MemberCache.find(Target.class, LOOKUP, Kind.METHOD, "cached", void.class, types).hashCode())
+        );
+    }
+
+    @Test
+    void cursor() {
+        final var targets = new Target[] {new Target(), new Target(), new Target()};
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor();
+        final var index = new int[1];
+        assertAll(
+                assertNoAllocation("cursor", () -> {
+                    final var target = targets[index[0]++ % targets.length];
+                    cursor.bind(target).setInt("intValue", cursor.getInt("intValue") + 1);
+                    return cursor.get("stringValue", String.class).length();
+                })
+        );
+    }
+
+    @Test
+    void predicates() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var predicate = mirror.where("intValue").gt(30).and(mirror.where("stringValue").eq("a")).toPredicate();
+        assertAll(
+                assertNoAllocation("predicate", () -> predicate.test(target) ? 1 : 0)
+        );
+    }
+
+    @Test
+    void comparators() {
+        final var first = new Target();
+        final var second = new Target();
+        second.intValue = 43;
+        final var comparator = BeanMirror.of(Target.class, LOOKUP).comparator("stringValue", "intValue desc");
+        assertAll(
+                assertNoAllocation("comparator", () -> comparator.compare(first, second))
+        );
+    }
+
+    @Test
+    void indexes() {
+        final var targets = List.of(new Target(), new Target());
+        targets.get(1).intValue = 1000;
+        final var index = BeanMirror.of(Target.class, LOOKUP).indexBy("intValue").unique(targets);
+        assertAll(
+                assertNoAllocation("index", () -> index.get(1000).intValue)
+        );
+    }
+
+    /**
+     * Measures the given operation. The result of the operation is consumed,
+     * so it cannot be eliminated as dead code. As compilation may happen at
+     * any time, the measurement is attempted a few times before failing.
+     * @param name The name used in the error message
+     * @param operation The operation to be measured
+     * @return The assertion
+     */
+    private static Executable assertNoAllocation(final String name, final IntSupplier operation) {
+        return () -> {
+            var sink = 0;
+            for (var i = 0; i < WARMUP; i++) {
+                sink += operation.getAsInt();
+            }
+            var allocated = Long.MAX_VALUE;
+            for (var attempt = 0; attempt < ATTEMPTS && allocated > TOLERANCE; attempt++) {
+                final var threadId = Thread.currentThread().getId();
+                final var before = threadBean.getThreadAllocatedBytes(threadId);
+                for (var i = 0; i < ITERATIONS; i++) {
+                    sink += operation.getAsInt();
+                }
+                allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+            }
+            assertTrue(allocated <= TOLERANCE, name + " allocated " + allocated + " bytes in " + ITERATIONS + " invocations. " + sink);
+        };
+    }
+}
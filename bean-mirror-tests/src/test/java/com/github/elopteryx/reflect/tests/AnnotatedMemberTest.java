@@ -0,0 +1,154 @@
+package com.github.elopteryx.reflect.tests;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.AnnotatedMember;
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class AnnotatedMemberTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Audit {
+        String value() default "";
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    private @interface Invisible {}
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+
+        @Audit("parentField")
+        private String parentField = "parent";
+
+        @Audit("overridden")
+        String describe() {
+            return "parent";
+        }
+
+        @Audit("parentMethod")
+        private String parentMethod() {
+            return "parentMethod";
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target extends Parent {
+
+        @Audit("id")
+        private final int id = 1;
+
+        @Audit("name")
+        @Invisible
+        private String name = "name";
+
+        @Audit("counter")
+        private static int counter = 2;
+
+        private String plain;
+
+        @Audit("describe")
+        @Override
+        String describe() {
+            return "target";
+        }
+
+        @Audit("concat")
+        private String concat(final String first, final int second) {
+            return first + second + name;
+        }
+
+        @Audit("reset")
+        private static void reset() {
+            counter = 0;
+        }
+    }
+
+    private static List<String> values(final List<AnnotatedMember<Target, Audit>> members) {
+        return members.stream().map(member -> member.annotation().value()).sorted().collect(toList());
+    }
+
+    @Test
+    void declared() {
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var members = mirror.annotated(Audit.class);
+        assertAll(
+                () -> assertEquals(List.of("concat", "counter", "describe", "id", "name", "reset"), values(members)),
+                () -> assertSame(members, mirror.annotated(Audit.class)),
+                () -> assertTrue(mirror.annotated(Invisible.class).isEmpty()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> members.add(null))
+        );
+    }
+
+    @Test
+    void hierarchy() {
+        final var members = BeanMirror.of(Target.class, LOOKUP).annotated(Audit.class, true);
+        assertEquals(List.of("concat", "counter", "describe", "id", "name", "parentField", "parentMethod", "reset"), values(members));
+    }
+
+    @Test
+    void accessors() {
+        final var target = new Target();
+        final var members = BeanMirror.of(Target.class, LOOKUP).annotated(Audit.class, true);
+        for (final var member : members) {
+            switch (member.annotation().value()) {
+                case "id":
+                    assertAll(
+                            () -> assertTrue(member.isField()),
+                            () -> assertEquals(int.class, member.type()),
+                            () -> assertEquals(1, member.get(target)),
+                            () -> assertEquals(UnsupportedOperationException.class,
+                                    assertThrows(BeanMirrorException.class, () -> member.set(target, 2)).getCause().getClass())
+                    );
+                    break;
+                case "name":
+                    member.set(target, "other");
+                    assertEquals("other", member.get(target));
+                    break;
+                case "counter":
+                    assertTrue(member.isStatic());
+                    member.set(null, 3);
+                    assertEquals(3, member.get(null));
+                    break;
+                case "parentField":
+                    assertEquals("parent", member.get(target));
+                    break;
+                case "describe":
+                    assertEquals("target", member.invoke(target));
+                    break;
+                case "concat":
+                    assertAll(
+                            () -> assertFalse(member.isField()),
+                            () -> assertEquals("a1other", member.invoke(target, "a", 1)),
+                            () -> assertEquals(UnsupportedOperationException.class,
+                                    assertThrows(BeanMirrorException.class, () -> member.get(target)).getCause().getClass()),
+                            () -> assertEquals(IllegalArgumentException.class,
+                                    assertThrows(BeanMirrorException.class, () -> member.invoke(target, "a")).getCause().getClass())
+                    );
+                    break;
+                case "reset":
+                    assertNull(member.invoke(null));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class BatchTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private final int id;
+
+        private int counter;
+
+        private long total;
+
+        private String state = "new";
+
+        private final String name = "target";
+
+        private Target(final int id) {
+            this.id = id;
+        }
+
+        private void increment() {
+            counter++;
+        }
+
+        private int add(final int amount) {
+            total += amount;
+            return counter;
+        }
+
+        private void validate() {
+            if (id % 3 == 0) {
+                throw new IllegalStateException("Invalid: " + id);
+            }
+        }
+
+        private void overflow() {
+            if (id == 1) {
+                throw new StackOverflowError();
+            }
+        }
+    }
+
+    private static class SubTarget extends Target {
+
+        private SubTarget(final int id) {
+            super(id);
+        }
+    }
+
+    private static List<Target> targets(final int count) {
+        return IntStream.range(0, count).mapToObj(Target::new).collect(Collectors.toList());
+    }
+
+    @Test
+    void invokeAll() {
+        final var targets = targets(5000);
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var result = mirror.invokeAll(targets, "increment");
+        final var withArgument = mirror.invokeAll(targets, "add", 7);
+        assertAll(
+                () -> assertTrue(result.isSuccessful()),
+                () -> assertEquals(5000, result.size()),
+                () -> assertTrue(withArgument.isSuccessful()),
+                () -> assertTrue(targets.stream().allMatch(target -> target.counter == 1 && target.total == 7))
+        );
+    }
+
+    @Test
+    void invokeAllCollectsFailures() {
+        final var targets = targets(3000);
+        final var result = BeanMirror.of(Target.class, LOOKUP).invokeAll(targets, "validate");
+        final var failures = result.failures();
+        assertAll(
+                () -> assertFalse(result.isSuccessful()),
+                () -> assertEquals(3000, result.size()),
+                () -> assertEquals(1000, failures.size()),
+                () -> assertEquals(IntStream.range(0, 1000).map(i -> i * 3).boxed().collect(Collectors.toList()),
+                        failures.stream().map(failure -> failure.index()).collect(Collectors.toList())),
+                () -> assertSame(targets.get(3), failures.get(1).element()),
+                () -> assertEquals(IllegalStateException.class, failures.get(1).cause().getClass()),
+                () -> assertEquals("Invalid: 3", failures.get(1).cause().getMessage())
+        );
+    }
+
+    @Test
+    void invokeAllOnExecutor() {
+        final var targets = targets(100);
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var result = BeanMirror.of(Target.class, LOOKUP).invokeAll(executor, targets, "validate");
+            BeanMirror.of(Target.class, LOOKUP).invokeAll(executor, targets, "increment");
+            assertAll(
+                    () -> assertEquals(34, result.failures().size()),
+                    () -> assertEquals(99, result.failures().get(33).index()),
+                    () -> assertTrue(targets.stream().allMatch(target -> target.counter == 1))
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void invokeAllOnPool() {
+        final var targets = new ArrayList<Target>(targets(10_000));
+        targets.add(new SubTarget(10_000));
+        targets.add(null);
+        final var pool = new ForkJoinPool(2);
+        try {
+            final var result = BeanMirror.of(Target.class, LOOKUP).invokeAll(pool, targets, "increment");
+            assertAll(
+                    () -> assertEquals(1, result.failures().size()),
+                    () -> assertEquals(10_001, result.failures().get(0).index()),
+                    () -> assertEquals(NullPointerException.class, result.failures().get(0).cause().getClass()),
+                    () -> assertTrue(targets.stream().limit(10_001).allMatch(target -> target.counter == 1))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void virtualMachineErrorsAreThrown() {
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var executor = Executors.newFixedThreadPool(2);
+        final var pool = new ForkJoinPool(2);
+        try {
+            assertAll(
+                    () -> assertThrows(StackOverflowError.class, () -> mirror.invokeAll(targets(10), "overflow")),
+                    () -> assertThrows(StackOverflowError.class, () -> mirror.invokeAll(pool, targets(5000), "overflow")),
+                    () -> assertThrows(StackOverflowError.class, () -> mirror.invokeAll(executor, targets(10), "overflow"))
+            );
+        } finally {
+            executor.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rejectedTasksAreFailures() {
+        final var targets = targets(3);
+        final var result = BeanMirror.of(Target.class, LOOKUP).invokeAll(task -> {
+            throw new RejectedExecutionException();
+        }, targets, "increment");
+        assertAll(
+                () -> assertEquals(3, result.failures().size()),
+                () -> assertEquals(RejectedExecutionException.class, result.failures().get(0).cause().getClass()),
+                () -> assertTrue(targets.stream().allMatch(target -> target.counter == 0))
+        );
+    }
+
+    @Test
+    void setAll() {
+        final var targets = targets(5000);
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            assertAll(
+                    () -> assertTrue(mirror.setAll(targets, "state", "done").isSuccessful()),
+                    () -> assertTrue(mirror.setAll(targets, "total", 42).isSuccessful()),
+                    () -> assertTrue(mirror.setAll(executor, targets, "counter", "7").isSuccessful()),
+                    () -> assertTrue(targets.stream().allMatch(target -> "done".equals(target.state) && target.total == 42 && target.counter == 7))
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void setAllCollectsFailures() {
+        final var targets = new ArrayList<Target>(targets(2));
+        targets.add(1, null);
+        final var result = BeanMirror.of(Target.class, LOOKUP).setAll(targets, "counter", 5);
+        assertAll(
+                () -> assertEquals(3, result.size()),
+                () -> assertEquals(1, result.failures().size()),
+                () -> assertEquals(1, result.failures().get(0).index()),
+                () -> assertEquals(NullPointerException.class, result.failures().get(0).cause().getClass())
+        );
+    }
+
+    @Test
+    void failuresOfResolution() {
+        final var targets = targets(2);
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.invokeAll(targets, "missing")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.setAll(targets, "missing", 1)).getCause().getClass()),
+                () -> assertEquals(IllegalAccessException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.setAll(targets, "name", "other")).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.setAll(targets, "counter", List.of())).getCause().getClass()),
+                () -> assertTrue(targets.stream().allMatch(target -> target.counter == 0))
+        );
+    }
+
+    @Test
+    void emptyCollection() {
+        final var result = BeanMirror.of(Target.class, LOOKUP).invokeAll(List.of(), "increment");
+        assertAll(
+                () -> assertTrue(result.isSuccessful()),
+                () -> assertEquals(0, result.size())
+        );
+    }
+}
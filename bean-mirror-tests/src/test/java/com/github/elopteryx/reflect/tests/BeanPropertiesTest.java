@@ -0,0 +1,158 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.tests.properties.ExposedBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class BeanPropertiesTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    public static class Base {
+
+        private long id = 7L;
+
+        public long getId() {
+            return id;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Bean extends Base {
+
+        private String name;
+        private int count;
+        private boolean active;
+        private String secret;
+        private String url = "http://localhost";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        public void setCount(final String count) {
+            this.count = Integer.parseInt(count);
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+
+        public void setSecret(final String secret) {
+            this.secret = secret;
+        }
+
+        public String getURL() {
+            return url;
+        }
+
+        public static String getStatic() {
+            return "static";
+        }
+
+        public String get() {
+            return "none";
+        }
+
+        public String getWithArgument(final int value) {
+            return "none";
+        }
+    }
+
+    @Test
+    void discover() {
+        final var properties = BeanMirror.of(Bean.class, LOOKUP).properties();
+        assertAll(
+                () -> assertEquals(List.of("URL", "active", "count", "id", "name", "secret"), List.copyOf(properties.asMap().keySet())),
+                () -> assertEquals(int.class, properties.get("count").type()),
+                () -> assertEquals(boolean.class, properties.get("active").type()),
+                () -> assertTrue(properties.get("id").isReadable()),
+                () -> assertFalse(properties.get("id").isWritable()),
+                () -> assertFalse(properties.get("secret").isReadable()),
+                () -> assertTrue(properties.get("secret").isWritable()),
+                () -> assertFalse(properties.contains("class")),
+                () -> assertFalse(properties.contains("static")),
+                () -> assertSame(properties, BeanMirror.of(Bean.class, LOOKUP).properties())
+        );
+    }
+
+    @Test
+    void readAndWrite() {
+        final var properties = BeanMirror.of(Bean.class, LOOKUP).properties();
+        final var bean = new Bean();
+        properties.get("name").set(bean, "a");
+        properties.get("count").setInt(bean, 3);
+        properties.get("active").setBoolean(bean, true);
+        properties.get("secret").set(bean, "b");
+        assertAll(
+                () -> assertEquals("a", properties.get("name").get(bean)),
+                () -> assertEquals(3, properties.get("count").getInt(bean)),
+                () -> assertEquals(3L, properties.get("count").getLong(bean)),
+                () -> assertEquals(3.0, properties.get("count").getDouble(bean)),
+                () -> assertEquals(3, properties.get("count").get(bean)),
+                () -> assertTrue(properties.get("active").getBoolean(bean)),
+                () -> assertEquals(7L, properties.get("id").getLong(bean)),
+                () -> assertEquals("http://localhost", properties.get("URL").get(bean)),
+                () -> assertEquals("b", bean.secret)
+        );
+        properties.get("count").set(bean, 4);
+        assertEquals(4, bean.count);
+    }
+
+    @Test
+    void inheritedFromPackagePrivate() {
+        final var properties = BeanMirror.of(ExposedBean.class, LOOKUP).properties();
+        final var bean = new ExposedBean();
+        properties.get("value").setInt(bean, 5);
+        assertAll(
+                () -> assertEquals(List.of("size", "value"), List.copyOf(properties.asMap().keySet())),
+                () -> assertEquals(Integer.class, properties.get("size").type()),
+                () -> assertEquals(1, properties.get("size").get(bean)),
+                () -> assertEquals(5, properties.get("value").getInt(bean)),
+                () -> assertEquals(5, bean.getValue())
+        );
+    }
+
+    @Test
+    void failures() {
+        final var properties = BeanMirror.of(Bean.class, LOOKUP).properties();
+        final var bean = new Bean();
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class, () -> properties.get("missing")).getCause().getClass()),
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class, () -> properties.get("id").setLong(bean, 1L)).getCause().getClass()),
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class, () -> properties.get("secret").get(bean)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> properties.get("name").getInt(bean)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> properties.get("count").setLong(bean, 1L)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> properties.get("name").set(bean, 1)).getCause().getClass())
+        );
+    }
+
+}
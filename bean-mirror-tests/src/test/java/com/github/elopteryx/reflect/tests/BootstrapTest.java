@@ -0,0 +1,120 @@
+package com.github.elopteryx.reflect.tests;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StreamTokenizer;
+import java.io.StringReader;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.WrongMethodTypeException;
+
+class BootstrapTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+
+        private int id = 1;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target extends Parent {
+
+        private String name = "name";
+
+        private final long fixed = 2L;
+
+        private String greet(final String value, final int times) {
+            return value.repeat(times) + name;
+        }
+
+        private void reset() {
+            name = null;
+        }
+    }
+
+    @Test
+    void getter() throws Throwable {
+        final var target = new Target();
+        final var site = BeanMirror.bootstrapGetter(LOOKUP, "name", methodType(String.class, Target.class));
+        final var inherited = BeanMirror.bootstrapGetter(LOOKUP, "id", methodType(Object.class, Target.class));
+        final var widened = BeanMirror.bootstrapGetter(LOOKUP, "id", methodType(long.class, Target.class));
+        assertAll(
+                () -> assertTrue(site instanceof ConstantCallSite),
+                () -> assertEquals("name", (String) site.dynamicInvoker().invokeExact(target)),
+                () -> assertEquals(1, (Object) inherited.dynamicInvoker().invokeExact(target)),
+                () -> assertEquals(1L, (long) widened.dynamicInvoker().invokeExact(target))
+        );
+    }
+
+    @Test
+    void setter() throws Throwable {
+        final var target = new Target();
+        BeanMirror.bootstrapSetter(LOOKUP, "name", methodType(void.class, Target.class, String.class)).dynamicInvoker().invokeExact(target, "other");
+        BeanMirror.bootstrapSetter(LOOKUP, "id", methodType(void.class, Target.class, Integer.class)).dynamicInvoker().invokeExact(target, Integer.valueOf(3));
+        assertAll(
+                () -> assertEquals("other", target.name),
+                () -> assertEquals(3, ((Parent) target).id),
+                () -> assertEquals(IllegalAccessException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.bootstrapSetter(LOOKUP, "fixed", methodType(void.class, Target.class, long.class))).getCause().getClass())
+        );
+    }
+
+    @Test
+    void invoke() throws Throwable {
+        final var target = new Target();
+        final var exact = BeanMirror.bootstrapInvoke(LOOKUP, "greet", methodType(String.class, Target.class, String.class, int.class));
+        final var similar = BeanMirror.bootstrapInvoke(LOOKUP, "greet", methodType(Object.class, Target.class, String.class, Integer.class));
+        final var result = (String) exact.dynamicInvoker().invokeExact(target, "a", 2);
+        final var other = (Object) similar.dynamicInvoker().invokeExact(target, "b", Integer.valueOf(1));
+        BeanMirror.bootstrapInvoke(LOOKUP, "reset", methodType(void.class, Target.class)).dynamicInvoker().invokeExact(target);
+        assertAll(
+                () -> assertEquals("aaname", result),
+                () -> assertEquals("bname", other),
+                () -> assertEquals(null, target.name)
+        );
+    }
+
+    @Test
+    void publicMembersOfJavaBase() throws Throwable {
+        final var tokenizer = new StreamTokenizer(new StringReader("word"));
+        tokenizer.nextToken();
+        final var length = BeanMirror.bootstrapInvoke(LOOKUP, "length", methodType(int.class, String.class));
+        final var similar = BeanMirror.bootstrapInvoke(LOOKUP, "substring", methodType(Object.class, String.class, Integer.class));
+        final var getter = BeanMirror.bootstrapGetter(LOOKUP, "sval", methodType(String.class, StreamTokenizer.class));
+        BeanMirror.bootstrapSetter(LOOKUP, "ttype", methodType(void.class, StreamTokenizer.class, int.class)).dynamicInvoker().invokeExact(tokenizer, 7);
+        final var result = (int) length.dynamicInvoker().invokeExact("four");
+        final var other = (Object) similar.dynamicInvoker().invokeExact("four", Integer.valueOf(2));
+        final var value = (String) getter.dynamicInvoker().invokeExact(tokenizer);
+        assertAll(
+                () -> assertEquals(4, result),
+                () -> assertEquals("ur", other),
+                () -> assertEquals("word", value),
+                () -> assertEquals(7, tokenizer.ttype)
+        );
+    }
+
+    @Test
+    void failures() {
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.bootstrapGetter(LOOKUP, "missing", methodType(Object.class, Target.class))).getCause().getClass()),
+                () -> assertEquals(WrongMethodTypeException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.bootstrapGetter(LOOKUP, "name", methodType(int.class, Target.class))).getCause().getClass()),
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.bootstrapInvoke(LOOKUP, "greet", methodType(String.class, Target.class))).getCause().getClass()),
+                () -> assertThrows(IllegalArgumentException.class, () -> BeanMirror.bootstrapGetter(LOOKUP, "name", methodType(String.class))),
+                () -> assertThrows(IllegalArgumentException.class, () -> BeanMirror.bootstrapInvoke(LOOKUP, "greet", methodType(String.class)))
+        );
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class ConstantTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Settings {
+
+        private static final List<String> NAMES = List.of("a", "b");
+
+        private static final int LIMIT = Integer.parseInt("10");
+
+        private static String mode = "fast";
+
+        private static int level = 1;
+    }
+
+    private static class Child extends Settings {}
+
+    @Test
+    void finalField() {
+        final var mirror = BeanMirror.of(Settings.class, LOOKUP);
+        assertAll(
+                () -> assertSame(Settings.NAMES, mirror.constant("NAMES", List.class).get()),
+                () -> assertEquals(10, (int) mirror.constant("LIMIT", int.class).get())
+        );
+    }
+
+    @Test
+    void mutableField() {
+        final var mirror = BeanMirror.of(Settings.class, LOOKUP);
+        final var mode = mirror.constant("mode", String.class);
+        final var level = BeanMirror.of(Child.class, LOOKUP).constant("level", int.class);
+        assertEquals("fast", mode.get());
+        assertEquals(1, (int) level.get());
+        mirror.setStatic("mode", "slow").setStatic("level", "2");
+        assertAll(
+                () -> assertEquals("slow", mode.get()),
+                () -> assertEquals(2, (int) level.get()),
+                () -> assertEquals("slow", mirror.constant("mode", String.class).get())
+        );
+        BeanMirror.of(Child.class, LOOKUP).setStatic("mode", "fast");
+        assertEquals("fast", mode.get());
+    }
+
+    @SuppressWarnings("unused")
+    private static class Counters {
+
+        private static int count;
+    }
+
+    @Test
+    void invalidatedField() {
+        final var mirror = BeanMirror.of(Counters.class, LOOKUP);
+        final var count = mirror.constant("count", int.class);
+        assertEquals(0, (int) count.get());
+        Counters.count = 5;
+        assertEquals(0, (int) count.get());
+        BeanMirror.invalidate(Counters.class);
+        assertAll(
+                () -> assertEquals(5, (int) count.get()),
+                () -> assertEquals(5, (int) mirror.constant("count", int.class).get())
+        );
+        mirror.setStatic("count", 6);
+        assertEquals(6, (int) count.get());
+    }
+
+    @Test
+    void failures() {
+        final var mirror = BeanMirror.of(Settings.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class,
+                        () -> mirror.constant("missing", String.class)).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class,
+                        () -> mirror.constant("mode", Integer.class)).getCause().getClass())
+        );
+    }
+
+}
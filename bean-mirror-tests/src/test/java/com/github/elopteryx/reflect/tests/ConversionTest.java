@@ -0,0 +1,165 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class ConversionTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private Long wrappedLong;
+        private char charValue;
+        private boolean booleanValue;
+        private BigDecimal decimal;
+        private RetentionPolicy policy;
+        private Duration duration;
+        private List<String> list;
+        private Object object;
+        private String string;
+
+        private static int staticInt;
+        private static Duration staticDuration;
+    }
+
+    @Test
+    void unboxingAndWidening() {
+        final var target = new Target();
+        BeanMirror.of(target, LOOKUP)
+                .set("intValue", 1)
+                .set("longValue", 2)
+                .set("doubleValue", 3.5f)
+                .set("wrappedLong", (short) 4)
+                .set("object", 5)
+                .set("list", new ArrayList<>(List.of("a")));
+        assertAll(
+                () -> assertEquals(1, target.intValue),
+                () -> assertEquals(2L, target.longValue),
+                () -> assertEquals(3.5, target.doubleValue),
+                () -> assertEquals(Long.valueOf(4L), target.wrappedLong),
+                () -> assertEquals(5, target.object),
+                () -> assertEquals(List.of("a"), target.list)
+        );
+    }
+
+    @Test
+    void parseStrings() {
+        final var target = new Target();
+        BeanMirror.of(target, LOOKUP)
+                .set("intValue", "-12")
+                .set("wrappedLong", "34")
+                .set("doubleValue", "5.5")
+                .set("charValue", "c")
+                .set("booleanValue", "TRUE")
+                .set("decimal", "1.25")
+                .set("policy", "RUNTIME");
+        assertAll(
+                () -> assertEquals(-12, target.intValue),
+                () -> assertEquals(Long.valueOf(34L), target.wrappedLong),
+                () -> assertEquals(5.5, target.doubleValue),
+                () -> assertEquals('c', target.charValue),
+                () -> assertEquals(true, target.booleanValue),
+                () -> assertEquals(new BigDecimal("1.25"), target.decimal),
+                () -> assertEquals(RetentionPolicy.RUNTIME, target.policy)
+        );
+    }
+
+    @Test
+    void registeredConverters() {
+        BeanMirror.registerConverter(CharSequence.class, Duration.class, value -> Duration.parse(value));
+        BeanMirror.registerConverter(Long.class, Duration.class, Duration::ofMillis);
+        final var target = new Target();
+        BeanMirror.of(target, LOOKUP).set("duration", "PT1S");
+        assertEquals(Duration.ofSeconds(1), target.duration);
+        BeanMirror.of(target, LOOKUP).set("duration", 5L);
+        assertEquals(Duration.ofMillis(5), target.duration);
+        BeanMirror.of(Target.class, LOOKUP).setStatic("staticDuration", new StringBuilder("PT2S"));
+        assertEquals(Duration.ofSeconds(2), Target.staticDuration);
+    }
+
+    @Test
+    void unregisteredConverters() {
+        BeanMirror.registerConverter(Integer.class, Duration.class, Duration::ofSeconds);
+        final var target = new Target();
+        BeanMirror.of(target, LOOKUP).set("duration", 3);
+        assertEquals(Duration.ofSeconds(3), target.duration);
+        assertAll(
+                () -> assertTrue(BeanMirror.unregisterConverter(Integer.class, Duration.class)),
+                () -> assertFalse(BeanMirror.unregisterConverter(Integer.class, Duration.class)),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.of(Target.class, LOOKUP).createSetter("duration", Integer.class)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void staticFields() {
+        BeanMirror.of(Target.class, LOOKUP).setStatic("staticInt", 'a');
+        assertEquals(97, Target.staticInt);
+        BeanMirror.of(Target.class, LOOKUP).setStatic("staticInt", "7");
+        assertEquals(7, Target.staticInt);
+    }
+
+    @Test
+    void nullValues() {
+        final var target = new Target();
+        target.string = "a";
+        BeanMirror.of(target, LOOKUP).set("string", null);
+        assertAll(
+                () -> assertNull(target.string),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.of(target, LOOKUP).set("intValue", null)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void setters() {
+        final var target = new Target();
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        mirror.createSetter("intValue", Integer.class).accept(target, 1);
+        mirror.createSetter("longValue", String.class).accept(target, "2");
+        mirror.createStaticSetter("staticInt", Short.class).accept((short) 3);
+        assertAll(
+                () -> assertEquals(1, target.intValue),
+                () -> assertEquals(2L, target.longValue),
+                () -> assertEquals(3, Target.staticInt),
+                () -> assertEquals(NullPointerException.class, assertThrows(BeanMirrorException.class,
+                        () -> mirror.createSetter("intValue", Integer.class).accept(target, null)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class,
+                        () -> mirror.createSetter("intValue", Thread.class)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void failures() {
+        final var mirror = BeanMirror.of(new Target(), LOOKUP);
+        assertAll(
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("intValue", 1L)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("string", 1)).getCause().getClass()),
+                () -> assertEquals(NumberFormatException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("intValue", "a")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("booleanValue", "yes")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("policy", "NONE")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.set("missing", 1)).getCause().getClass())
+        );
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class CriteriaTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Person {
+
+        private final int age;
+        private final long id;
+        private final double score;
+        private final boolean active;
+        private final char grade;
+        private final Integer rank;
+        private final String status;
+
+        private Person(final int age, final String status) {
+            this(age, age, age / 10.0, "ACTIVE".equals(status), 'A', age, status);
+        }
+
+        private Person(final int age, final long id, final double score, final boolean active, final char grade, final Integer rank, final String status) {
+            this.age = age;
+            this.id = id;
+            this.score = score;
+            this.active = active;
+            this.grade = grade;
+            this.rank = rank;
+            this.status = status;
+        }
+    }
+
+    private static final Person YOUNG = new Person(20, "ACTIVE");
+    private static final Person OLD = new Person(40, "ACTIVE");
+    private static final Person INACTIVE = new Person(50, "INACTIVE");
+    private static final Person UNKNOWN = new Person(60, 60, 6.0, false, 'B', null, null);
+
+    private static final List<Person> PEOPLE = List.of(YOUNG, OLD, INACTIVE, UNKNOWN);
+
+    @Test
+    void primitiveComparisons() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(List.of(OLD, INACTIVE, UNKNOWN), mirror.where("age").gt(30).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD, INACTIVE, UNKNOWN), mirror.where("age").ge(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG), mirror.where("age").lt(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, OLD), mirror.where("age").le(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD), mirror.where("age").eq(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, INACTIVE, UNKNOWN), mirror.where("age").ne(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD), mirror.where("id").eq(40L).filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE, UNKNOWN), mirror.where("score").gt(4.5).filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE, UNKNOWN), mirror.where("age").gt(45.5).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, OLD), mirror.where("active").eq(true).filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE, UNKNOWN), mirror.where("active").ne(true).filter(PEOPLE)),
+                () -> assertEquals(List.of(UNKNOWN), mirror.where("grade").eq('B').filter(PEOPLE))
+        );
+    }
+
+    @Test
+    void referenceComparisons() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(List.of(YOUNG, OLD), mirror.where("status").eq("ACTIVE").filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE, UNKNOWN), mirror.where("status").ne("ACTIVE").filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE), mirror.where("status").gt("B").filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, OLD, INACTIVE), mirror.where("status").isNotNull().filter(PEOPLE)),
+                () -> assertEquals(List.of(UNKNOWN), mirror.where("status").isNull().filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE), mirror.where("rank").gt(45).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG), mirror.where("rank").lt(Integer.valueOf(30)).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD), mirror.where("rank").eq(Integer.valueOf(40)).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD), mirror.where("age").eq(Integer.valueOf(40)).filter(PEOPLE))
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class Measure {
+
+        private final Double value;
+        private final BigDecimal amount;
+        private final Number count;
+
+        private Measure(final Double value, final BigDecimal amount, final Number count) {
+            this.value = value;
+            this.amount = amount;
+            this.count = count;
+        }
+    }
+
+    @Test
+    void fractionalWrappers() {
+        final var low = new Measure(2.5, new BigDecimal("2.5"), 2.5f);
+        final var high = new Measure(3.0, new BigDecimal("3"), 3L);
+        final var measures = List.of(low, high);
+        final var mirror = BeanMirror.of(Measure.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(List.of(low, high), mirror.where("value").gt(2).filter(measures)),
+                () -> assertEquals(List.of(high), mirror.where("value").gt(2.5).filter(measures)),
+                () -> assertEquals(List.of(), mirror.where("value").eq(2).filter(measures)),
+                () -> assertEquals(List.of(low), mirror.where("amount").lt(3).filter(measures)),
+                () -> assertEquals(List.of(low, high), mirror.where("amount").ne(2).filter(measures)),
+                () -> assertEquals(List.of(high), mirror.where("count").ge(3).filter(measures)),
+                () -> assertEquals(List.of(low), mirror.where("count").lt(new BigDecimal("2.6")).filter(measures))
+        );
+    }
+
+    @Test
+    void fractionalSpecialValues() {
+        final var nan = new Person(70, 70, Double.NaN, false, 'C', 70, null);
+        final var negativeZero = new Person(80, 80, -0.0, false, 'C', 80, null);
+        final var people = List.of(nan, negativeZero);
+        final var boxedNan = new Measure(Double.NaN, null, Float.NaN);
+        final var boxedNegativeZero = new Measure(-0.0, null, -0.0f);
+        final var measures = List.of(boxedNan, boxedNegativeZero);
+        final var person = BeanMirror.of(Person.class, LOOKUP);
+        final var mirror = BeanMirror.of(Measure.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(List.of(), person.where("score").gt(30).filter(people)),
+                () -> assertEquals(List.of(negativeZero), person.where("score").le(30.0).filter(people)),
+                () -> assertEquals(List.of(nan), person.where("score").ne(Double.NaN).filter(List.of(nan))),
+                () -> assertEquals(List.of(), person.where("score").eq(Double.NaN).filter(people)),
+                () -> assertEquals(List.of(negativeZero), person.where("score").eq(0.0).filter(people)),
+                () -> assertEquals(List.of(negativeZero), person.where("score").eq(0).filter(people)),
+                () -> assertEquals(List.of(negativeZero), person.where("score").ge(Double.valueOf(0.0)).filter(people)),
+                () -> assertEquals(List.of(), mirror.where("value").gt(30).filter(measures)),
+                () -> assertEquals(List.of(boxedNan), mirror.where("value").ne(Double.NaN).filter(List.of(boxedNan))),
+                () -> assertEquals(List.of(boxedNegativeZero), mirror.where("value").eq(0.0).filter(measures)),
+                () -> assertEquals(List.of(boxedNegativeZero), mirror.where("value").le(Double.valueOf(0.0)).filter(measures)),
+                () -> assertEquals(List.of(boxedNegativeZero), mirror.where("count").eq(0).filter(measures)),
+                () -> assertEquals(List.of(boxedNan, boxedNegativeZero), mirror.where("count").ne(0.5).filter(measures))
+        );
+    }
+
+    @Test
+    void nullFields() {
+        final var empty = new Measure(null, null, null);
+        final var measures = List.of(empty);
+        final var mirror = BeanMirror.of(Measure.class, LOOKUP);
+        final var person = BeanMirror.of(Person.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(List.of(), mirror.where("value").eq(1).filter(measures)),
+                () -> assertEquals(List.of(empty), mirror.where("value").ne(1).filter(measures)),
+                () -> assertEquals(List.of(), mirror.where("value").gt(1.5).filter(measures)),
+                () -> assertEquals(List.of(empty), mirror.where("value").ne(1.5).filter(measures)),
+                () -> assertEquals(List.of(), mirror.where("amount").le(BigDecimal.ONE).filter(measures)),
+                () -> assertEquals(List.of(empty), mirror.where("amount").ne(BigDecimal.ONE).filter(measures)),
+                () -> assertEquals(List.of(), mirror.where("count").lt(Integer.valueOf(1)).filter(measures)),
+                () -> assertEquals(List.of(YOUNG, OLD, INACTIVE), person.where("rank").lt(100).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, INACTIVE, UNKNOWN), person.where("rank").ne(40).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, INACTIVE, UNKNOWN), person.where("rank").ne(Integer.valueOf(40)).filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE), person.where("status").ge("B").filter(PEOPLE))
+        );
+    }
+
+    @Test
+    void combinations() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        final var older = mirror.where("age").gt(30);
+        final var active = mirror.where("status").eq("ACTIVE");
+        assertAll(
+                () -> assertEquals(List.of(OLD), active.and(older).filter(PEOPLE)),
+                () -> assertEquals(List.of(OLD), older.and(active).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, OLD, INACTIVE, UNKNOWN), older.or(active).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG), older.negate().filter(PEOPLE)),
+                () -> assertEquals(List.of(INACTIVE), older.and(active.negate()).and(mirror.where("rank").isNotNull()).filter(PEOPLE)),
+                () -> assertEquals(List.of(YOUNG, OLD, INACTIVE), older.and(active).or(mirror.where("age").lt(30)).or(mirror.where("age").eq(50)).filter(PEOPLE))
+        );
+    }
+
+    @Test
+    void toPredicate() {
+        final var predicate = BeanMirror.of(Person.class, LOOKUP).where("age").gt(30).and(BeanMirror.of(Person.class, LOOKUP).where("status").eq("ACTIVE")).toPredicate();
+        assertAll(
+                () -> assertFalse(predicate.test(YOUNG)),
+                () -> assertTrue(predicate.test(OLD)),
+                () -> assertFalse(predicate.test(INACTIVE)),
+                () -> assertFalse(predicate.test(UNKNOWN))
+        );
+    }
+
+    @Test
+    void parallelFilter() {
+        final var people = new ArrayList<Person>();
+        for (var i = 0; i < 100_000; i++) {
+            people.add(new Person(i % 100, i % 3 == 0 ? "ACTIVE" : "INACTIVE"));
+        }
+        final var criteria = BeanMirror.of(Person.class, LOOKUP).where("age").gt(30).and(BeanMirror.of(Person.class, LOOKUP).where("status").eq("ACTIVE"));
+        final var expected = people.stream().filter(person -> person.age > 30 && "ACTIVE".equals(person.status)).collect(Collectors.toList());
+        assertEquals(expected, criteria.filter(people));
+    }
+
+    @Test
+    void invalidComparisons() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.where("status").gt(30)).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.where("age").gt("a")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.where("age").isNull()).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.where("age").eq(true)).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.where("missing")).getCause().getClass())
+        );
+    }
+}
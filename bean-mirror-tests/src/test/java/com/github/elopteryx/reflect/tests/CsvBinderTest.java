@@ -0,0 +1,218 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class CsvBinderTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private enum Status { NEW, DONE }
+
+    @SuppressWarnings("unused")
+    private static class Row {
+
+        private int id;
+        private long amount;
+        private double price;
+        private float ratio;
+        private short code;
+        private byte flags;
+        private boolean paid;
+        private char grade;
+        private String name;
+        private Integer count;
+        private Status status;
+        private String defaulted = "default";
+        private static String ignored;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Measurement {
+
+        private Float ratio;
+        private Short code;
+        private Byte flags;
+        private Character grade;
+        private BigDecimal total;
+        private BigInteger count;
+        private LocalDate day;
+        private List<String> tags;
+    }
+
+    @SuppressWarnings("unused")
+    private static class NoDefault {
+
+        private NoDefault(final int value) {}
+    }
+
+    private static ReadableByteChannel channel(final String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Row> read(final String content) {
+        final var rows = new ArrayList<Row>();
+        BeanMirror.of(Row.class, LOOKUP).csv().bufferSize(8).read(channel(content), rows::add);
+        return rows;
+    }
+
+    @Test
+    void bindTypes() {
+        final var rows = read("\uFEFFid,amount,price,ratio,code,flags,paid,grade,name,count,status,unknown\r\n"
+                + "1,-9000000000,1.25,0.5,-7,3,TRUE,A,\u00C1rv\u00EDzt\u0171r\u0151,42,DONE,x\r\n"
+                + "\n"
+                + " 2 ,0,1e3,,,,false,B,,,NEW");
+        final var first = rows.get(0);
+        final var second = rows.get(1);
+        assertAll(
+                () -> assertEquals(2, rows.size()),
+                () -> assertEquals(1, first.id),
+                () -> assertEquals(-9_000_000_000L, first.amount),
+                () -> assertEquals(1.25, first.price),
+                () -> assertEquals(0.5f, first.ratio),
+                () -> assertEquals(-7, first.code),
+                () -> assertEquals(3, first.flags),
+                () -> assertTrue(first.paid),
+                () -> assertEquals('A', first.grade),
+                () -> assertEquals("\u00C1rv\u00EDzt\u0171r\u0151", first.name),
+                () -> assertEquals(Integer.valueOf(42), first.count),
+                () -> assertEquals(Status.DONE, first.status),
+                () -> assertEquals("default", first.defaulted),
+                () -> assertEquals(2, second.id),
+                () -> assertEquals(1000.0, second.price),
+                () -> assertNull(second.name),
+                () -> assertNull(second.count),
+                () -> assertEquals(Status.NEW, second.status)
+        );
+    }
+
+    @Test
+    void bindConvertedTypes() {
+        BeanMirror.registerConverter(String.class, LocalDate.class, LocalDate::parse);
+        try {
+            final var rows = new ArrayList<Measurement>();
+            BeanMirror.of(Measurement.class, LOOKUP).csv()
+                    .read(channel("ratio,code,flags,grade,total,count,day,tags\n0.5,-7,3,A,12.50,123456789012345678901,2020-01-31,x\n"), rows::add);
+            final var row = rows.get(0);
+            assertAll(
+                    () -> assertEquals(1, rows.size()),
+                    () -> assertEquals(Float.valueOf(0.5f), row.ratio),
+                    () -> assertEquals(Short.valueOf((short) -7), row.code),
+                    () -> assertEquals(Byte.valueOf((byte) 3), row.flags),
+                    () -> assertEquals(Character.valueOf('A'), row.grade),
+                    () -> assertEquals(new BigDecimal("12.50"), row.total),
+                    () -> assertEquals(new BigInteger("123456789012345678901"), row.count),
+                    () -> assertEquals(LocalDate.of(2020, 1, 31), row.day),
+                    () -> assertNull(row.tags)
+            );
+        } finally {
+            BeanMirror.unregisterConverter(String.class, LocalDate.class);
+        }
+    }
+
+    @Test
+    void quoting() {
+        final var rows = read("id,name,defaulted\n1,\"a,\"\"b\"\"\nc\",\"\"\n2,plain,\"x\"\n");
+        assertAll(
+                () -> assertEquals(2, rows.size()),
+                () -> assertEquals("a,\"b\"\nc", rows.get(0).name),
+                () -> assertEquals("default", rows.get(0).defaulted),
+                () -> assertEquals("plain", rows.get(1).name),
+                () -> assertEquals("x", rows.get(1).defaulted)
+        );
+    }
+
+    @Test
+    void manyQuotedColumns() {
+        final var header = new StringBuilder("\"id\",\"name\"");
+        final var record = new StringBuilder("\"7\",\"a\"\"b\"");
+        for (var i = 2; i < 16; i++) {
+            header.append(",\"unknown").append(i).append('"');
+            record.append(",\"x\"\"").append(i).append('"');
+        }
+        header.append(",\"defaulted\"\n");
+        record.append(",\"last\"\n");
+        final var rows = read(header.toString() + record);
+        assertAll(
+                () -> assertEquals(1, rows.size()),
+                () -> assertEquals(7, rows.get(0).id),
+                () -> assertEquals("a\"b", rows.get(0).name),
+                () -> assertEquals("last", rows.get(0).defaulted)
+        );
+    }
+
+    @Test
+    void tabSeparatedWithColumns() {
+        final var rows = new ArrayList<Row>();
+        final var count = BeanMirror.of(Row.class, LOOKUP).tsv().columns("name", "id").read(channel("\"a\"\t1\nb,c\t2\n"), rows::add);
+        assertAll(
+                () -> assertEquals(2, count),
+                () -> assertEquals("\"a\"", rows.get(0).name),
+                () -> assertEquals(1, rows.get(0).id),
+                () -> assertEquals("b,c", rows.get(1).name),
+                () -> assertEquals(2, rows.get(1).id)
+        );
+    }
+
+    @Test
+    void batches() throws Exception {
+        final var content = new StringBuilder("id;amount\n");
+        for (var i = 0; i < 2500; i++) {
+            content.append(i).append(';').append(i * 10L).append('\n');
+        }
+        final var file = Files.createTempFile("bean-mirror", ".csv");
+        try {
+            Files.writeString(file, content);
+            final var batches = new ArrayList<List<Row>>();
+            final var count = BeanMirror.of(Row.class, LOOKUP).csv().separator(';').read(file, 1000, batches::add);
+            assertAll(
+                    () -> assertEquals(2500, count),
+                    () -> assertEquals(List.of(1000, 1000, 500), batches.stream().map(List::size).collect(Collectors.toList())),
+                    () -> assertEquals(2499, batches.get(2).get(499).id),
+                    () -> assertEquals(24990, batches.get(2).get(499).amount)
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void invalidValues() {
+        final var binder = BeanMirror.of(Row.class, LOOKUP).csv();
+        final var exception = assertThrows(BeanMirrorException.class, () -> binder.read(channel("id\n1\nx\n"), row -> {}));
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class, exception.getCause().getClass()),
+                () -> assertTrue(exception.getCause().getMessage().contains("record 3")),
+                () -> assertEquals(NumberFormatException.class, exception.getCause().getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> binder.read(channel("id\n99999999999\n"), row -> {})).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> binder.read(channel("paid\nyes\n"), row -> {})).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> binder.separator('"')).getCause().getClass()),
+                () -> assertEquals(NumberFormatException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.of(Measurement.class, LOOKUP).csv().read(channel("total\nx\n"), row -> {})).getCause().getCause().getClass()),
+                () -> assertEquals(NoSuchMethodException.class,
+                        assertThrows(BeanMirrorException.class, () -> BeanMirror.of(NoDefault.class, LOOKUP).csv()).getCause().getClass())
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class CursorMirrorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private boolean booleanValue;
+        private String stringValue;
+
+        private static int staticValue;
+
+        private Target(final int intValue, final String stringValue) {
+            this.intValue = intValue;
+            this.stringValue = stringValue;
+        }
+    }
+
+    private static class SubTarget extends Target {
+
+        private String stringValue = "shadowed";
+
+        private SubTarget(final int intValue) {
+            super(intValue, "inherited");
+        }
+    }
+
+    @Test
+    void inheritedFields() {
+        final var cursor = BeanMirror.of(SubTarget.class, LOOKUP).cursor().bind(new SubTarget(7));
+        assertAll(
+                () -> assertEquals(7, cursor.getInt("intValue")),
+                () -> assertEquals("shadowed", cursor.get("stringValue", String.class))
+        );
+    }
+
+    @SuppressWarnings({"deprecation", "unused"})
+    private static class Observed extends java.util.Observable {
+
+        private int id;
+
+        private Observed(final int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    void inaccessibleSuperclass() {
+        final var cursor = BeanMirror.of(Observed.class, LOOKUP).cursor().bind(new Observed(3));
+        assertAll(
+                () -> assertEquals(3, cursor.getInt("id")),
+                () -> assertEquals(5, cursor.setInt("id", 5).getInt("id")),
+                () -> assertEquals(IllegalAccessException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.getBoolean("changed")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.getInt("missing")).getCause().getClass())
+        );
+    }
+
+    @Test
+    void handlesAreShared() {
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var first = mirror.cursor().bind(new Target(1, "a"));
+        final var size = MemberCache.size(Target.class);
+        final var second = mirror.cursor().bind(new Target(2, "b"));
+        assertAll(
+                () -> assertEquals(size, MemberCache.size(Target.class)),
+                () -> assertEquals(1, first.getInt("intValue")),
+                () -> assertEquals(2, second.getInt("intValue"))
+        );
+    }
+
+    @Test
+    void bind() {
+        final var first = new Target(1, "a");
+        final var second = new Target(2, "b");
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor();
+        assertAll(
+                () -> assertSame(first, cursor.bind(first).get()),
+                () -> assertSame(second, cursor.bind(second).get()),
+                () -> assertThrows(NullPointerException.class, () -> cursor.bind(null))
+        );
+    }
+
+    @Test
+    void notBound() {
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor();
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, cursor::get),
+                () -> assertThrows(IllegalStateException.class, () -> cursor.getInt("intValue"))
+        );
+    }
+
+    @Test
+    void getValues() {
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor();
+        var sum = 0;
+        final var builder = new StringBuilder();
+        for (final var target : List.of(new Target(1, "a"), new Target(2, "b"), new Target(3, "c"))) {
+            cursor.bind(target);
+            sum += cursor.getInt("intValue");
+            builder.append(cursor.get("stringValue", String.class));
+        }
+        assertEquals(6, sum);
+        assertEquals("abc", builder.toString());
+    }
+
+    @Test
+    void setValues() {
+        final var target = new Target(1, "a");
+        BeanMirror.of(Target.class, LOOKUP).cursor().bind(target)
+                .setInt("intValue", 2)
+                .setLong("longValue", 3L)
+                .setDouble("doubleValue", 4.0)
+                .setBoolean("booleanValue", true)
+                .set("stringValue", "b");
+        assertAll(
+                () -> assertEquals(2, target.intValue),
+                () -> assertEquals(3L, target.longValue),
+                () -> assertEquals(4.0, target.doubleValue),
+                () -> assertTrue(target.booleanValue),
+                () -> assertEquals("b", target.stringValue)
+        );
+    }
+
+    @Test
+    void setPrimitiveWithWrapper() {
+        final var target = new Target(1, "a");
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor().bind(target).set("intValue", 5);
+        assertAll(
+                () -> assertEquals(5, target.intValue),
+                () -> assertEquals(5, cursor.getInt("intValue")),
+                () -> assertEquals(5, (int) cursor.get("intValue", int.class)),
+                () -> assertFalse(cursor.getBoolean("booleanValue")),
+                () -> assertEquals(0L, cursor.getLong("longValue")),
+                () -> assertEquals(0.0, cursor.getDouble("doubleValue"))
+        );
+    }
+
+    @Test
+    void invalidAccess() {
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor().bind(new Target(1, "a"));
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.getInt("missing")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.getInt("staticValue")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.getLong("intValue")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.get("intValue", Integer.class)).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.set("intValue", "a")).getCause().getClass()),
+                () -> assertEquals(ClassCastException.class,
+                        assertThrows(BeanMirrorException.class, () -> cursor.set("intValue", null)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void forToString() {
+        final var target = new Target(1, "a");
+        final var cursor = BeanMirror.of(Target.class, LOOKUP).cursor().bind(target);
+        assertEquals(Target.class + " -> " + target, cursor.toString());
+    }
+}
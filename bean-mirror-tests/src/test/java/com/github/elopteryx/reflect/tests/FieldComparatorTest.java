@@ -0,0 +1,121 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+class FieldComparatorTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Person {
+
+        private final String lastName;
+        private final int age;
+        private final double score;
+        private final boolean active;
+        private final Object other = new Object();
+
+        private Person(final String lastName, final int age, final double score) {
+            this.lastName = lastName;
+            this.age = age;
+            this.score = score;
+            this.active = age % 2 == 0;
+        }
+
+        @Override
+        public String toString() {
+            return lastName + " " + age + " " + score;
+        }
+    }
+
+    private static final Person A_30_1 = new Person("A", 30, 1.0);
+    private static final Person A_30_2 = new Person("A", 30, 2.0);
+    private static final Person A_40_1 = new Person("A", 40, 1.0);
+    private static final Person B_20_1 = new Person("B", 20, 1.0);
+    private static final Person NULL_50 = new Person(null, 50, 1.0);
+
+    private static final List<Person> PEOPLE = List.of(B_20_1, NULL_50, A_30_2, A_40_1, A_30_1);
+
+    @Test
+    void compare() {
+        final var comparator = BeanMirror.of(Person.class, LOOKUP).comparator("lastName", "age desc", "score");
+        final var sorted = new ArrayList<>(PEOPLE);
+        sorted.sort(comparator);
+        assertEquals(List.of(A_40_1, A_30_1, A_30_2, B_20_1, NULL_50), sorted);
+    }
+
+    @Test
+    void nullPolicy() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        final var nullsFirst = new ArrayList<>(PEOPLE);
+        nullsFirst.sort(mirror.comparator("lastName desc", "age").nullsFirst());
+        final var nullsLast = new ArrayList<>(PEOPLE);
+        nullsLast.sort(mirror.comparator("lastName desc", "age").nullsFirst().nullsLast());
+        assertAll(
+                () -> assertEquals(List.of(NULL_50, B_20_1, A_30_2, A_30_1, A_40_1), nullsFirst),
+                () -> assertEquals(List.of(B_20_1, A_30_2, A_30_1, A_40_1, NULL_50), nullsLast)
+        );
+    }
+
+    @Test
+    void sort() {
+        final var random = new Random(42);
+        final var people = new ArrayList<Person>();
+        for (var i = 0; i < 10_000; i++) {
+            people.add(new Person(String.valueOf((char) ('A' + random.nextInt(26))), random.nextInt(100), random.nextInt(10)));
+        }
+        people.add(NULL_50);
+        final var comparator = BeanMirror.of(Person.class, LOOKUP).comparator("lastName", "age desc", "active", "score");
+        final var expected = new ArrayList<>(people);
+        expected.sort(comparator);
+        final var actual = new LinkedList<>(people);
+        comparator.sort(actual);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void sortIsStable() {
+        final var people = new ArrayList<>(PEOPLE);
+        BeanMirror.of(Person.class, LOOKUP).comparator("score").sort(people);
+        assertEquals(List.of(B_20_1, NULL_50, A_40_1, A_30_1, A_30_2), people);
+    }
+
+    @Test
+    void sameAsComparing() {
+        final var comparator = BeanMirror.of(Person.class, LOOKUP).comparator("age", "score desc");
+        final Comparator<Person> expected = Comparator.<Person>comparingInt(person -> person.age).thenComparing(person -> person.score, Comparator.reverseOrder());
+        for (final var first : PEOPLE) {
+            for (final var second : PEOPLE) {
+                assertEquals(Integer.signum(expected.compare(first, second)), Integer.signum(comparator.compare(first, second)));
+            }
+        }
+    }
+
+    @Test
+    void invalidKeys() {
+        final var mirror = BeanMirror.of(Person.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, mirror::comparator).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.comparator("age up")).getCause().getClass()),
+                () -> assertEquals(IllegalArgumentException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.comparator("other")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class,
+                        assertThrows(BeanMirrorException.class, () -> mirror.comparator("missing")).getCause().getClass())
+        );
+    }
+}
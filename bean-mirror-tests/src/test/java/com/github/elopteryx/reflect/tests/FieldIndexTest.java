@@ -0,0 +1,111 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+class FieldIndexTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Item {
+
+        private final long id;
+        private final int group;
+        private final short code;
+        private final String name;
+
+        private Item(final long id, final int group) {
+            this.id = id;
+            this.group = group;
+            this.code = (short) -id;
+            this.name = String.valueOf(id);
+        }
+    }
+
+    private static final Item FIRST = new Item(1, 10);
+    private static final Item SECOND = new Item(2, 20);
+    private static final Item THIRD = new Item(-3, 10);
+
+    private static final List<Item> ITEMS = List.of(FIRST, SECOND, THIRD);
+
+    @Test
+    void unique() {
+        final var index = BeanMirror.of(Item.class, LOOKUP).indexBy("id").unique(ITEMS);
+        assertAll(
+                () -> assertTrue(index.isUnique()),
+                () -> assertEquals(3, index.size()),
+                () -> assertSame(FIRST, index.get(1)),
+                () -> assertSame(THIRD, index.get(-3)),
+                () -> assertNull(index.get(0)),
+                () -> assertEquals(List.of(SECOND), index.getAll(2)),
+                () -> assertEquals(List.of(), index.getAll(4)),
+                () -> assertTrue(index.containsKey(2)),
+                () -> assertFalse(index.containsKey(3))
+        );
+    }
+
+    @Test
+    void multi() {
+        final var mirror = BeanMirror.of(Item.class, LOOKUP);
+        final var index = mirror.indexBy("group").multi(ITEMS);
+        final var shortIndex = mirror.indexBy("code").multi(ITEMS);
+        assertAll(
+                () -> assertFalse(index.isUnique()),
+                () -> assertEquals(2, index.size()),
+                () -> assertSame(FIRST, index.get(10)),
+                () -> assertEquals(List.of(FIRST, THIRD), index.getAll(10)),
+                () -> assertEquals(List.of(SECOND), index.getAll(20)),
+                () -> assertSame(THIRD, shortIndex.get(3))
+        );
+    }
+
+    @Test
+    void parallel() {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 300_000; i++) {
+            items.add(new Item(i * 31L, i % 1000));
+        }
+        final var mirror = BeanMirror.of(Item.class, LOOKUP);
+        final var unique = mirror.indexBy("id").unique(items);
+        final var multi = mirror.indexBy("group").multi(items);
+        assertAll(
+                () -> assertEquals(300_000, unique.size()),
+                () -> assertTrue(items.stream().allMatch(item -> unique.get(item.id) == item)),
+                () -> assertEquals(1000, multi.size()),
+                () -> assertEquals(300, multi.getAll(7).size()),
+                () -> assertTrue(multi.getAll(7).stream().allMatch(item -> item.group == 7)),
+                () -> assertEquals(7, multi.getAll(7).get(0).id / 31)
+        );
+    }
+
+    @Test
+    void duplicates() {
+        final var items = new ArrayList<>(ITEMS);
+        items.add(new Item(2, 30));
+        final var exception = assertThrows(BeanMirrorException.class, () -> BeanMirror.of(Item.class, LOOKUP).indexBy("id").unique(items));
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void invalidFields() {
+        final var mirror = BeanMirror.of(Item.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(IllegalArgumentException.class, assertThrows(BeanMirrorException.class, () -> mirror.indexBy("name")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.indexBy("missing")).getCause().getClass())
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.elopteryx.reflect.tests;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+class ImplementTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private interface Calculator {
+
+        int add(int first, int second);
+
+        long multiply(long first, long second);
+
+        double half(double value);
+
+        String describe(String prefix, char separator, boolean flag);
+
+        void reset() throws IOException;
+
+        default String name() {
+            return "calculator";
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static int add(final int first, final int second) {
+        return first + second;
+    }
+
+    @SuppressWarnings("unused")
+    private static long multiply(final long first, final long second) {
+        return first * second;
+    }
+
+    @SuppressWarnings("unused")
+    private static double half(final double value) {
+        return value / 2;
+    }
+
+    @SuppressWarnings("unused")
+    private static String describe(final String prefix, final char separator, final boolean flag) {
+        return prefix + separator + flag;
+    }
+
+    @SuppressWarnings("unused")
+    private static void reset() throws IOException {
+        throw new IOException("reset");
+    }
+
+    private static Function<Method, MethodHandle> dispatcher(final boolean withName) {
+        return method -> {
+            if (method.getName().equals("name")) {
+                return withName ? MethodHandles.constant(String.class, "named") : null;
+            }
+            try {
+                return LOOKUP.findStatic(ImplementTest.class, method.getName(), methodType(method.getReturnType(), method.getParameterTypes()));
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @Test
+    void implement() {
+        final var calculator = BeanMirror.implement(Calculator.class, dispatcher(false), LOOKUP);
+        assertAll(
+                () -> assertEquals(5, calculator.add(2, 3)),
+                () -> assertEquals(12L, calculator.multiply(3L, 4L)),
+                () -> assertEquals(1.5, calculator.half(3.0)),
+                () -> assertEquals("a:true", calculator.describe("a", ':', true)),
+                () -> assertEquals("calculator", calculator.name()),
+                () -> assertEquals("reset", assertThrows(IOException.class, calculator::reset).getMessage()),
+                () -> assertTrue(calculator.getClass().isSynthetic()),
+                () -> assertEquals(Calculator.class.getPackage(), calculator.getClass().getPackage())
+        );
+    }
+
+    @Test
+    void cached() {
+        final var first = BeanMirror.implement(Calculator.class, dispatcher(false), LOOKUP);
+        final var second = BeanMirror.implement(Calculator.class, dispatcher(false), LOOKUP);
+        final var named = BeanMirror.implement(Calculator.class, dispatcher(true), LOOKUP);
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertSame(first.getClass(), second.getClass()),
+                () -> assertNotSame(first.getClass(), named.getClass()),
+                () -> assertEquals("named", named.name())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void implementPublic() throws Exception {
+        final var compareTo = LOOKUP.findVirtual(String.class, "compareTo", methodType(int.class, String.class));
+        final Supplier<String> supplier = BeanMirror.implement(Supplier.class, method -> MethodHandles.constant(Object.class, "value"));
+        final Comparator<String> comparator = BeanMirror.implement(Comparator.class, method -> method.getName().equals("compare") ? compareTo : null, LOOKUP);
+        assertAll(
+                () -> assertEquals("value", supplier.get()),
+                () -> assertEquals(-1, comparator.compare("a", "b")),
+                () -> assertEquals(1, comparator.reversed().compare("a", "b"))
+        );
+    }
+
+    @Test
+    void failures() {
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.implement(Calculator.class, method -> null, LOOKUP)).getCause().getClass()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BeanMirror.implement(Object.class, method -> null, LOOKUP))
+        );
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class MirrorCallSiteTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Base {
+
+        private Long id;
+
+        private Base(final long id) {
+            this.id = id;
+        }
+    }
+
+    private static class A extends Base { private A(final long id) { super(id); } }
+    private static class B extends Base { private B(final long id) { super(id); } }
+    private static class C extends Base { private C(final long id) { super(id); } }
+    private static class D extends Base { private D(final long id) { super(id); } }
+    private static class E extends Base { private E(final long id) { super(id); } }
+    private static class F extends Base { private F(final long id) { super(id); } }
+    private static class G extends Base { private G(final long id) { super(id); } }
+    private static class H extends Base { private H(final long id) { super(id); } }
+    private static class I extends Base { private I(final long id) { super(id); } }
+
+    @SuppressWarnings("unused")
+    private static class Primitive {
+
+        private long id;
+        private String name;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Other {
+
+        private String id;
+    }
+
+    @Test
+    void polymorphic() {
+        final var site = BeanMirror.callSite("id", Long.class, LOOKUP);
+        final var first = new A(1L);
+        final var second = new B(2L);
+        final var primitive = new Primitive();
+        primitive.id = 3L;
+        assertAll(
+                () -> assertEquals(Long.valueOf(1L), site.get(first)),
+                () -> assertEquals(Long.valueOf(2L), site.get(second)),
+                () -> assertEquals(Long.valueOf(1L), site.get(first)),
+                () -> assertEquals(Long.valueOf(3L), site.get(primitive)),
+                () -> assertFalse(site.isMegamorphic())
+        );
+    }
+
+    @Test
+    void megamorphic() {
+        final var site = BeanMirror.callSite("id", Long.class, LOOKUP);
+        final var values = List.of(new A(1), new B(2), new C(3), new D(4), new E(5), new F(6), new G(7), new H(8), new I(9), new Base(10));
+        for (var round = 0; round < 3; round++) {
+            for (final var value : values) {
+                assertEquals(value.id, site.get(value));
+            }
+        }
+        assertTrue(site.isMegamorphic());
+    }
+
+    @Test
+    void set() {
+        final var site = BeanMirror.callSite("id", Long.class, LOOKUP);
+        final Base value = new C(1);
+        final var primitive = new Primitive();
+        site.set(value, 2L);
+        site.set(value, null);
+        site.set(primitive, 3L);
+        assertAll(
+                () -> assertNull(value.id),
+                () -> assertEquals(3L, primitive.id),
+                () -> assertEquals(NullPointerException.class, assertThrows(BeanMirrorException.class, () -> site.set(primitive, null)).getCause().getClass())
+        );
+    }
+
+    @Test
+    void failures() {
+        final var site = BeanMirror.callSite("id", Long.class, LOOKUP);
+        final var names = BeanMirror.callSite("name", Integer.class, LOOKUP);
+        assertAll(
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> site.get(new Other())).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> site.get("string")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> names.get(new Primitive())).getCause().getClass()),
+                () -> assertEquals(Long.valueOf(1L), site.get(new D(1)))
+        );
+    }
+
+}
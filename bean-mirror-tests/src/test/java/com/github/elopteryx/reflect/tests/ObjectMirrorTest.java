@@ -245,6 +245,27 @@ class ObjectMirrorTest {
         assertEquals(NoSuchMethodException.class, exception.getCause().getClass());
     }
 
+    @SuppressWarnings("unused")
+    private static class InheritedParent {
+
+        private String secret = "secret";
+
+        private String hidden(final int value) {
+            return "hidden" + value;
+        }
+    }
+
+    private static class InheritedChild extends InheritedParent {}
+
+    @Test
+    void inherited() {
+        final var mirror = BeanMirror.of(new InheritedChild(), LOOKUP).set("secret", "other");
+        assertAll(
+                () -> assertEquals("other", mirror.get("secret", String.class)),
+                () -> assertEquals("hidden1", mirror.call(String.class, "hidden", 1).get())
+        );
+    }
+
     private static class StandardObjectMethods {}
 
     @Test
@@ -0,0 +1,105 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class RowMapperTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Mutable {
+
+        private int id;
+        private long amount;
+        private String name;
+        private Integer count;
+        private boolean active;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Immutable {
+
+        private final int id;
+        private final String name;
+        private final double score;
+
+        private Immutable(final int id, final String name, final double score) {
+            this.id = id;
+            this.name = name;
+            this.score = score * 2;
+        }
+    }
+
+    @Test
+    void readWithSetters() {
+        final var reader = BeanMirror.of(Mutable.class, LOOKUP).rowReader("name", "id", "amount", "count", "active");
+        final var first = reader.apply(new Object[] {"a", 1, 2L, 3, true});
+        final var second = reader.apply(new Object[] {null, 4, 5L, null, false, "ignored"});
+        assertAll(
+                () -> assertEquals("a", first.name),
+                () -> assertEquals(1, first.id),
+                () -> assertEquals(2L, first.amount),
+                () -> assertEquals(Integer.valueOf(3), first.count),
+                () -> assertEquals(true, first.active),
+                () -> assertNull(second.name),
+                () -> assertEquals(4, second.id),
+                () -> assertNull(second.count)
+        );
+    }
+
+    @Test
+    void readWithConstructor() {
+        final var mirror = BeanMirror.of(Immutable.class, LOOKUP);
+        final var value = mirror.rowReader("id", "name", "score").apply(new Object[] {1, "a", 1.5});
+        assertAll(
+                () -> assertEquals(1, value.id),
+                () -> assertEquals("a", value.name),
+                () -> assertEquals(3.0, value.score),
+                () -> assertEquals(IllegalAccessException.class, assertThrows(BeanMirrorException.class, () -> mirror.rowReader("name", "id", "score")).getCause().getClass())
+        );
+    }
+
+    @Test
+    void write() {
+        final var value = new Mutable();
+        value.id = 1;
+        value.amount = 2L;
+        value.name = "a";
+        final var row = new Object[4];
+        BeanMirror.of(Mutable.class, LOOKUP).rowWriter("name", "amount", "id").accept(value, row);
+        BeanMirror.of(Immutable.class, LOOKUP).rowWriter("score").accept(new Immutable(0, null, 2), row);
+        assertArrayEquals(new Object[] {4.0, 2L, 1, null}, row);
+    }
+
+    @Test
+    void roundTrip() {
+        final var mirror = BeanMirror.of(Mutable.class, LOOKUP);
+        final var row = new Object[] {7, "b", 9L};
+        final var copy = new Object[3];
+        mirror.rowWriter("id", "name", "amount").accept(mirror.rowReader("id", "name", "amount").apply(row), copy);
+        assertArrayEquals(row, copy);
+    }
+
+    @Test
+    void invalidRows() {
+        final var mirror = BeanMirror.of(Mutable.class, LOOKUP);
+        final var reader = mirror.rowReader("id", "name");
+        assertAll(
+                () -> assertEquals(ClassCastException.class, assertThrows(BeanMirrorException.class, () -> reader.apply(new Object[] {"a", "b"})).getCause().getClass()),
+                () -> assertEquals(NullPointerException.class, assertThrows(BeanMirrorException.class, () -> reader.apply(new Object[] {null, "b"})).getCause().getClass()),
+                () -> assertEquals(ArrayIndexOutOfBoundsException.class, assertThrows(BeanMirrorException.class, () -> reader.apply(new Object[] {1})).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.rowReader("missing")).getCause().getClass()),
+                () -> assertEquals(NoSuchFieldException.class, assertThrows(BeanMirrorException.class, () -> mirror.rowWriter("missing")).getCause().getClass())
+        );
+    }
+}
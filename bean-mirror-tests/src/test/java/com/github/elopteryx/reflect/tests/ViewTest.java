@@ -0,0 +1,127 @@
+package com.github.elopteryx.reflect.tests;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class ViewTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private interface Counter {
+
+        int next();
+
+        long add(int value);
+
+        String describe(Integer prefix);
+
+        default String name() {
+            return "counter";
+        }
+    }
+
+    private interface Sized {
+
+        int length();
+    }
+
+    @SuppressWarnings("unused")
+    private static class Base {
+
+        private String describe(final Number prefix) {
+            return prefix + ":base";
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target extends Base {
+
+        private int count;
+
+        private int next() {
+            return ++count;
+        }
+
+        public long add(final int value) {
+            count += value;
+            return count;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Named extends Target {
+
+        String name() {
+            return "named";
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Incomplete {
+
+        int next() {
+            return 0;
+        }
+    }
+
+    @Test
+    void view() {
+        final var target = new Target();
+        final var counter = BeanMirror.of(target, LOOKUP).as(Counter.class);
+        assertAll(
+                () -> assertEquals(1, counter.next()),
+                () -> assertEquals(11L, counter.add(10)),
+                () -> assertEquals(11, target.count),
+                () -> assertEquals("2:base", counter.describe(2)),
+                () -> assertEquals("counter", counter.name()),
+                () -> assertEquals("named", BeanMirror.of(new Named(), LOOKUP).as(Counter.class).name())
+        );
+    }
+
+    @Test
+    void cached() {
+        final var first = BeanMirror.of(new Target(), LOOKUP).as(Counter.class);
+        final var second = BeanMirror.of(new Target(), LOOKUP).as(Counter.class);
+        first.next();
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertSame(first.getClass(), second.getClass()),
+                () -> assertEquals(1, second.next())
+        );
+    }
+
+    @Test
+    void cachedOnTheVisibleSide() {
+        BeanMirror.invalidate(Target.class);
+        BeanMirror.invalidate(Sized.class);
+        BeanMirror.of(new Target(), LOOKUP).as(Counter.class);
+        final var stringSize = MemberCache.size(String.class);
+        final var sized = BeanMirror.of("four", LOOKUP).as(Sized.class);
+        assertAll(
+                () -> assertEquals(4, sized.length()),
+                () -> assertEquals(1, MemberCache.size(Target.class)),
+                () -> assertEquals(stringSize, MemberCache.size(String.class)),
+                () -> assertEquals(1, MemberCache.size(Sized.class))
+        );
+    }
+
+    @Test
+    void failures() {
+        assertAll(
+                () -> assertEquals(NoSuchMethodException.class, assertThrows(BeanMirrorException.class,
+                        () -> BeanMirror.of(new Incomplete(), LOOKUP).as(Counter.class)).getCause().getClass()),
+                () -> assertThrows(IllegalArgumentException.class, () -> BeanMirror.of(new Target(), LOOKUP).as(Target.class))
+        );
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.internal.BoundedCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class BoundedCacheTest {
+
+    @Test
+    void getAndPut() {
+        final var cache = new BoundedCache<String, Integer>(4);
+        assertAll(
+                () -> assertNull(cache.get("a")),
+                () -> assertEquals(Integer.valueOf(1), cache.putIfAbsent("a", 1)),
+                () -> assertEquals(Integer.valueOf(1), cache.putIfAbsent("a", 2)),
+                () -> assertEquals(Integer.valueOf(1), cache.get("a")),
+                () -> assertEquals(1, cache.size()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0))
+        );
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictUnused() {
+        final var cache = new BoundedCache<Integer, Integer>(10);
+        for (var i = 0; i < 10; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        cache.get(3);
+        cache.get(7);
+        for (var i = 10; i < 1000; i++) {
+            cache.putIfAbsent(i, i);
+            cache.get(3);
+            cache.get(7);
+        }
+        assertAll(
+                () -> assertEquals(10, cache.size()),
+                () -> assertEquals(Integer.valueOf(3), cache.get(3)),
+                () -> assertEquals(Integer.valueOf(7), cache.get(7)),
+                () -> assertEquals(Integer.valueOf(999), cache.get(999))
+        );
+    }
+
+    @Test
+    void concurrentAccess() {
+        final var cache = new BoundedCache<Integer, Integer>(100);
+        IntStream.range(0, 1_000_000).parallel().forEach(i -> {
+            final var key = i % 10_000;
+            if (cache.get(key) == null) {
+                cache.putIfAbsent(key, key);
+            }
+        });
+        assertTrue(cache.size() <= 100 + Runtime.getRuntime().availableProcessors(), String.valueOf(cache.size()));
+    }
+}
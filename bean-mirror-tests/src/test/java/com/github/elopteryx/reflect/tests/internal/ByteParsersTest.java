@@ -0,0 +1,93 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.ByteParsers;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+class ByteParsersTest {
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static long parseLong(final String value) {
+        return ByteParsers.parseLong(bytes(value), 0, value.length());
+    }
+
+    private static double parseDouble(final String value) {
+        return ByteParsers.parseDouble(bytes(value), 0, value.length());
+    }
+
+    private static float parseFloat(final String value) {
+        return ByteParsers.parseFloat(bytes(value), 0, value.length());
+    }
+
+    @Test
+    void createByteParsers() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(ByteParsers.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void integers() {
+        final var value = bytes("x 123 x");
+        assertAll(
+                () -> assertEquals(0, parseLong("0")),
+                () -> assertEquals(-42, parseLong(" -42 ")),
+                () -> assertEquals(42, parseLong("+42")),
+                () -> assertEquals(Long.MAX_VALUE, parseLong(String.valueOf(Long.MAX_VALUE))),
+                () -> assertEquals(Long.MIN_VALUE, parseLong(String.valueOf(Long.MIN_VALUE))),
+                () -> assertEquals(123, ByteParsers.parseInt(value, 1, 6)),
+                () -> assertEquals(Short.MIN_VALUE, ByteParsers.parseShort(bytes("-32768"), 0, 6)),
+                () -> assertEquals(Byte.MAX_VALUE, ByteParsers.parseByte(bytes("127"), 0, 3)),
+                () -> assertThrows(NumberFormatException.class, () -> parseLong("9223372036854775808")),
+                () -> assertThrows(NumberFormatException.class, () -> parseLong("")),
+                () -> assertThrows(NumberFormatException.class, () -> parseLong("-")),
+                () -> assertThrows(NumberFormatException.class, () -> parseLong("1a")),
+                () -> assertThrows(NumberFormatException.class, () -> ByteParsers.parseInt(bytes("2147483648"), 0, 10)),
+                () -> assertThrows(NumberFormatException.class, () -> ByteParsers.parseByte(bytes("128"), 0, 3))
+        );
+    }
+
+    @Test
+    void decimals() {
+        final var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            final var text = String.valueOf(random.nextInt(2_000_000) - 1_000_000) + "." + random.nextInt(1_000_000_000);
+            assertEquals(Double.parseDouble(text), parseDouble(text), text);
+            assertEquals(Float.parseFloat(text), parseFloat(text), text);
+        }
+        assertAll(
+                () -> assertEquals(0.1, parseDouble("0.1")),
+                () -> assertEquals(-0.0, parseDouble("-0")),
+                () -> assertEquals(0.5, parseDouble(".5")),
+                () -> assertEquals(1.5e300, parseDouble("1.5e300")),
+                () -> assertEquals(0.1234567890123456789, parseDouble("0.1234567890123456789")),
+                () -> assertTrue(Double.isNaN(parseDouble("NaN"))),
+                () -> assertEquals(3.25f, parseFloat(" 3.25 ")),
+                () -> assertThrows(NumberFormatException.class, () -> parseDouble("1.2.3")),
+                () -> assertThrows(NumberFormatException.class, () -> parseDouble(""))
+        );
+    }
+
+    @Test
+    void booleans() {
+        assertAll(
+                () -> assertTrue(ByteParsers.parseBoolean(bytes("True"), 0, 4)),
+                () -> assertFalse(ByteParsers.parseBoolean(bytes(" FALSE "), 0, 7)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ByteParsers.parseBoolean(bytes("1"), 0, 1))
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Conversions;
+import com.github.elopteryx.reflect.internal.NULL;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+class ConversionsTest {
+
+    @Test
+    void createConversions() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Conversions.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void convert() throws Throwable {
+        final var widening = Conversions.converter(Byte.class, double.class);
+        final var boxing = Conversions.converter(Integer.class, Number.class);
+        final var nulls = Conversions.converter(NULL.class, String.class);
+        assertAll(
+                () -> assertEquals(MethodType.methodType(double.class, Object.class), widening.type()),
+                () -> assertEquals(5.0, (double) widening.invokeExact((Object) Byte.valueOf((byte) 5))),
+                () -> assertEquals(1, (Number) boxing.invokeExact((Object) 1)),
+                () -> assertEquals(null, (String) nulls.invokeExact((Object) null)),
+                () -> assertSame(widening, Conversions.converter(Byte.class, double.class)),
+                () -> assertThrows(ClassCastException.class, () -> Conversions.converter(NULL.class, int.class)),
+                () -> assertThrows(ClassCastException.class, () -> Conversions.converter(Double.class, float.class)),
+                () -> assertThrows(ClassCastException.class, () -> Conversions.converter(Boolean.class, int.class))
+        );
+    }
+}
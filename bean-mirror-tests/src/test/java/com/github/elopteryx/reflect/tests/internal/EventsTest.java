@@ -0,0 +1,86 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Events;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+class EventsTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private String value = "value";
+
+        private Target() {}
+
+        private String call(final String param) {
+            return param;
+        }
+
+        public static String callStatic(final int param) {
+            return String.valueOf(param);
+        }
+    }
+
+    @Test
+    void createEvents() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Events.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void recordResolutions() throws Exception {
+        final var file = Files.createTempFile("bean-mirror", ".jfr");
+        try (var recording = new Recording()) {
+            for (final var name : List.of("FieldResolution", "MethodResolution", "SimilarMethodScan", "ConstructorLookup", "ExceptionWrap")) {
+                recording.enable("com.github.elopteryx.reflect." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            final var target = BeanMirror.of(Target.class, LOOKUP).create().get();
+            BeanMirror.of(target, LOOKUP).get("value", String.class);
+            BeanMirror.of(target, LOOKUP).call(String.class, "call", "a");
+            BeanMirror.of(Target.class, LOOKUP).callStatic(String.class, "callStatic", 1);
+            BeanMirror.of(Target.class, LOOKUP).createGetter("value", String.class);
+            assertThrows(BeanMirrorException.class, () -> BeanMirror.of(target, LOOKUP).get("missing", String.class));
+
+            recording.stop();
+            recording.dump(file);
+
+            final var events = RecordingFile.readAllEvents(file);
+            assertAll(
+                    () -> assertTrue(contains(events, "FieldResolution", "value")),
+                    () -> assertTrue(contains(events, "FieldResolution", "missing")),
+                    () -> assertTrue(contains(events, "MethodResolution", "call")),
+                    () -> assertTrue(contains(events, "SimilarMethodScan", "callStatic")),
+                    () -> assertTrue(contains(events, "ConstructorLookup", "<init>")),
+                    () -> assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith("ExceptionWrap")))
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean contains(final List<RecordedEvent> events, final String type, final String member) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.github.elopteryx.reflect." + type))
+                .anyMatch(event -> member.equals(event.getString("memberName")));
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.elopteryx.reflect.tests.internal;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -29,6 +31,10 @@ class FunctionalTest {
 
     }
 
+    private static class SubTarget extends Target {
+
+    }
+
     @Test
     void createFunctional() {
         final var exception = assertThrows(BeanMirrorException.class,
@@ -63,4 +69,25 @@ class FunctionalTest {
         Functional.createSetter("c", MethodHandles.lookup(), Target.class, int.class);
         Functional.createStaticSetter("f", MethodHandles.lookup(), Target.class, int.class);
     }
+
+    @Test
+    void inheritedFields() {
+        final var lookup = MethodHandles.lookup();
+        final var target = new SubTarget();
+        Functional.createSetter("a", lookup, SubTarget.class, int.class).accept(target, 1);
+        Functional.createSetter("c", lookup, SubTarget.class, String.class).accept(target, "2");
+        Functional.createStaticSetter("d", lookup, SubTarget.class, int.class).accept(3);
+        final var row = new Object[2];
+        Functional.createRowWriter(new String[] {"a", "c"}, lookup, SubTarget.class).accept(target, row);
+        final var copy = Functional.createRowReader(new String[] {"a", "c"}, lookup, SubTarget.class).apply(row);
+        assertAll(
+                () -> assertEquals(Integer.valueOf(1), Functional.createGetter("a", lookup, SubTarget.class, int.class).apply(target)),
+                () -> assertEquals(2, target.c),
+                () -> assertEquals(Integer.valueOf(3), Functional.createStaticGetter("d", lookup, SubTarget.class, int.class).get()),
+                () -> assertEquals(1, Functional.findVarHandle("a", lookup, SubTarget.class).get(target)),
+                () -> assertArrayEquals(new Object[] {1, 2}, row),
+                () -> assertEquals(1, ((Target) copy).a),
+                () -> assertEquals(2, copy.c)
+        );
+    }
 }
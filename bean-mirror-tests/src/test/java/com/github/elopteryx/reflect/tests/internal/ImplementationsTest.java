@@ -0,0 +1,38 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Implementations;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class ImplementationsTest {
+
+    @Test
+    void createImplementations() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Implementations.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void classesArePerHost() throws Exception {
+        final var lookup = MethodHandles.lookup();
+        final var other = MethodHandles.privateLookupIn(Class.forName("com.github.elopteryx.reflect.tests.BatchTest"), lookup);
+        final Runnable first = Implementations.implement(Runnable.class, method -> MethodHandles.constant(int.class, 0).asType(methodType(void.class)), lookup);
+        final Runnable second = Implementations.implement(Runnable.class, method -> MethodHandles.constant(int.class, 0).asType(methodType(void.class)), other);
+        final Runnable third = Implementations.implement(Runnable.class, method -> MethodHandles.constant(int.class, 0).asType(methodType(void.class)), lookup);
+        assertAll(
+                () -> assertEquals(lookup.lookupClass().getPackageName(), first.getClass().getPackageName()),
+                () -> assertEquals(other.lookupClass().getPackageName(), second.getClass().getPackageName()),
+                () -> assertSame(first.getClass(), third.getClass())
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.internal.LongHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+class LongHashMapTest {
+
+    @Test
+    void putAndGet() {
+        final var map = new LongHashMap<String>();
+        assertAll(
+                () -> assertNull(map.put(1L, "a")),
+                () -> assertNull(map.put(-1L, "b")),
+                () -> assertNull(map.put(Long.MIN_VALUE, "c")),
+                () -> assertEquals("a", map.put(1L, "d")),
+                () -> assertEquals("d", map.get(1L)),
+                () -> assertEquals("b", map.get(-1L)),
+                () -> assertEquals("c", map.get(Long.MIN_VALUE)),
+                () -> assertNull(map.get(0L)),
+                () -> assertEquals(3, map.size()),
+                () -> assertThrows(NullPointerException.class, () -> map.put(2L, null))
+        );
+    }
+
+    @Test
+    void resize() {
+        final var random = new Random(42);
+        final var map = new LongHashMap<Long>(1);
+        final var expected = new HashMap<Long, Long>();
+        for (var i = 0; i < 100_000; i++) {
+            final var key = random.nextInt(50_000) * 1024L;
+            map.put(key, (long) i);
+            expected.put(key, (long) i);
+        }
+        final var actual = new HashMap<Long, Long>();
+        map.forEach(actual::put);
+        final var keys = map.keys();
+        Arrays.sort(keys);
+        assertAll(
+                () -> assertEquals(expected.size(), map.size()),
+                () -> assertEquals(expected, actual),
+                () -> assertArrayEquals(expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), keys)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.MemberCache;
+import com.github.elopteryx.reflect.internal.MemberCache.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class MemberCacheTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private String value = "value";
+
+        private static String staticValue = "value";
+
+        private String call(final String param) {
+            return param;
+        }
+    }
+
+    @Test
+    void createMemberCache() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(MemberCache.class, MethodHandles.lookup()).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void cacheResolvedMembers() {
+        BeanMirror.invalidate(Target.class);
+        final var target = new Target();
+        BeanMirror.of(target, LOOKUP).get("value", String.class);
+        BeanMirror.of(target, LOOKUP).set("value", "other");
+        BeanMirror.of(target, LOOKUP).call(String.class, "call", "a");
+        BeanMirror.of(target, LOOKUP).call(String.class, "call", "b");
+        BeanMirror.of(Target.class, LOOKUP).getStatic("staticValue", String.class);
+        assertThrows(BeanMirrorException.class, () -> BeanMirror.of(target, LOOKUP).get("missing", String.class));
+        assertAll(
+                () -> assertEquals("other", target.value),
+                () -> assertEquals(4, MemberCache.size(Target.class))
+        );
+        BeanMirror.invalidate(Target.class);
+        assertEquals(0, MemberCache.size(Target.class));
+    }
+
+    @Test
+    void separateLookups() {
+        final var first = MemberCache.get(Target.class, LOOKUP, Kind.FIELD, "value", String.class, MemberCache.NO_TYPES, Object::new);
+        final var second = MemberCache.get(Target.class, LOOKUP, Kind.FIELD, "value", String.class, MemberCache.NO_TYPES, Object::new);
+        final var other = MemberCache.get(Target.class, MethodHandles.publicLookup(), Kind.FIELD, "value", String.class, MemberCache.NO_TYPES, Object::new);
+        final var staticField = MemberCache.get(Target.class, LOOKUP, Kind.STATIC_FIELD, "value", String.class, MemberCache.NO_TYPES, Object::new);
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotSame(first, other),
+                () -> assertNotSame(first, staticField)
+        );
+    }
+
+    @Test
+    void boundedSize() {
+        BeanMirror.invalidate(Target.class);
+        for (var i = 0; i < MemberCache.MAX_SIZE * 4; i++) {
+            MemberCache.get(Target.class, LOOKUP, Kind.FIELD, "field" + i, String.class, MemberCache.NO_TYPES, Object::new);
+        }
+        assertEquals(MemberCache.MAX_SIZE, MemberCache.size(Target.class));
+        BeanMirror.invalidate(Target.class);
+    }
+}
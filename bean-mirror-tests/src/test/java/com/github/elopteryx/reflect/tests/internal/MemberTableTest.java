@@ -0,0 +1,109 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.internal.MemberTable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class MemberTableTest {
+
+    private interface Named {
+
+        String PREFIX = "named";
+
+        default String name() {
+            return PREFIX;
+        }
+
+        String describe();
+    }
+
+    @SuppressWarnings("unused")
+    private static class Parent implements Named {
+
+        private static int counter;
+
+        private int value = 1;
+
+        private String secret = "parent";
+
+        private String secret() {
+            return secret;
+        }
+
+        @Override
+        public String describe() {
+            return "parent";
+        }
+
+        private static String create(final int value) {
+            return "parent" + value;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Child extends Parent {
+
+        private int value = 2;
+
+        private String secret() {
+            return "child";
+        }
+
+        @Override
+        public String describe() {
+            return "child";
+        }
+
+        private static String create(final int value) {
+            return "child" + value;
+        }
+    }
+
+    @Test
+    void fields() throws Exception {
+        final var table = MemberTable.of(Child.class);
+        assertAll(
+                () -> assertSame(table, MemberTable.of(Child.class)),
+                () -> assertEquals(Child.class.getDeclaredField("value"), table.field("value")),
+                () -> assertEquals(Parent.class.getDeclaredField("secret"), table.field("secret")),
+                () -> assertEquals(Parent.class.getDeclaredField("counter"), table.staticField("counter")),
+                () -> assertEquals(Named.class.getField("PREFIX"), table.staticField("PREFIX")),
+                () -> assertThrows(NoSuchFieldException.class, () -> table.field("counter")),
+                () -> assertThrows(NoSuchFieldException.class, () -> table.staticField("value"))
+        );
+    }
+
+    @Test
+    void methods() throws Exception {
+        final var table = MemberTable.of(Child.class);
+        assertAll(
+                () -> assertEquals(List.of(Child.class.getDeclaredMethod("describe")), table.methods("describe")),
+                () -> assertEquals(List.of(Child.class.getDeclaredMethod("secret"), Parent.class.getDeclaredMethod("secret")), table.methods("secret")),
+                () -> assertEquals(List.of(Named.class.getMethod("name")), table.methods("name")),
+                () -> assertEquals(Child.class.getDeclaredMethod("create", int.class), table.similarMethod("create", true, Integer.class)),
+                () -> assertEquals(Child.class.getDeclaredMethod("secret"), table.similarMethod("secret", false)),
+                () -> assertTrue(table.methods("missing").isEmpty()),
+                () -> assertThrows(NoSuchMethodException.class, () -> table.similarMethod("describe", true)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> table.methods("secret").clear())
+        );
+    }
+
+    @Test
+    void lookup() throws Exception {
+        final var method = Parent.class.getDeclaredMethod("secret");
+        final var lookup = MemberTable.lookup(method, MethodHandles.lookup());
+        assertAll(
+                () -> assertEquals(Parent.class, lookup.lookupClass()),
+                () -> assertEquals("parent", lookup.unreflect(method).invoke(new Child()))
+        );
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.github.elopteryx.reflect.tests.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.BeanMirror;
+import com.github.elopteryx.reflect.BeanMirrorException;
+import com.github.elopteryx.reflect.internal.Tiers;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+class TiersTest {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        private int intValue;
+
+        private long longValue;
+
+        private String stringValue = "a";
+    }
+
+    @Test
+    void createTiers() {
+        final var exception = assertThrows(BeanMirrorException.class,
+                () -> BeanMirror.of(Tiers.class, LOOKUP).create());
+        assertEquals(UnsupportedOperationException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    void getterIsUpgraded() {
+        final var target = new Target();
+        final var getter = BeanMirror.of(Target.class, LOOKUP).createGetter("stringValue", String.class);
+        for (var i = 1; i < Tiers.THRESHOLD; i++) {
+            assertEquals("a", getter.apply(target));
+        }
+        assertFalse(Tiers.isUpgraded(getter));
+        assertEquals("a", getter.apply(target));
+        assertTrue(Tiers.isUpgraded(getter));
+        target.stringValue = "b";
+        assertAll(
+                () -> assertEquals("b", getter.apply(target)),
+                () -> assertThrows(ClassCastException.class, () -> getter.apply(cast(new Object()))),
+                () -> assertThrows(NullPointerException.class, () -> getter.apply(null))
+        );
+    }
+
+    @Test
+    void setterIsUpgraded() {
+        final var target = new Target();
+        final var setter = BeanMirror.of(Target.class, LOOKUP).createSetter("intValue", int.class);
+        for (var i = 0; i < Tiers.THRESHOLD; i++) {
+            setter.accept(target, i);
+        }
+        assertTrue(Tiers.isUpgraded(setter));
+        setter.accept(target, 42);
+        assertAll(
+                () -> assertEquals(42, target.intValue),
+                () -> assertThrows(ClassCastException.class, () -> setter.accept(target, cast("42"))),
+                () -> assertThrows(NullPointerException.class, () -> setter.accept(target, null))
+        );
+    }
+
+    @Test
+    void upgradedClassesAreShared() {
+        final var target = new Target();
+        target.intValue = 7;
+        final var mirror = BeanMirror.of(Target.class, LOOKUP);
+        final var first = mirror.createGetter("intValue", int.class);
+        final var second = BeanMirror.of(target, LOOKUP).createGetter("intValue", int.class);
+        for (var i = 0; i < Tiers.THRESHOLD; i++) {
+            first.apply(target);
+            second.apply(target);
+        }
+        assertAll(
+                () -> assertTrue(Tiers.isUpgraded(first)),
+                () -> assertTrue(Tiers.isUpgraded(second)),
+                () -> assertEquals(Integer.valueOf(7), first.apply(target)),
+                () -> assertEquals(Integer.valueOf(7), second.apply(target))
+        );
+    }
+
+    @Test
+    void convertingSetterIsNotTiered() {
+        final var target = new Target();
+        final var setter = BeanMirror.of(Target.class, LOOKUP).createSetter("longValue", Integer.class);
+        for (var i = 0; i < Tiers.THRESHOLD; i++) {
+            setter.accept(target, i);
+        }
+        assertFalse(Tiers.isUpgraded(setter));
+        assertEquals(Tiers.THRESHOLD - 1, target.longValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object value) {
+        return (T) value;
+    }
+}
@@ -13,6 +13,8 @@ import com.github.elopteryx.reflect.internal.Utils;
 import org.junit.jupiter.api.Test;
 
 import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 class UtilsTest {
 
@@ -27,6 +29,22 @@ class UtilsTest {
 
     }
 
+    @SuppressWarnings("unused")
+    private static class Fields extends ParameterTypes {
+
+        private static int constant;
+
+        private int value;
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class ChildFields extends Fields {
+
+        private static int value;
+
+    }
+
     @Test
     void createUtils() {
         final var exception = assertThrows(BeanMirrorException.class,
@@ -57,6 +75,16 @@ class UtilsTest {
         );
     }
 
+    @Test
+    void useFindField() throws Exception {
+        assertAll(
+                () -> assertEquals(Fields.class.getDeclaredField("value"), Utils.findField(Fields.class, "value")),
+                () -> assertEquals(Fields.class.getDeclaredField("value"), Utils.findField(ChildFields.class, "value")),
+                () -> assertThrows(NoSuchFieldException.class, () -> Utils.findField(Fields.class, "constant")),
+                () -> assertThrows(NoSuchFieldException.class, () -> Utils.findField(Fields.class, "missing"))
+        );
+    }
+
     @Test
     void useWrapper() {
         assertAll(
@@ -73,4 +101,18 @@ class UtilsTest {
                 () -> assertEquals(Utils.wrapper(void.class), Void.class)
         );
     }
+
+    @Test
+    void useIsVisible() throws Exception {
+        final var loader = UtilsTest.class.getClassLoader();
+        try (var child = new URLClassLoader(new URL[0], loader); var isolated = new URLClassLoader(new URL[0], null)) {
+            assertAll(
+                    () -> assertTrue(Utils.isVisible(String.class, null)),
+                    () -> assertTrue(Utils.isVisible(UtilsTest.class, loader)),
+                    () -> assertTrue(Utils.isVisible(UtilsTest.class, child)),
+                    () -> assertFalse(Utils.isVisible(UtilsTest.class, isolated)),
+                    () -> assertFalse(Utils.isVisible(UtilsTest.class, null))
+            );
+        }
+    }
 }
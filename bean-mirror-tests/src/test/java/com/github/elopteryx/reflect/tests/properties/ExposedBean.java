@@ -0,0 +1,10 @@
+package com.github.elopteryx.reflect.tests.properties;
+
+@SuppressWarnings("unused")
+public class ExposedBean extends HiddenBase {
+
+    @Override
+    public Integer getSize() {
+        return 1;
+    }
+}
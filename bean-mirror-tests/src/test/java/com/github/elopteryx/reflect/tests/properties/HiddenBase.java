@@ -0,0 +1,19 @@
+package com.github.elopteryx.reflect.tests.properties;
+
+@SuppressWarnings("unused")
+class HiddenBase {
+
+    private int value;
+
+    public int getValue() {
+        return value;
+    }
+
+    public void setValue(final int value) {
+        this.value = value;
+    }
+
+    public Number getSize() {
+        return 0;
+    }
+}
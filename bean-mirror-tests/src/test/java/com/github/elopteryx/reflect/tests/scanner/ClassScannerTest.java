@@ -0,0 +1,129 @@
+package com.github.elopteryx.reflect.tests.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.elopteryx.reflect.scanner.ClassScanner;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+class ClassScannerTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Marker {
+        String[] value() default {};
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    private @interface Hidden {}
+
+    @Marker
+    private static class Visible {}
+
+    @Deprecated
+    @Marker({"first", "second"})
+    private static class WithValues {}
+
+    @Hidden
+    private static class Invisible {}
+
+    @SuppressWarnings("unused")
+    private static class MemberOnly {
+
+        @Marker
+        private String field;
+
+        @Marker
+        void method() {}
+    }
+
+    private static class Plain {}
+
+    private static final String PREFIX = ClassScannerTest.class.getName() + "$";
+
+    private static Path classes() throws Exception {
+        return Path.of(ClassScannerTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static List<Path> classFiles() throws Exception {
+        final var directory = classes().resolve(ClassScannerTest.class.getPackageName().replace('.', '/'));
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("ClassScannerTest")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static Path jar(final Path directory, final boolean stored) throws Exception {
+        final var jar = directory.resolve(stored ? "stored.jar" : "deflated.jar");
+        final var root = classes();
+        try (var stream = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (final var file : classFiles()) {
+                final var bytes = Files.readAllBytes(file);
+                final var entry = new JarEntry(root.relativize(file).toString().replace('\\', '/'));
+                if (stored) {
+                    final var crc = new CRC32();
+                    crc.update(bytes);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(bytes.length);
+                    entry.setCrc(crc.getValue());
+                }
+                stream.putNextEntry(entry);
+                stream.write(bytes);
+                stream.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @Test
+    void scanDirectory() throws Exception {
+        assertAll(
+                () -> assertEquals(List.of(PREFIX + "Visible", PREFIX + "WithValues"), ClassScanner.of(Marker.class).scan(classes())),
+                () -> assertEquals(List.of(PREFIX + "Invisible"), ClassScanner.of(Hidden.class).scan(classes())),
+                () -> assertEquals(List.of(PREFIX + "Invisible", PREFIX + "Visible", PREFIX + "WithValues"),
+                        ClassScanner.of(Marker.class, Hidden.class).pool(new ForkJoinPool(2)).scan(classes())),
+                () -> assertTrue(ClassScanner.of("com.example.Missing").scan(classes()).isEmpty())
+        );
+    }
+
+    @Test
+    void scanJar() throws Exception {
+        final var directory = Files.createTempDirectory("scanner");
+        final var stored = jar(directory, true);
+        final var deflated = jar(directory, false);
+        final var expected = List.of(PREFIX + "Visible", PREFIX + "WithValues");
+        assertAll(
+                () -> assertEquals(expected, ClassScanner.of(Marker.class).scan(stored)),
+                () -> assertEquals(expected, ClassScanner.of(Marker.class).scan(deflated)),
+                () -> assertEquals(List.of(PREFIX + "Visible", PREFIX + "Visible", PREFIX + "WithValues", PREFIX + "WithValues"),
+                        ClassScanner.of(Marker.class).scan(stored, deflated))
+        );
+    }
+
+    @Test
+    void failures() throws Exception {
+        final var directory = Files.createTempDirectory("scanner");
+        Files.write(directory.resolve("Broken.class"), new byte[] {(byte) 0xCA, (byte) 0xFE, 0, 0});
+        final var notJar = Files.write(directory.resolve("broken.jar"), new byte[64]);
+        assertAll(
+                () -> assertThrows(IOException.class, () -> ClassScanner.of(Marker.class).scan(directory)),
+                () -> assertThrows(IOException.class, () -> ClassScanner.of(Marker.class).scan(notJar)),
+                () -> assertThrows(IOException.class, () -> ClassScanner.of(Marker.class).scan(directory.resolve("missing.jar"))),
+                () -> assertThrows(IllegalArgumentException.class, () -> ClassScanner.of(new String[0]))
+        );
+    }
+
+}